@@ -0,0 +1,61 @@
+package com.example.eating.controller;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SseController.sendToJob: 한 job 구독자 N명에게 progress 이벤트 전송
+ * - 소켓 쓰기 대신 이벤트 빌드까지만 수행하는 emitter로 Spring 쪽 fan-out 비용만 측정
+ * - 구독자 등록(private register)은 setup 에서 리플렉션으로만 호출
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SseFanOutBenchmark {
+
+    private static final String JOB_ID = "bench-job";
+
+    @Param({"1", "10", "100", "1000"})
+    private int subscribers;
+
+    private SseController sseController;
+    private Map<String, Object> payload;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        sseController = new SseController(new SimpleMeterRegistry(), null, null, null);
+        Method register = SseController.class.getDeclaredMethod("register", String.class, SseEmitter.class);
+        register.setAccessible(true);
+        for (int i = 0; i < subscribers; i++) {
+            register.invoke(sseController, JOB_ID, new DiscardingEmitter());
+        }
+        payload = Map.of(
+                "status", "processing",
+                "progress", 55,
+                "step", "parsing",
+                "message", "🤖 GPT-4o로 레시피 분석 중...");
+    }
+
+    @Benchmark
+    public void sendToJob() {
+        sseController.sendToJob(JOB_ID, "progress", payload, "42");
+    }
+
+    static class DiscardingEmitter extends SseEmitter {
+
+        DiscardingEmitter() {
+            super(0L);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            builder.build();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.eating.domain.chat;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ChatSession 단계 완료 처리 / 진행률 계산
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChatSessionBenchmark {
+
+    @Param({"10", "50", "200"})
+    private int totalSteps;
+
+    private ChatSession completedSession;
+
+    @Setup
+    public void setUp() {
+        completedSession = newSession();
+        for (int step = 1; step <= totalSteps; step++) {
+            completedSession.markStepCompleted(step);
+        }
+    }
+
+    /**
+     * 새 세션에서 모든 단계를 순서대로 완료 (중복 체크 포함)
+     */
+    @Benchmark
+    public int markAllStepsCompleted() {
+        ChatSession session = newSession();
+        for (int step = 1; step <= totalSteps; step++) {
+            session.markStepCompleted(step);
+        }
+        return session.getCurrentStep();
+    }
+
+    /**
+     * 이미 완료한 단계를 다시 완료 (재시도 요청)
+     */
+    @Benchmark
+    public int markStepCompletedAgain() {
+        completedSession.markStepCompleted(totalSteps / 2);
+        return completedSession.getCompletedSteps().size();
+    }
+
+    @Benchmark
+    public int calculateProgress() {
+        return completedSession.calculateProgress();
+    }
+
+    private ChatSession newSession() {
+        return ChatSession.builder()
+                .sessionId("bench-session")
+                .userId(1L)
+                .recipeTitle("김치찌개")
+                .totalSteps(totalSteps)
+                .build();
+    }
+}
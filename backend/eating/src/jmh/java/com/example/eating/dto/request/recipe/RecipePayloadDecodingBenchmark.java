@@ -0,0 +1,43 @@
+package com.example.eating.dto.request.recipe;
+
+import com.example.eating.fixture.RecipeFixtures;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FastAPI /api/result 응답 → RecipeResultPayload 디코딩
+ * - WebClient 기본 코덱과 같은 설정의 ObjectMapper 사용 (unknown 필드 무시)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecipePayloadDecodingBenchmark {
+
+    @Param({"10", "50", "200"})
+    private int steps;
+
+    /**
+     * transcript segment 수 (결과 본문 크기 대부분을 차지)
+     */
+    @Param({"100", "1000"})
+    private int segments;
+
+    private ObjectMapper objectMapper;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        json = objectMapper.writeValueAsBytes(
+                RecipeFixtures.resultPayload(steps, steps * 2, steps / 2, segments));
+    }
+
+    @Benchmark
+    public RecipeResultPayload decode() throws IOException {
+        return objectMapper.readValue(json, RecipeResultPayload.class);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.eating.dto.response.recipe;
+
+import com.example.eating.domain.Recipe;
+import com.example.eating.fixture.RecipeFixtures;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RecipeResponse.from: 저장 직후 응답 변환 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecipeResponseMappingBenchmark {
+
+    @Param({"10", "50", "200"})
+    private int steps;
+
+    private Recipe recipe;
+
+    @Setup
+    public void setUp() {
+        recipe = RecipeFixtures.recipe(steps, steps * 2, steps / 2);
+    }
+
+    @Benchmark
+    public RecipeResponse from() {
+        return RecipeResponse.from(recipe);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.eating.fixture;
+
+import com.example.eating.domain.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 벤치마크용 레시피 데이터
+ * - 실제 FastAPI 결과와 비슷한 길이의 문자열로 단계/재료 수만 키워서 생성
+ */
+public final class RecipeFixtures {
+
+    private RecipeFixtures() {
+    }
+
+    public static Recipe recipe(int steps, int ingredients, int tips) {
+        User user = User.builder()
+                .email("bench@example.com")
+                .password("password")
+                .nickname("bench")
+                .build();
+
+        Recipe recipe = new Recipe(user);
+        recipe.setTitle("김치찌개");
+        recipe.setDescription("돼지고기와 묵은지로 끓이는 기본 김치찌개 ".repeat(5));
+        recipe.setServings("2인분");
+        recipe.setTotalTime("30분");
+        recipe.setDifficulty("쉬움");
+
+        for (int i = 1; i <= ingredients; i++) {
+            recipe.addIngredient(new Ingredient(recipe, "재료" + i, String.valueOf(i * 10), "g", "손질해서 준비"));
+        }
+        for (int i = 1; i <= steps; i++) {
+            recipe.addStep(new RecipeStep(
+                    i,
+                    "냄비에 재료를 넣고 중불에서 끓입니다. ".repeat(3),
+                    i * 12.5,
+                    "3분",
+                    "국물이 끓어오르면 거품을 걷어냅니다.",
+                    "불 조절에 주의하세요.",
+                    recipe));
+        }
+        for (int i = 1; i <= tips; i++) {
+            recipe.addTip("팁 " + i + ": 묵은지를 쓰면 더 깊은 맛이 납니다.");
+        }
+        recipe.setRecipeVideo(new RecipeVideo(recipe, "dQw4w9WgXcQ", "김치찌개 만들기", 600,
+                "https://www.youtube.com/watch?v=dQw4w9WgXcQ"));
+        return recipe;
+    }
+
+    /**
+     * FastAPI /api/result 응답과 같은 모양의 맵 (transcript/timing 포함)
+     */
+    public static Map<String, Object> resultPayload(int steps, int ingredients, int tips, int segments) {
+        List<Map<String, Object>> ingredientList = new ArrayList<>();
+        for (int i = 1; i <= ingredients; i++) {
+            ingredientList.add(Map.of("name", "재료" + i, "amount", String.valueOf(i * 10), "unit", "g",
+                    "note", "손질해서 준비"));
+        }
+
+        List<Map<String, Object>> stepList = new ArrayList<>();
+        for (int i = 1; i <= steps; i++) {
+            stepList.add(Map.of(
+                    "step_number", i,
+                    "instruction", "냄비에 재료를 넣고 중불에서 끓입니다. ".repeat(3),
+                    "timestamp", i * 12.5,
+                    "duration", "3분",
+                    "details", "국물이 끓어오르면 거품을 걷어냅니다.",
+                    "tips", "불 조절에 주의하세요."));
+        }
+
+        List<String> tipList = new ArrayList<>();
+        for (int i = 1; i <= tips; i++) {
+            tipList.add("팁 " + i + ": 묵은지를 쓰면 더 깊은 맛이 납니다.");
+        }
+
+        List<Map<String, Object>> segmentList = new ArrayList<>();
+        for (int i = 0; i < segments; i++) {
+            segmentList.add(Map.of("start", i * 2.0, "end", i * 2.0 + 2, "text", "이제 김치를 넣고 볶아줄게요"));
+        }
+
+        Map<String, Object> recipe = new LinkedHashMap<>();
+        recipe.put("title", "김치찌개");
+        recipe.put("description", "돼지고기와 묵은지로 끓이는 기본 김치찌개");
+        recipe.put("servings", "2인분");
+        recipe.put("total_time", "30분");
+        recipe.put("difficulty", "쉬움");
+        recipe.put("ingredients", ingredientList);
+        recipe.put("steps", stepList);
+        recipe.put("tips", tipList);
+
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("recipe", recipe);
+        payload.put("video_info", Map.of("video_id", "dQw4w9WgXcQ", "title", "김치찌개 만들기",
+                "duration", 600, "url", "https://www.youtube.com/watch?v=dQw4w9WgXcQ"));
+        payload.put("transcript", Map.of("full_text", "이제 김치를 넣고 볶아줄게요 ".repeat(segments),
+                "segments", segmentList, "language", "ko"));
+        payload.put("timing", Map.of("download", 12.3, "transcript", 45.6, "parsing", 20.1, "total", 78.0));
+        return payload;
+    }
+}
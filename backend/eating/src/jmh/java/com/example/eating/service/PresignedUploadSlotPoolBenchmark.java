@@ -0,0 +1,65 @@
+package com.example.eating.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.DirectFieldAccessor;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * presigned PUT URL 발급: 요청 시 SigV4 서명 vs 미리 서명한 슬롯 꺼내기
+ * - pooled 는 꺼낸 슬롯을 다시 넣는 비용까지 포함 (백그라운드 보충이 따라잡는 정상 상태)
+ * - 서명은 로컬 연산이라 네트워크 없이 측정 가능
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PresignedUploadSlotPoolBenchmark {
+
+    private static final String CONTENT_TYPE = "image/jpeg";
+
+    private S3Presigner s3Presigner;
+    private PresignedUploadSlotPool slotPool;
+
+    @Setup
+    public void setUp() {
+        s3Presigner = S3Presigner.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create("bench-access-key", "bench-secret-key")))
+                .build();
+
+        slotPool = new PresignedUploadSlotPool(s3Presigner, new SimpleMeterRegistry());
+        DirectFieldAccessor fields = new DirectFieldAccessor(slotPool);
+        fields.setPropertyValue("bucket", "bench-bucket");
+        fields.setPropertyValue("presignExpiryMinutes", 5L);
+        fields.setPropertyValue("enabled", true);
+        fields.setPropertyValue("contentTypes", CONTENT_TYPE);
+        fields.setPropertyValue("sizePerType", 64);
+        fields.setPropertyValue("slotExpiryMinutes", 15L);
+        slotPool.init();
+        slotPool.refill();
+    }
+
+    @TearDown
+    public void tearDown() {
+        s3Presigner.close();
+    }
+
+    @Benchmark
+    public PresignedUploadSlotPool.Slot onDemand() {
+        return slotPool.sign(CONTENT_TYPE, Duration.ofMinutes(5));
+    }
+
+    @Benchmark
+    public PresignedUploadSlotPool.Slot pooled() {
+        PresignedUploadSlotPool.Slot slot = slotPool.take(CONTENT_TYPE);
+        slotPool.offer(CONTENT_TYPE, slot);
+        return slot;
+    }
+}
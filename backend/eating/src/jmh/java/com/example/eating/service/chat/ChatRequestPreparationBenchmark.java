@@ -0,0 +1,70 @@
+package com.example.eating.service.chat;
+
+import com.example.eating.domain.chat.ChatSession;
+import com.example.eating.dto.request.chat.ChatRequest;
+import com.example.eating.dto.request.chat.StartSessionRequest;
+import com.example.eating.fixture.RecipeFixtures;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ChatService가 FastAPI 호출 전에 하는 일
+ * - startSession: recipe 맵 파싱 + 세션 생성 + FastAPI 요청 본문 직렬화
+ *   (ChatService.startSession 3️⃣~5️⃣ 단계와 같은 코드, 저장/호출 제외)
+ * - sendMessage: 요청 본문 직렬화
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChatRequestPreparationBenchmark {
+
+    @Param({"10", "50"})
+    private int steps;
+
+    private ObjectMapper objectMapper;
+    private Map<String, Object> recipe;
+    private ChatRequest chatRequest;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        // 클라이언트가 보낸 JSON을 역직렬화한 것과 같은 형태
+        Map<String, Object> payload = RecipeFixtures.resultPayload(steps, steps * 2, steps / 2, 0);
+        recipe = objectMapper.readValue(
+                objectMapper.writeValueAsBytes(payload.get("recipe")),
+                new TypeReference<Map<String, Object>>() {});
+
+        chatRequest = objectMapper.readValue("""
+                {"session_id": "bench-session", "step_number": 3,
+                 "message": "양파는 얼마나 볶아야 하나요?", "image_url": null}
+                """, ChatRequest.class);
+    }
+
+    @Benchmark
+    public byte[] prepareStartSession() throws IOException {
+        String recipeTitle = (String) recipe.getOrDefault("title", "요리");
+        List<?> steps = (List<?>) recipe.getOrDefault("steps", List.of());
+
+        ChatSession session = ChatSession.builder()
+                .sessionId("bench-session")
+                .userId(1L)
+                .recipeTitle(recipeTitle)
+                .totalSteps(steps.size())
+                .build();
+        return objectMapper.writeValueAsBytes(new StartSessionRequest(session.getSessionId(), recipe));
+    }
+
+    @Benchmark
+    public byte[] prepareMessage() throws IOException {
+        return objectMapper.writeValueAsBytes(chatRequest);
+    }
+}
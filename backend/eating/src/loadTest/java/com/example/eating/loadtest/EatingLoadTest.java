@@ -0,0 +1,279 @@
+package com.example.eating.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 오프라인 부하 테스트
+ * - 앱을 H2 + FakeFastApiServer 에 붙여 띄우고, 가상 사용자들이 analyze/SSE/result/chat 을 섞어서 호출
+ * - 결과: 작업별 처리량, p50/p99 (build/reports/loadtest/summary.txt)
+ *
+ * ./gradlew loadTest -Dloadtest.users=100 -Dloadtest.duration-seconds=120
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+class EatingLoadTest {
+
+    private static final FakeFastApiServer FAST_API = startFastApi();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    // HTTP 응답 처리 + SSE 스트림 읽기를 같이 쓰는 가상 스레드 (테스트 끝에 한 번 종료)
+    private final ExecutorService virtualThreads = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(virtualThreads)
+            .build();
+    private final LoadTestReport report = new LoadTestReport();
+
+    @LocalServerPort
+    private int port;
+
+    private String api;
+
+    @DynamicPropertySource
+    static void fastApiProperties(DynamicPropertyRegistry registry) {
+        registry.add("fast.base-url", FAST_API::baseUrl);
+    }
+
+    @AfterAll
+    static void stopFastApi() {
+        FAST_API.close();
+    }
+
+    @AfterEach
+    void stopVirtualThreads() {
+        virtualThreads.shutdownNow();
+    }
+
+    @Test
+    void mixedTraffic() throws Exception {
+        FAST_API.setSpringBaseUrl("http://127.0.0.1:" + port);
+        api = "http://127.0.0.1:" + port + "/api";
+
+        int users = Integer.getInteger("loadtest.users", 50);
+        long durationSeconds = Long.getLong("loadtest.duration-seconds", 60);
+        double maxErrorRate = Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01"));
+
+        List<String> emails = IntStream.range(0, users)
+                .mapToObj(i -> "load" + i + "@example.com")
+                .toList();
+        List<String> tokens = new ArrayList<>();
+        for (String email : emails) {
+            post("signup", "/user/signup", null,
+                    Map.of("email", email, "password", "password", "nickname", "load"));
+            JsonNode login = post("login", "/auth/login", null,
+                    Map.of("email", email, "password", "password"));
+            if (login != null) {
+                tokens.add(login.get("accessToken").asText());
+            }
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        try (ExecutorService virtualUsers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String token : tokens) {
+                virtualUsers.submit(() -> runUser(token, deadline));
+            }
+        }
+
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        String rendered = report.render(elapsedSeconds);
+        System.out.println(rendered);
+        report.write(Path.of(System.getProperty("loadtest.report", "build/reports/loadtest/summary.txt")), rendered);
+
+        assertThat(report.totalCount()).isPositive();
+        assertThat((double) report.totalErrors() / Math.max(1, report.totalCount() + report.totalErrors()))
+                .isLessThanOrEqualTo(maxErrorRate);
+    }
+
+    /**
+     * 가상 사용자 1명: 20% 레시피 추출, 60% 요리 채팅, 20% 작업 목록 조회
+     */
+    private void runUser(String token, long deadline) {
+        while (System.nanoTime() < deadline) {
+            double dice = ThreadLocalRandom.current().nextDouble();
+            try {
+                if (dice < 0.2) {
+                    analyzeFlow(token);
+                } else if (dice < 0.8) {
+                    chatFlow(token);
+                } else {
+                    get("jobs_list", "/recipes/jobs", token);
+                }
+            } catch (Exception e) {
+                report.error("flow");
+            }
+        }
+    }
+
+    private void analyzeFlow(String token) throws Exception {
+        long start = System.nanoTime();
+        JsonNode job = post("analyze", "/recipes/analyze", token,
+                Map.of("url", "https://www.youtube.com/watch?v=dQw4w9WgXcQ"));
+        if (job == null) {
+            return;
+        }
+        String jobId = job.get("jobId").asText();
+
+        boolean completed = awaitCompletionViaSse(jobId, token);
+        if (!completed) {
+            completed = pollUntilCompleted(token, jobId);
+        }
+        if (!completed) {
+            report.error("job_e2e");
+            return;
+        }
+        report.success("job_e2e", System.nanoTime() - start);
+
+        get("result", "/recipes/result/" + jobId, token);
+    }
+
+    /**
+     * SSE로 completed/failed 이벤트까지 대기 (구독 전에 끝난 작업은 false → 폴링으로 확인)
+     */
+    private boolean awaitCompletionViaSse(String jobId, String token) throws Exception {
+        long start = System.nanoTime();
+        HttpResponse<Stream<String>> response = client.send(
+                HttpRequest.newBuilder(URI.create(api + "/sse/jobs/" + jobId))
+                        .header("Accept", "text/event-stream")
+                        .header("Authorization", "Bearer " + token)
+                        .GET()
+                        .build(),
+                HttpResponse.BodyHandlers.ofLines());
+        if (response.statusCode() != 200) {
+            report.error("sse_subscribe");
+            return false;
+        }
+        report.success("sse_subscribe", System.nanoTime() - start);
+
+        CompletableFuture<Boolean> finished = CompletableFuture.supplyAsync(
+                () -> response.body().anyMatch(line -> line.startsWith("event:completed")
+                        || line.startsWith("event:failed")),
+                virtualThreads);
+        try {
+            return finished.get(Long.getLong("loadtest.job-timeout-seconds", 60), TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            return false;
+        } finally {
+            response.body().close();
+        }
+    }
+
+    private boolean pollUntilCompleted(String token, String jobId) throws InterruptedException {
+        for (int i = 0; i < 30; i++) {
+            JsonNode status = get("status", "/recipes/status/" + jobId, token);
+            if (status != null && "completed".equals(status.path("status").asText())) {
+                return true;
+            }
+            Thread.sleep(1000);
+        }
+        return false;
+    }
+
+    private void chatFlow(String token) {
+        Map<String, Object> recipe = Map.of(
+                "title", "김치찌개",
+                "steps", List.of(
+                        Map.of("step_number", 1, "instruction", "김치를 썬다"),
+                        Map.of("step_number", 2, "instruction", "돼지고기를 볶는다"),
+                        Map.of("step_number", 3, "instruction", "물을 붓고 끓인다"),
+                        Map.of("step_number", 4, "instruction", "두부를 넣는다"),
+                        Map.of("step_number", 5, "instruction", "간을 맞춘다")));
+
+        JsonNode session = post("chat_start", "/chat/start", token, Map.of("recipe", recipe));
+        if (session == null) {
+            return;
+        }
+        String sessionId = session.get("session_id").asText();
+
+        for (int i = 0; i < 3; i++) {
+            post("chat_message", "/chat/message", token, Map.of(
+                    "session_id", sessionId, "step_number", 1, "message", "불은 어느 정도로 하나요?"));
+        }
+        post("chat_complete", "/chat/session/" + sessionId + "/complete-step/1", token, Map.of());
+        get("chat_status", "/chat/session/" + sessionId, token);
+        send("chat_end", HttpRequest.newBuilder(URI.create(api + "/chat/session/" + sessionId))
+                .header("Authorization", "Bearer " + token)
+                .DELETE());
+    }
+
+    private JsonNode get(String operation, String path, String token) {
+        return send(operation, HttpRequest.newBuilder(URI.create(api + path))
+                .header("Authorization", "Bearer " + token)
+                .GET());
+    }
+
+    private JsonNode post(String operation, String path, String token, Object body) {
+        try {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(api + path))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+            if (token != null) {
+                builder.header("Authorization", "Bearer " + token);
+            }
+            return send(operation, builder);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private JsonNode send(String operation, HttpRequest.Builder request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = client.send(
+                    request.timeout(Duration.ofSeconds(30)).build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+
+            if (response.statusCode() == 429) {
+                report.throttled(operation);
+                return null;
+            }
+            if (response.statusCode() >= 400) {
+                report.error(operation);
+                return null;
+            }
+
+            report.success(operation, System.nanoTime() - start);
+            return response.body().length == 0 ? null : objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            report.error(operation);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private static FakeFastApiServer startFastApi() {
+        try {
+            return new FakeFastApiServer();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.example.eating.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * FastAPI 대역 서버 (JDK HttpServer)
+ * - /api/analyze: 작업 접수 후 progress 콜백을 Spring /api/internal/jobs/{jobId}/progress 로 연속 전송
+ * - /api/chat/message: 응답을 여러 chunk로 나눠 천천히 전송 (LLM 스트리밍 흉내)
+ * - 나머지 엔드포인트는 FastAPI와 같은 모양의 고정 응답
+ *
+ * 설정 (system property)
+ * - loadtest.fastapi.median-ms / sigma: 일반 응답 지연
+ * - loadtest.llm.median-ms / sigma: 채팅 응답 지연
+ * - loadtest.job.median-ms / sigma: 콜백 간격
+ * - loadtest.callbacks: 작업당 progress 콜백 수
+ */
+public class FakeFastApiServer implements AutoCloseable {
+
+    private static final Pattern STATUS = Pattern.compile("/api/status/([^/]+)");
+    private static final Pattern RESULT = Pattern.compile("/api/result/([^/]+)");
+    private static final Pattern COMPLETE_STEP = Pattern.compile("/api/chat/session/([^/]+)/complete-step/(\\d+)");
+    private static final Pattern HISTORY = Pattern.compile("/api/chat/session/([^/]+)/history");
+    private static final Pattern SESSION = Pattern.compile("/api/chat/session/([^/]+)");
+    private static final String[] STEPS = {"download", "stt", "parsing", "frames"};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient callbackClient = HttpClient.newHttpClient();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpServer server;
+
+    private final LatencyDistribution apiLatency =
+            LatencyDistribution.fromSystemProperties("loadtest.fastapi", 20, 0.5);
+    private final LatencyDistribution llmLatency =
+            LatencyDistribution.fromSystemProperties("loadtest.llm", 800, 0.6);
+    private final LatencyDistribution jobStepLatency =
+            LatencyDistribution.fromSystemProperties("loadtest.job", 200, 0.5);
+    private final int callbacksPerJob = Integer.getInteger("loadtest.callbacks", 20);
+
+    private final AtomicReference<String> springBaseUrl = new AtomicReference<>();
+
+    /**
+     * jobId -> status
+     */
+    private final Map<String, String> jobs = new ConcurrentHashMap<>();
+
+    public FakeFastApiServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 512);
+        server.setExecutor(executor);
+        server.createContext("/api", this::route);
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * 콜백 대상 (예: http://127.0.0.1:8080)
+     */
+    public void setSpringBaseUrl(String url) {
+        springBaseUrl.set(url);
+    }
+
+    private void route(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String method = exchange.getRequestMethod();
+        Matcher m;
+
+        try {
+            if (method.equals("POST") && path.equals("/api/analyze")) {
+                analyze(exchange);
+            } else if ((m = STATUS.matcher(path)).matches()) {
+                apiLatency.sleep();
+                String jobId = m.group(1);
+                String status = jobs.get(jobId);
+                if (status == null) {
+                    json(exchange, 404, Map.of("detail", "작업을 찾을 수 없습니다."));
+                } else {
+                    json(exchange, 200, Map.of("job_id", jobId, "status", status, "progress",
+                            "completed".equals(status) ? 100 : 50, "message", "처리 중"));
+                }
+            } else if ((m = RESULT.matcher(path)).matches()) {
+                apiLatency.sleep();
+                json(exchange, 200, result());
+            } else if (method.equals("POST") && path.equals("/api/chat/start")) {
+                apiLatency.sleep();
+                json(exchange, 200, Map.of("session_id", UUID.randomUUID().toString(),
+                        "message", "요리를 시작해볼까요?", "total_steps", 5));
+            } else if (method.equals("POST") && path.equals("/api/chat/message")) {
+                chatMessage(exchange);
+            } else if ((m = COMPLETE_STEP.matcher(path)).matches()) {
+                apiLatency.sleep();
+                int step = Integer.parseInt(m.group(2));
+                json(exchange, 200, Map.of("message", step + "단계 완료", "is_finished", step >= 5));
+            } else if ((m = HISTORY.matcher(path)).matches()) {
+                apiLatency.sleep();
+                json(exchange, 200, Map.of("session_id", m.group(1), "history", List.of()));
+            } else if (method.equals("DELETE") && SESSION.matcher(path).matches()) {
+                apiLatency.sleep();
+                json(exchange, 200, Map.of("message", "세션이 종료되었습니다."));
+            } else {
+                json(exchange, 404, Map.of("detail", "not found: " + path));
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void analyze(HttpExchange exchange) throws IOException {
+        Map<String, Object> body = objectMapper.readValue(exchange.getRequestBody(), Map.class);
+        String jobId = body.get("job_id") != null ? body.get("job_id").toString() : UUID.randomUUID().toString();
+        String traceparent = exchange.getRequestHeaders().getFirst("traceparent");
+
+        apiLatency.sleep();
+        jobs.put(jobId, "pending");
+        json(exchange, 200, Map.of("job_id", jobId, "message", "분석을 시작합니다."));
+
+        executor.execute(() -> runJob(jobId, traceparent));
+    }
+
+    /**
+     * 콜백 폭주: callbacksPerJob 만큼 progress를 보내고 마지막에 completed
+     */
+    private void runJob(String jobId, String traceparent) {
+        jobs.put(jobId, "processing");
+        for (int i = 1; i < callbacksPerJob; i++) {
+            jobStepLatency.sleep();
+            String step = STEPS[Math.min(STEPS.length - 1, i * STEPS.length / callbacksPerJob)];
+            postProgress(jobId, traceparent, "processing", i * 100 / callbacksPerJob, step, "처리 중...");
+        }
+        jobs.put(jobId, "completed");
+        postProgress(jobId, traceparent, "completed", 100, "done", "🎉 레시피 추출 완료!");
+    }
+
+    private void postProgress(String jobId, String traceparent, String status, int progress, String step,
+                              String message) {
+        try {
+            HttpRequest.Builder request = HttpRequest.newBuilder(
+                            URI.create(springBaseUrl.get() + "/api/internal/jobs/" + jobId + "/progress"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(Map.of(
+                            "status", status, "progress", progress, "step", step, "message", message))));
+            if (traceparent != null) {
+                request.header("traceparent", traceparent);
+            }
+            callbackClient.send(request.build(), HttpResponse.BodyHandlers.discarding());
+        } catch (IOException e) {
+            // FastAPI도 콜백 실패는 무시하고 진행
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 응답 본문을 chunk로 나눠 전송 (Transfer-Encoding: chunked)
+     */
+    private void chatMessage(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        long total = llmLatency.sampleMs();
+
+        byte[] body = objectMapper.writeValueAsBytes(Map.of(
+                "reply", "양파가 갈색이 될 때까지 중불에서 5분 정도 볶아주세요. ".repeat(8),
+                "step_info", Map.of("step_number", 3, "instruction", "양파를 볶습니다."),
+                "session_status", Map.of("current_step", 3, "total_steps", 5)));
+
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, 0);
+
+        int chunks = 8;
+        int chunkSize = (body.length + chunks - 1) / chunks;
+        try (OutputStream out = exchange.getResponseBody()) {
+            for (int offset = 0; offset < body.length; offset += chunkSize) {
+                Thread.sleep(total / chunks);
+                out.write(body, offset, Math.min(chunkSize, body.length - offset));
+                out.flush();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Map<String, Object> result() {
+        List<Map<String, Object>> steps = new java.util.ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            steps.add(Map.of("step_number", i, "instruction", i + "단계 조리", "timestamp", i * 30.0,
+                    "duration", "3분", "tips", "불 조절에 주의"));
+        }
+        return Map.of(
+                "recipe", Map.of(
+                        "title", "김치찌개",
+                        "description", "기본 김치찌개",
+                        "servings", "2인분",
+                        "total_time", "30분",
+                        "difficulty", "쉬움",
+                        "ingredients", List.of(
+                                Map.of("name", "김치", "amount", "300", "unit", "g"),
+                                Map.of("name", "돼지고기", "amount", "200", "unit", "g")),
+                        "steps", steps,
+                        "tips", List.of("묵은지를 쓰면 더 맛있습니다.")),
+                "video_info", Map.of("video_id", "dQw4w9WgXcQ", "title", "김치찌개", "duration", 600,
+                        "url", "https://www.youtube.com/watch?v=dQw4w9WgXcQ"),
+                "transcript", Map.of("full_text", "김치찌개를 만들어 볼게요"),
+                "timing", Map.of("total", 60.0));
+    }
+
+    private void json(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
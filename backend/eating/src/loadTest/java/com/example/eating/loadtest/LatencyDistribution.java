@@ -0,0 +1,29 @@
+package com.example.eating.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * FastAPI 응답 지연 분포 (log-normal)
+ * - LLM/STT 응답처럼 중앙값 근처에 몰리고 긴 꼬리를 갖는 지연을 흉내냄
+ */
+public record LatencyDistribution(long medianMs, double sigma) {
+
+    public static LatencyDistribution fromSystemProperties(String prefix, long defaultMedianMs, double defaultSigma) {
+        return new LatencyDistribution(
+                Long.getLong(prefix + ".median-ms", defaultMedianMs),
+                Double.parseDouble(System.getProperty(prefix + ".sigma", String.valueOf(defaultSigma))));
+    }
+
+    public long sampleMs() {
+        double gaussian = ThreadLocalRandom.current().nextGaussian();
+        return Math.max(0, Math.round(medianMs * Math.exp(sigma * gaussian)));
+    }
+
+    public void sleep() {
+        try {
+            Thread.sleep(sampleMs());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.eating.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 작업 종류별 지연/처리량 집계
+ */
+public class LoadTestReport {
+
+    private final Map<String, Operation> operations = new ConcurrentHashMap<>();
+
+    public void success(String operation, long nanos) {
+        op(operation).latencies.add(nanos);
+    }
+
+    public void throttled(String operation) {
+        op(operation).throttled.increment();
+    }
+
+    public void error(String operation) {
+        op(operation).errors.increment();
+    }
+
+    public long totalCount() {
+        return operations.values().stream().mapToLong(o -> o.latencies.size()).sum();
+    }
+
+    public long totalErrors() {
+        return operations.values().stream().mapToLong(o -> o.errors.sum()).sum();
+    }
+
+    public String render(double elapsedSeconds) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-16s %8s %8s %8s %10s %10s %10s %10s%n",
+                "operation", "ok", "429", "error", "ops/s", "p50(ms)", "p99(ms)", "max(ms)"));
+
+        List<String> names = new ArrayList<>(operations.keySet());
+        names.sort(String::compareTo);
+        for (String name : names) {
+            Operation op = operations.get(name);
+            long[] sorted = op.latencies.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            sb.append(String.format("%-16s %8d %8d %8d %10.1f %10.1f %10.1f %10.1f%n",
+                    name,
+                    sorted.length,
+                    op.throttled.sum(),
+                    op.errors.sum(),
+                    sorted.length / elapsedSeconds,
+                    percentileMs(sorted, 0.50),
+                    percentileMs(sorted, 0.99),
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0));
+        }
+        return sb.toString();
+    }
+
+    public void write(Path file, String rendered) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, rendered);
+    }
+
+    private static double percentileMs(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private Operation op(String name) {
+        return operations.computeIfAbsent(name, k -> new Operation());
+    }
+
+    private static class Operation {
+        final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        final LongAdder throttled = new LongAdder();
+        final LongAdder errors = new LongAdder();
+    }
+}
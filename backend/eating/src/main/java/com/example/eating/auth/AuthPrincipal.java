@@ -0,0 +1,10 @@
+package com.example.eating.auth;
+
+/**
+ * 토큰으로 확인된 요청 사용자 (요청 속성에 보관, 컨트롤러 파라미터로 주입)
+ * - email 은 FastAPI 헤더, 사용자별 메모리 키(대기열/레이트리밋) 용
+ */
+public record AuthPrincipal(Long userId, String email) {
+
+    public static final String REQUEST_ATTRIBUTE = AuthPrincipal.class.getName();
+}
@@ -0,0 +1,60 @@
+package com.example.eating.auth;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Authorization: Bearer 토큰을 요청당 한 번 검증해 AuthPrincipal 을 요청 속성에 둠
+ * - 토큰이 없거나 잘못돼도 여기서 막지 않음 (필요한 API 에서 AuthPrincipal 파라미터가 401)
+ * - SSE 구독(GET /sse/**)만 access_token 쿼리 파라미터도 받음 (브라우저 EventSource 는 헤더를 붙일 수 없음)
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthTokenFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private static final String SSE_PATH_PREFIX = "/sse/";
+
+    private static final String TOKEN_PARAMETER = "access_token";
+
+    private final AuthTokenSigner authTokenSigner;
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        String token = bearerToken(request);
+
+        if (token != null) {
+            authTokenSigner.verify(token)
+                    .ifPresent(principal -> request.setAttribute(AuthPrincipal.REQUEST_ATTRIBUTE, principal));
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private static String bearerToken(HttpServletRequest request) {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization != null && authorization.startsWith(BEARER_PREFIX)) {
+            return authorization.substring(BEARER_PREFIX.length()).trim();
+        }
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if ("GET".equals(request.getMethod()) && path.startsWith(SSE_PATH_PREFIX)) {
+            String token = request.getParameter(TOKEN_PARAMETER);
+            return token == null || token.isBlank() ? null : token.trim();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.eating.auth;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서명 토큰 발급/검증
+ * - 형식: base64url("userId:만료epoch초:email") + "." + base64url(HMAC-SHA256)
+ * - 검증에 성공한 토큰은 만료 시각까지 캐시 → 같은 토큰은 요청마다 HMAC 을 다시 계산하지 않음
+ */
+@Component
+public class AuthTokenSigner {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    /**
+     * HMAC-SHA256 출력 길이와 같게
+     */
+    private static final int MIN_SECRET_BYTES = 32;
+
+    @Value("${auth.token.secret:}")
+    private String secret;
+
+    @Value("${auth.token.ttl-hours:24}")
+    private long ttlHours;
+
+    @Value("${auth.token.cache-max-entries:100000}")
+    private int cacheMaxEntries;
+
+    private SecretKeySpec key;
+
+    private record Verified(AuthPrincipal principal, long expiresAtEpochSecond) {
+    }
+
+    /**
+     * token -> 검증 결과
+     */
+    private final Map<String, Verified> verifiedTokens = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        // 비어 있거나 짧은 키로 뜨면 인스턴스마다 토큰이 달라지거나 쉽게 위조됨 → 기동 실패
+        byte[] keyBytes = secret == null ? new byte[0] : secret.getBytes(StandardCharsets.UTF_8);
+        if (keyBytes.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException(
+                    "auth.token.secret(AUTH_TOKEN_SECRET) 은 " + MIN_SECRET_BYTES + "바이트 이상이어야 합니다.");
+        }
+        key = new SecretKeySpec(keyBytes, "HmacSHA256");
+    }
+
+    public String issue(Long userId, String email) {
+        long expiresAt = Instant.now().plus(Duration.ofHours(ttlHours)).getEpochSecond();
+        byte[] payload = (userId + ":" + expiresAt + ":" + email).getBytes(StandardCharsets.UTF_8);
+
+        return ENCODER.encodeToString(payload) + "." + ENCODER.encodeToString(sign(payload));
+    }
+
+    public Optional<AuthPrincipal> verify(String token) {
+        long now = Instant.now().getEpochSecond();
+
+        Verified cached = verifiedTokens.get(token);
+        if (cached != null) {
+            if (cached.expiresAtEpochSecond() > now) {
+                return Optional.of(cached.principal());
+            }
+            verifiedTokens.remove(token);
+            return Optional.empty();
+        }
+
+        Verified verified = parse(token);
+        if (verified == null || verified.expiresAtEpochSecond() <= now) {
+            return Optional.empty();
+        }
+
+        if (verifiedTokens.size() < cacheMaxEntries) {
+            verifiedTokens.put(token, verified);
+        }
+        return Optional.of(verified.principal());
+    }
+
+    @Scheduled(fixedDelayString = "${auth.token.cache-evict-interval-ms:60000}")
+    public void evictExpired() {
+        long now = Instant.now().getEpochSecond();
+        verifiedTokens.values().removeIf(verified -> verified.expiresAtEpochSecond() <= now);
+    }
+
+    private Verified parse(String token) {
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot == token.length() - 1) {
+            return null;
+        }
+
+        try {
+            byte[] payload = DECODER.decode(token.substring(0, dot));
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(sign(payload), signature)) {
+                return null;
+            }
+
+            String[] parts = new String(payload, StandardCharsets.UTF_8).split(":", 3);
+            if (parts.length != 3) {
+                return null;
+            }
+            return new Verified(
+                    new AuthPrincipal(Long.parseLong(parts[0]), parts[2]),
+                    Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private byte[] sign(byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(key);
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
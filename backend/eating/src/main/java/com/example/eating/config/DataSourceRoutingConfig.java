@@ -0,0 +1,97 @@
+package com.example.eating.config;
+
+import com.example.eating.datasource.DataSourceRole;
+import com.example.eating.datasource.ReadYourWritesTracker;
+import com.example.eating.datasource.ReplicaLagMonitor;
+import com.example.eating.datasource.ReplicationRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * primary / replica 라우팅 (datasource.replica.url 이 있을 때만)
+ * - 없으면 Spring Boot 기본 단일 DataSource 그대로
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "url")
+public class DataSourceRoutingConfig {
+
+    @Value("${datasource.replica.read-your-writes-ms:2000}")
+    private long readYourWritesMs;
+
+    @Value("${datasource.replica.max-lag-ms:5000}")
+    private long maxLagMs;
+
+    @Value("${datasource.replica.lag-query:}")
+    private String lagQuery;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties properties,
+            @Value("${datasource.replica.url}") String url,
+            @Value("${datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${datasource.replica.password:${spring.datasource.password:}}") String password
+    ) {
+        HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName("eating-hikari-replica");
+        replica.setDriverClassName(properties.determineDriverClassName());
+        replica.setJdbcUrl(url);
+        replica.setUsername(username);
+        replica.setPassword(password);
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(HikariDataSource replicaDataSource) {
+        return new ReplicaLagMonitor(
+                new JdbcTemplate(replicaDataSource), lagQuery, Duration.ofMillis(maxLagMs));
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReplicaLagMonitor replicaLagMonitor) {
+        return new ReadYourWritesTracker(Duration.ofMillis(readYourWritesMs), replicaLagMonitor);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            HikariDataSource primaryDataSource,
+            HikariDataSource replicaDataSource,
+            ReadYourWritesTracker readYourWritesTracker,
+            ReplicaLagMonitor replicaLagMonitor
+    ) {
+        ReplicationRoutingDataSource routing =
+                new ReplicationRoutingDataSource(readYourWritesTracker, replicaLagMonitor);
+        routing.setTargetDataSources(Map.of(
+                DataSourceRole.PRIMARY, primaryDataSource,
+                DataSourceRole.REPLICA, replicaDataSource
+        ));
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        routing.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
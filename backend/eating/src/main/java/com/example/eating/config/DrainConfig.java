@@ -0,0 +1,21 @@
+package com.example.eating.config;
+
+import com.example.eating.shutdown.ChatDrainInterceptor;
+import com.example.eating.shutdown.DrainState;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class DrainConfig implements WebMvcConfigurer {
+
+    private final DrainState drainState;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ChatDrainInterceptor(drainState))
+                .addPathPatterns("/chat/**");
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.eating.config;
+
+import com.example.eating.sql.RepositoryCallTracker;
+import com.example.eating.sql.RepositoryInspectionPostProcessor;
+import com.example.eating.sql.SqlInspectProperties;
+import com.example.eating.sql.SqlStatementInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+@EnableConfigurationProperties(SqlInspectProperties.class)
+public class JpaLoggingConfig {
+
+    @Value("${sql-log.sample-rate:0.0}")
+    private double sampleRate;
+
+    @Value("${sql-log.slow-threshold-ms:200}")
+    private long slowThresholdMs;
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlLoggingCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementInspector(sampleRate));
+            properties.put(AvailableSettings.LOG_SLOW_QUERY, slowThresholdMs);
+        };
+    }
+
+    /**
+     * BeanPostProcessor 라 static + Environment 로 직접 읽음 (다른 빈보다 먼저 생성됨)
+     */
+    @Bean
+    public static RepositoryInspectionPostProcessor repositoryInspectionPostProcessor(Environment environment) {
+        long slowThresholdMs = environment.getProperty("sql-log.slow-threshold-ms", Long.class, 200L);
+        return new RepositoryInspectionPostProcessor(new RepositoryCallTracker(slowThresholdMs));
+    }
+}
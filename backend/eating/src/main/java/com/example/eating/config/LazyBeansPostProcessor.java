@@ -0,0 +1,43 @@
+package com.example.eating.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * startup.lazy-beans 에 적힌 빈만 지연 초기화
+ * - 전역 lazy-initialization 은 첫 요청 지연과 설정 오류 발견이 늦어져 쓰지 않음
+ * - 이 빈들에 의존하는 빈도 함께 지연 대상이어야 효과가 있음
+ * - AOT 빌드에서는 processAot 시점에 반영되어 생성 코드에 포함
+ */
+@Slf4j
+@Component
+public class LazyBeansPostProcessor implements BeanFactoryPostProcessor, EnvironmentAware {
+
+    private Environment environment;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        String[] beanNames = environment.getProperty("startup.lazy-beans", String[].class, new String[0]);
+
+        for (String beanName : beanNames) {
+            String name = beanName.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!beanFactory.containsBeanDefinition(name)) {
+                log.warn("event=lazy_bean_not_found bean={}", name);
+                continue;
+            }
+            beanFactory.getBeanDefinition(name).setLazyInit(true);
+        }
+    }
+}
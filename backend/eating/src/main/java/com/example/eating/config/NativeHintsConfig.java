@@ -0,0 +1,138 @@
+package com.example.eating.config;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.util.ClassUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+
+/**
+ * GraalVM native-image 용 런타임 힌트 (./gradlew nativeCompile -Pnative)
+ * - 컨트롤러 요청/응답 타입, 리포지토리, 엔티티 managed types 는 Spring AOT 가 등록하므로
+ *   그 밖에서 리플렉션/리소스로 접근하는 것만 여기서 보충
+ * - JVM 실행에는 영향 없음 (힌트는 processAot 시점에만 쓰임)
+ */
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(NativeHintsConfig.EatingRuntimeHints.class)
+public class NativeHintsConfig {
+
+    static class EatingRuntimeHints implements RuntimeHintsRegistrar {
+
+        private static final String BASE_PACKAGE = "com.example.eating";
+
+        /**
+         * AWS SDK 가 클래스패스에서 읽어 리플렉션으로 생성하는 인터셉터 목록
+         */
+        private static final List<String> AWS_INTERCEPTOR_RESOURCES = List.of(
+                "software/amazon/awssdk/global/handlers/execution.interceptors",
+                "software/amazon/awssdk/services/s3/execution.interceptors"
+        );
+
+        /**
+         * ServiceLoader 로 찾는 HTTP 클라이언트 구현 (S3Client 동기 호출)
+         */
+        private static final List<String> AWS_HTTP_SERVICES = List.of(
+                "software.amazon.awssdk.http.apache.ApacheSdkHttpService",
+                "software.amazon.awssdk.http.urlconnection.UrlConnectionSdkHttpService",
+                "software.amazon.awssdk.http.nio.netty.NettySdkAsyncHttpService"
+        );
+
+        private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // JSON DTO (Lombok getter/setter/생성자 포함): WebClient bodyToMono, 아웃박스 직렬화 등 컨트롤러 밖 경로
+            bindingRegistrar.registerReflectionHints(hints.reflection(),
+                    scan(classLoader, BASE_PACKAGE + ".dto").toArray(Class<?>[]::new));
+
+            // JPA 엔티티/enum: 빌드 시 바이트코드 강화 후에도 Hibernate 가 필드/생성자에 리플렉션으로 접근
+            for (Class<?> type : scan(classLoader, BASE_PACKAGE + ".domain")) {
+                hints.reflection().registerType(type,
+                        MemberCategory.DECLARED_FIELDS,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_DECLARED_METHODS);
+            }
+
+            registerAwsSdkHints(hints, classLoader);
+
+            // @EventListener condition 의 SpEL (@environment.getProperty(..)) 은 실제 Environment 타입을 리플렉션으로 호출
+            hints.reflection().registerType(
+                    TypeReference.of("org.springframework.boot.web.servlet.context.ApplicationServletEnvironment"),
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+
+        private void registerAwsSdkHints(RuntimeHints hints, ClassLoader classLoader) {
+            hints.resources().registerPattern("software/amazon/awssdk/global/partitions.json");
+
+            for (String resource : AWS_INTERCEPTOR_RESOURCES) {
+                hints.resources().registerPattern(resource);
+                for (String className : readClassNames(classLoader, resource)) {
+                    hints.reflection().registerType(TypeReference.of(className),
+                            MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+                }
+            }
+
+            for (String className : AWS_HTTP_SERVICES) {
+                if (ClassUtils.isPresent(className, classLoader)) {
+                    hints.reflection().registerType(TypeReference.of(className),
+                            MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+                }
+            }
+        }
+
+        /**
+         * 패키지 아래 모든 최상위/정적 중첩 타입 (record, enum 포함)
+         */
+        private List<Class<?>> scan(ClassLoader classLoader, String basePackage) {
+            ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+                @Override
+                protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                    return beanDefinition.getMetadata().isIndependent();
+                }
+            };
+            scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+            scanner.addIncludeFilter((reader, factory) -> true);
+
+            return scanner.findCandidateComponents(basePackage).stream()
+                    .map(BeanDefinition::getBeanClassName)
+                    .<Class<?>>map(name -> ClassUtils.resolveClassName(name, classLoader))
+                    .toList();
+        }
+
+        private List<String> readClassNames(ClassLoader classLoader, String resource) {
+            try {
+                Enumeration<URL> urls = classLoader.getResources(resource);
+                List<String> classNames = new ArrayList<>();
+                while (urls.hasMoreElements()) {
+                    try (BufferedReader reader = new BufferedReader(
+                            new InputStreamReader(urls.nextElement().openStream(), StandardCharsets.UTF_8))) {
+                        reader.lines()
+                                .map(String::trim)
+                                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                                .forEach(classNames::add);
+                    }
+                }
+                return classNames;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -7,8 +7,11 @@ import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
+import java.net.URI;
+
 @Configuration
 public class S3Config {
 
@@ -21,20 +24,45 @@ public class S3Config {
     @Value("${aws.region}")
     private String region;
 
+    /**
+     * S3 호환 로컬 서버(MinIO 등) 주소, 비어 있으면 AWS
+     */
+    @Value("${aws.s3.endpoint:}")
+    private String endpoint;
+
     @Bean
     public S3Client s3Client()  {
         AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
 
-        return S3Client.builder()
+        var builder = S3Client.builder()
                 .region(Region.of(region))
-                .credentialsProvider(StaticCredentialsProvider.create(credentials)).build();
+                .credentialsProvider(StaticCredentialsProvider.create(credentials));
+
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint))
+                    .serviceConfiguration(pathStyle());
+        }
+        return builder.build();
     }
 
     @Bean
     public S3Presigner s3Presigner() {
         AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
-        return S3Presigner.builder()
+
+        var builder = S3Presigner.builder()
                 .region(Region.of(region))
-                .credentialsProvider(StaticCredentialsProvider.create(credentials)).build();
+                .credentialsProvider(StaticCredentialsProvider.create(credentials));
+
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint))
+                    .serviceConfiguration(pathStyle());
+        }
+        return builder.build();
+    }
+
+    private S3Configuration pathStyle() {
+        return S3Configuration.builder()
+                .pathStyleAccessEnabled(true)
+                .build();
     }
 }
@@ -1,9 +1,15 @@
 package com.example.eating.config;
 
+import com.example.eating.metrics.FastApiTimeoutFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+
+import java.time.Duration;
 
 @Configuration
 public class WebClientConfig {
@@ -11,10 +17,25 @@ public class WebClientConfig {
     @Value("${fast.base-url}")
     private String baseUrl;
 
+    /**
+     * 응답 대기 상한 (block() 으로 기다리는 호출이 FastAPI 가 멈춰도 풀려나도록)
+     */
+    @Value("${fast.response-timeout-seconds:120}")
+    private long responseTimeoutSeconds;
+
+    /**
+     * Boot 가 준비한 builder 사용 → FastAPI 호출도 http.client.requests 로 계측되고 traceparent 가 붙음
+     * (작업 span 아래로 묶으려면 호출부에서 JobTraceRecorder.observationContext 를 contextWrite)
+     */
     @Bean
-    public WebClient fastApiClient() {
-        return WebClient.builder()
+    public WebClient fastApiClient(WebClient.Builder builder, MeterRegistry meterRegistry) {
+        HttpClient httpClient = HttpClient.create()
+                .responseTimeout(Duration.ofSeconds(responseTimeoutSeconds));
+
+        return builder
                 .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(new FastApiTimeoutFilter(meterRegistry))
                 .build();
     }
-}
\ No newline at end of file
+}
@@ -10,6 +10,7 @@ import com.example.eating.dto.request.auth.LoginDto;
 import com.example.eating.dto.response.auth.LoginResponse;
 import com.example.eating.service.AuthService;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -22,10 +23,10 @@ public class AuthController {
     private final AuthService authService;
 
     @PostMapping("/login")
-    public ResponseEntity<LoginResponse> login(@RequestBody LoginDto dto) {
+    public ResponseEntity<LoginResponse> login(@RequestBody LoginDto dto, HttpServletRequest request) {
         log.info("event=http_in method=POST path=/api/auth/login email={}", dto.getEmail());
 
-        LoginResponse response = authService.login(dto);
+        LoginResponse response = authService.login(dto, request.getRemoteAddr());
 
         log.info("event=login_success method=POST path=/api/auth/login login_success={}", response.isLoginSuccess());
         return ResponseEntity.ok().body(response);
@@ -1,7 +1,8 @@
 package com.example.eating.controller;
 
-import java.util.Map;
+import java.time.Instant;
 
+import org.slf4j.MDC;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -10,6 +11,11 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.eating.dto.request.sse.JobProgressRequest;
+import com.example.eating.service.job.RecipeJobAdmission;
+import com.example.eating.service.job.RecipeJobRegistry;
+import com.example.eating.service.job.RecipeJobStateCache;
+import com.example.eating.tracing.JobTrace;
+import com.example.eating.tracing.JobTraceRecorder;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,36 +25,52 @@ import lombok.extern.slf4j.Slf4j;
 @RequestMapping("/internal/jobs")
 @RequiredArgsConstructor
 public class InternalJobProgressController {
-    private final SseController sseController;
+    private final RecipeJobStateCache jobStateCache;
+    private final RecipeJobRegistry recipeJobRegistry;
+    private final RecipeJobAdmission recipeJobAdmission;
+    private final JobTraceRecorder jobTraceRecorder;
 
+    /**
+     * FastAPI 가 돌려준 traceparent 는 Boot 의 서버 계측이 꺼내 이 요청 span 의 parent 로 씀
+     * → JobTraceRecorder 가 같은 trace 인 이 요청 아래에 stage span 을 엶
+     */
     @PostMapping("/{jobId}/progress")
     public ResponseEntity<Void> onProgress(
-            @PathVariable String jobId, @RequestBody JobProgressRequest request) {
-        log.info(
-                "event=job_progress_recevied method=POST path=/internal/jobs/{jobId}/progress jobId={} status={} progress={} step={}",
-                jobId,
-                request.getStatus(),
-                request.getProgress(),
-                request.getStep());
+            @PathVariable String jobId,
+            @RequestBody JobProgressRequest request) {
+        jobTraceRecorder.onProgress(jobId, request.getStep(), request.getStatus(), Instant.now());
+        jobTraceRecorder.find(jobId).map(JobTrace::getTraceId).ifPresent(traceId -> MDC.put("traceId", traceId));
 
-        sseController.sendToJob(jobId, "progress", request);
-
-        if ("completed".equalsIgnoreCase(request.getStatus())) {
+        try {
             log.info(
-                    "event=job_progress_completed jobId={} status={} progress={} step={}",
+                    "event=job_progress_recevied method=POST path=/internal/jobs/{jobId}/progress jobId={} status={} progress={} step={} traceId={}",
                     jobId,
                     request.getStatus(),
                     request.getProgress(),
-                    request.getStep());
-            sseController.sendToJob(jobId, "completed", request);
-            sseController.completeJob(jobId);
-        } else if ("failed".equalsIgnoreCase(request.getStatus())) {
-            log.warn("event=job_failed_received jobId={} progress={} step={} message={}",
-                    jobId, request.getProgress(), request.getStep(), request.getMessage());
-            sseController.sendToJob(jobId, "failed", request);
-            sseController.completeJob(jobId);
-        }
+                    request.getStep(),
+                    MDC.get("traceId"));
+
+            jobStateCache.update(jobId, request);
+            // SSE 전달은 같은 트랜잭션에 기록된 아웃박스 이벤트로 OutboxRelay 가 수행
+            recipeJobRegistry.applyProgress(jobId, request);
 
-        return ResponseEntity.ok().build();
+            if ("completed".equalsIgnoreCase(request.getStatus())) {
+                log.info(
+                        "event=job_progress_completed jobId={} status={} progress={} step={}",
+                        jobId,
+                        request.getStatus(),
+                        request.getProgress(),
+                        request.getStep());
+                recipeJobAdmission.release(jobId);
+            } else if ("failed".equalsIgnoreCase(request.getStatus())) {
+                log.warn("event=job_failed_received jobId={} progress={} step={} message={}",
+                        jobId, request.getProgress(), request.getStep(), request.getMessage());
+                recipeJobAdmission.release(jobId);
+            }
+
+            return ResponseEntity.ok().build();
+        } finally {
+            MDC.remove("traceId");
+        }
     }
 }
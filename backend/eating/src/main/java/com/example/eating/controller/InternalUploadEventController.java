@@ -0,0 +1,93 @@
+package com.example.eating.controller;
+
+import com.example.eating.dto.request.s3.S3EventNotification;
+import com.example.eating.service.upload.UploadEventProcessor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * S3 객체 생성 알림 수신
+ * - 운영: S3 이벤트를 전달하는 람다/EventBridge 대상, 로컬: MinIO webhook 알림 대상
+ * - recipes/ 아래 ObjectCreated 만 pending_upload_event 에 기록 후 처리 큐로 보냄
+ *   (기록하지 못하면 503 → 보낸 쪽이 같은 알림을 다시 보냄)
+ * - 보내는 쪽은 Authorization: Bearer {upload.events.secret} 를 붙여야 함 (MinIO webhook 의 auth_token)
+ *   비밀값이 설정되지 않았으면 모든 요청을 거부
+ */
+@Slf4j
+@RestController
+@RequestMapping("/internal/uploads")
+@RequiredArgsConstructor
+public class InternalUploadEventController {
+
+    private static final String KEY_PREFIX = "recipes/";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final UploadEventProcessor uploadEventProcessor;
+
+    @Value("${aws.s3.bucket}")
+    private String bucket;
+
+    @Value("${upload.events.secret:}")
+    private String secret;
+
+    @PostMapping("/events")
+    public ResponseEntity<Void> onEvents(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @RequestBody S3EventNotification notification) {
+        if (!isTrustedSender(authorization)) {
+            log.warn("event=upload_event_unauthorized method=POST path=/internal/uploads/events");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        if (notification.getRecords() == null) {
+            return ResponseEntity.ok().build();
+        }
+
+        for (S3EventNotification.Record record : notification.getRecords()) {
+            if (record.getEventName() == null || !record.getEventName().startsWith("ObjectCreated:")
+                    || record.getS3() == null || record.getS3().getObject() == null) {
+                continue;
+            }
+            if (record.getS3().getBucket() != null && !bucket.equals(record.getS3().getBucket().getName())) {
+                continue;
+            }
+
+            String key = URLDecoder.decode(record.getS3().getObject().getKey(), StandardCharsets.UTF_8);
+            if (!key.startsWith(KEY_PREFIX)) {
+                continue;
+            }
+
+            log.info("event=upload_event_received method=POST path=/internal/uploads/events eventName={} key={}",
+                    record.getEventName(), key);
+
+            if (!uploadEventProcessor.offer(key)) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+            }
+        }
+
+        return ResponseEntity.ok().build();
+    }
+
+    private boolean isTrustedSender(String authorization) {
+        if (secret == null || secret.isBlank() || authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+                secret.getBytes(StandardCharsets.UTF_8),
+                authorization.substring(BEARER_PREFIX.length()).trim().getBytes(StandardCharsets.UTF_8));
+    }
+}
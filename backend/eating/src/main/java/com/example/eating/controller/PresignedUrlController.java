@@ -1,6 +1,12 @@
 package com.example.eating.controller;
 
+import com.example.eating.auth.AuthPrincipal;
+import com.example.eating.dto.request.s3.BatchPresignedUrlRequest;
+import com.example.eating.dto.request.s3.MultipartCompleteRequest;
+import com.example.eating.dto.request.s3.MultipartPartsRequest;
+import com.example.eating.dto.request.s3.MultipartUploadRequest;
 import com.example.eating.dto.request.s3.PresignedUrlRequest;
+import com.example.eating.dto.response.s3.MultipartUploadResponse;
 import com.example.eating.dto.response.s3.PresignedUrlResponse;
 import com.example.eating.service.PresignedUrlService;
 import lombok.RequiredArgsConstructor;
@@ -8,8 +14,11 @@ import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Slf4j
 @RestController
 @RequestMapping("/presigned-url")
@@ -19,14 +28,55 @@ public class PresignedUrlController {
     private final PresignedUrlService presignedUrlService;
 
     @PostMapping
-    public ResponseEntity<PresignedUrlResponse> generatePresignedUrl(@RequestBody PresignedUrlRequest dto) {
+    public ResponseEntity<PresignedUrlResponse> generatePresignedUrl(
+            @Nullable AuthPrincipal principal,
+            @RequestBody PresignedUrlRequest dto) {
         log.info("event=fileName_received Method=POST path=/presigned-url fileName={}", dto.getFileName());
 
-        PresignedUrlResponse response = presignedUrlService.createPresignedUrl(dto);
+        PresignedUrlResponse response = presignedUrlService.createPresignedUrl(principal, dto);
 
         log.info("event=generatePresignedUrl Method=POST path=/presigned-url uploadUrl={} fileUrl={}",
                 response.getUploadUrl(), response.getFileUrl());
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<PresignedUrlResponse>> generatePresignedUrls(
+            @Nullable AuthPrincipal principal,
+            @RequestBody BatchPresignedUrlRequest dto) {
+        log.info("event=batch_presign Method=POST path=/presigned-url/batch files={}",
+                dto.getFiles() == null ? 0 : dto.getFiles().size());
+        return ResponseEntity.status(HttpStatus.CREATED).body(presignedUrlService.createPresignedUrls(principal, dto));
+    }
+
+    @PostMapping("/multipart")
+    public ResponseEntity<MultipartUploadResponse> initiateMultipart(
+            AuthPrincipal principal,
+            @RequestBody MultipartUploadRequest dto) {
+        log.info("event=multipart_initiate Method=POST path=/presigned-url/multipart fileName={} parts={}",
+                dto.getFileName(), dto.getPartCount());
+        return ResponseEntity.status(HttpStatus.CREATED).body(presignedUrlService.initiateMultipart(principal, dto));
+    }
+
+    @PostMapping("/multipart/parts")
+    public MultipartUploadResponse presignParts(
+            AuthPrincipal principal,
+            @RequestBody MultipartPartsRequest dto) {
+        return presignedUrlService.presignParts(principal, dto);
+    }
+
+    @PostMapping("/multipart/complete")
+    public MultipartUploadResponse completeMultipart(
+            AuthPrincipal principal,
+            @RequestBody MultipartCompleteRequest dto) {
+        return presignedUrlService.completeMultipart(principal, dto);
+    }
+
+    @PostMapping("/multipart/abort")
+    public ResponseEntity<Void> abortMultipart(
+            AuthPrincipal principal,
+            @RequestBody MultipartCompleteRequest dto) {
+        presignedUrlService.abortMultipart(principal, dto);
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -1,8 +1,11 @@
 package com.example.eating.controller;
 
 import com.example.eating.APIResponse;
+import com.example.eating.auth.AuthPrincipal;
 import com.example.eating.dto.request.recipe.RecipeExtractRequest;
+import com.example.eating.dto.response.job.JobTimelineResponse;
 import com.example.eating.dto.response.job.RecipeJobCreateResponse;
+import com.example.eating.dto.response.job.RecipeJobResponse;
 import com.example.eating.dto.response.job.RecipeJobStatusResponse;
 import com.example.eating.dto.response.recipe.RecipeResponse;
 import com.example.eating.service.RecipeJobService;
@@ -11,6 +14,8 @@ import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Slf4j
 @RestController
 @RequiredArgsConstructor
@@ -21,26 +26,41 @@ public class RecipeAnalyzeController {
 
     @PostMapping("/analyze")
     public RecipeJobCreateResponse analyze(
-            @RequestHeader("email") String email,
+            AuthPrincipal principal,
             @RequestBody RecipeExtractRequest request) {
         log.info("event=recipe_extract_request Method=POST path=/recipes/analyze url={}", request.getUrl());
-        return recipeJobService.startAnalyze(email, request);
+        return recipeJobService.startAnalyze(principal, request);
     }
 
     @GetMapping("/status/{jobId}")
     public RecipeJobStatusResponse getStatus(
-            @RequestHeader("email") String email,
+            AuthPrincipal principal,
             @PathVariable String jobId) {
         log.info("event=recipe_job_status Method=GET path=/recipes/status/{jobId} jobId={}", jobId);
-        return recipeJobService.getStatus(email, jobId);
+        return recipeJobService.getStatus(principal, jobId);
+    }
+
+    @GetMapping("/jobs")
+    public List<RecipeJobResponse> getActiveJobs(
+            AuthPrincipal principal) {
+        log.info("event=recipe_active_jobs Method=GET path=/recipes/jobs");
+        return recipeJobService.getActiveJobs(principal);
+    }
+
+    @GetMapping("/jobs/{jobId}/timeline")
+    public JobTimelineResponse getTimeline(
+            AuthPrincipal principal,
+            @PathVariable String jobId) {
+        log.info("event=recipe_job_timeline Method=GET path=/recipes/jobs/{jobId}/timeline jobId={}", jobId);
+        return recipeJobService.getTimeline(principal, jobId);
     }
 
     @GetMapping("/result/{jobId}")
     public APIResponse<RecipeResponse> getResult(
-            @RequestHeader("email") String email,
+            AuthPrincipal principal,
             @PathVariable String jobId) {
         log.info("event=extrated_recipe_result Method=GET path=/recipes/result/{jobId} jobId={}", jobId);
-        return APIResponse.success("", recipeJobService.getResultAndSave(email, jobId));
+        return APIResponse.success("", recipeJobService.getResultAndSave(principal, jobId));
     }
 
 }
@@ -1,86 +1,253 @@
 package com.example.eating.controller;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.time.Instant;
 
+import com.example.eating.auth.AuthPrincipal;
+import com.example.eating.domain.outbox.OutboxEvent;
+import com.example.eating.service.chat.ChatSessionStore;
+import com.example.eating.service.job.RecipeJobRegistry;
+import com.example.eating.service.outbox.EventOutbox;
+import com.example.eating.shutdown.ServiceDrainingException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * SSE Hub
- * - FE: GET /api/sse/jobs/{jobId} 로 구독
+ * - FE: GET /api/sse/jobs/{jobId}, /api/sse/sessions/{sessionId} 로 구독
+ *   (작업/세션 소유자만, EventSource 는 헤더를 못 붙이므로 ?access_token= 으로 로그인)
  * - 내부(서비스/컨트롤러): sendToJob(jobId, "progress", payload) 로 이벤트 푸시
+ * - 아웃박스 이벤트는 event id 가 아웃박스 id → 재연결 시 Last-Event-ID 이후를 다시 보냄
+ * - 첫 구독(Last-Event-ID 없음)은 채널 처음부터 보냄 → 구독 전에 끝난 작업도 마지막 이벤트를 받음
+ * - 아웃박스를 거치지 않는 이벤트(대기 순번)는 id 없이 보내 브라우저의 Last-Event-ID 를 바꾸지 않음
  */
 @Slf4j
 @RestController
 @RequestMapping("/sse")
 public class SseController {
 
+    private static final String SESSION_KEY_PREFIX = "session:";
+
     /**
-     * jobId -> (subscriberId -> emitter)
+     * jobId (세션은 session:{sessionId}) -> (subscriberId -> emitter)
      */
     private final Map<String, Map<String, SseEmitter>> emittersByJob = new ConcurrentHashMap<>();
 
+    private final Counter sendFailures;
+
+    /**
+     * 재연결 재전송용 (벤치마크처럼 구독 API 를 쓰지 않으면 null 가능)
+     */
+    private final EventOutbox eventOutbox;
+
+    /**
+     * 구독 전 소유권 확인 (채널 id 만 알면 다른 사용자의 이벤트 기록을 재전송받을 수 있으므로)
+     */
+    private final RecipeJobRegistry recipeJobRegistry;
+    private final ChatSessionStore chatSessionStore;
+
+    /**
+     * 종료 중이면 재연결 힌트 공급자 (새 구독 거절)
+     */
+    private volatile Supplier<Duration> drainRetry;
+
+    public SseController(MeterRegistry meterRegistry, EventOutbox eventOutbox,
+                         RecipeJobRegistry recipeJobRegistry, ChatSessionStore chatSessionStore) {
+        this.eventOutbox = eventOutbox;
+        this.recipeJobRegistry = recipeJobRegistry;
+        this.chatSessionStore = chatSessionStore;
+        Gauge.builder("sse.jobs", emittersByJob, Map::size)
+                .description("구독자가 있는 job 수")
+                .register(meterRegistry);
+        Gauge.builder("sse.emitters", emittersByJob,
+                        m -> m.values().stream().mapToInt(Map::size).sum())
+                .description("열려 있는 SSE 연결 수")
+                .register(meterRegistry);
+        this.sendFailures = Counter.builder("sse.send.failures")
+                .register(meterRegistry);
+    }
+
     /**
      * FE 구독 엔드포인트
-     * - 브라우저 EventSource가 호출
+     * - 브라우저 EventSource가 호출 (재연결 시 Last-Event-ID 헤더 자동 전송)
+     * - 업로드 분석은 업로드 알림이 처리돼 작업이 등록된 뒤부터 구독 가능 (그 전에는 404)
      */
     @GetMapping(value = "/jobs/{jobId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subcribeJob(@PathVariable String jobId) throws IOException {
-        log.info("event=job_subscribe Method=GET path=/sse/jobs/{jobId} jobId={}", jobId);
-        SseEmitter emitter = new SseEmitter(0L); // 타임아웃 없음
-        String subscriberId = UUID.randomUUID().toString();
+    public SseEmitter subcribeJob(
+            AuthPrincipal principal,
+            @PathVariable String jobId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) throws IOException {
+        checkOwner(() -> recipeJobRegistry.getOwnedJob(principal.userId(), jobId));
+        log.info("event=job_subscribe Method=GET path=/sse/jobs/{jobId} jobId={} lastEventId={}", jobId, lastEventId);
+        return subscribe(jobId, EventOutbox.JOB_CHANNEL + jobId, Map.of("jobId", jobId), lastEventId);
+    }
 
-        emittersByJob
-                .computeIfAbsent(jobId, k -> new ConcurrentHashMap<>())
-                .put(subscriberId, emitter);
+    @GetMapping(value = "/sessions/{sessionId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeSession(
+            AuthPrincipal principal,
+            @PathVariable String sessionId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) throws IOException {
+        checkOwner(() -> chatSessionStore.getOwnedSession(principal.userId(), sessionId));
+        log.info("event=session_subscribe Method=GET path=/sse/sessions/{sessionId} sessionId={} lastEventId={}",
+                sessionId, lastEventId);
+        return subscribe(SESSION_KEY_PREFIX + sessionId, EventOutbox.SESSION_CHANNEL + sessionId,
+                Map.of("sessionId", sessionId), lastEventId);
+    }
+
+    /**
+     * 없는 채널은 404, 다른 사용자의 채널은 403
+     */
+    private static void checkOwner(Runnable ownershipCheck) {
+        try {
+            ownershipCheck.run();
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, e.getMessage());
+        }
+    }
+
+    private SseEmitter subscribe(String key, String channel, Map<String, String> target, String lastEventId)
+            throws IOException {
+        if (drainRetry != null) {
+            throw new ServiceDrainingException(drainRetry.get());
+        }
+
+        SseEmitter emitter = new SseEmitter(0L); // 타임아웃 없음
+        String subscriberId = register(key, emitter);
 
         // 최초 연결 확인용 이벤트
+        Map<String, String> connected = new HashMap<>(target);
+        connected.put("subscriberId", subscriberId);
+        connected.put("timestamp", Instant.now().toString());
         emitter.send(SseEmitter.event()
                 .name("connected")
-                .data(Map.of(
-                        "jobId", jobId,
-                        "subscriberId", subscriberId,
-                        "timestamp", Instant.now().toString())));
+                .data(connected));
         log.info("event=test_connection eventName={}", "connected");
         // 연결 종료 / 에러 / 타임아웃 시 정리
-        Runnable cleanup = () -> removeEmitter(jobId, subscriberId);
+        Runnable cleanup = () -> removeEmitter(key, subscriberId);
         emitter.onCompletion(cleanup);
         emitter.onTimeout(cleanup);
-        emitter.onError(e -> removeEmitter(jobId, subscriberId));
-        log.info("event=SSE_connection_clenup jobId={} subscriberId", jobId, subscriberId);
+        emitter.onError(e -> removeEmitter(key, subscriberId));
+        log.info("event=SSE_connection_clenup key={} subscriberId={}", key, subscriberId);
+
+        // 등록 후 재전송 → 그 사이 릴레이가 보낸 이벤트와 겹칠 수는 있어도 빠지지 않음
+        replay(key, subscriberId, emitter, channel, lastEventId);
         return emitter;
     }
 
+    private void replay(String key, String subscriberId, SseEmitter emitter, String channel, String lastEventId) {
+        if (eventOutbox == null) {
+            return;
+        }
+
+        long after = parseEventId(lastEventId);
+
+        List<OutboxEvent> missed = eventOutbox.findAfter(channel, after);
+        for (OutboxEvent event : missed) {
+            try {
+                emitter.send(SseEmitter.event()
+                        .name(event.getEventName())
+                        .id(String.valueOf(event.getId()))
+                        .data(event.getPayload()));
+            } catch (IOException e) {
+                sendFailures.increment();
+                removeEmitter(key, subscriberId);
+                return;
+            }
+            if (event.isTerminal()) {
+                emitter.complete();
+                return;
+            }
+        }
+        log.info("event=sse_replayed key={} after={} count={}", key, after, missed.size());
+    }
+
+    /**
+     * 없거나 아웃박스 id 가 아니면 0 (채널 처음부터)
+     */
+    private static long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return 0;
+        }
+        try {
+            return Math.max(Long.parseLong(lastEventId.trim()), 0);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * emitter를 jobId 구독자로 등록하고 subscriberId 반환
+     */
+    private String register(String jobId, SseEmitter emitter) {
+        String subscriberId = UUID.randomUUID().toString();
+        emittersByJob
+                .computeIfAbsent(jobId, k -> new ConcurrentHashMap<>())
+                .put(subscriberId, emitter);
+        return subscriberId;
+    }
+
     /**
-     * 해당 jobId를 구독 중인 모든 클라이언트에게 이벤트 전송
-     * eventName 예: progress, completed, failed, ping ...
+     * 해당 jobId를 구독 중인 모든 클라이언트에게 이벤트 전송 (재전송 대상이 아닌 일시적 이벤트)
+     * eventName 예: queued, ping ...
      */
     public void sendToJob(String jobId, String eventName, Object data) {
-        Map<String, SseEmitter> subs = emittersByJob.get(jobId);
+        send(jobId, eventName, data, null);
+    }
+
+    /**
+     * 아웃박스 릴레이용 (eventId = 아웃박스 id)
+     */
+    public void sendToJob(String jobId, String eventName, Object data, String eventId) {
+        send(jobId, eventName, data, eventId);
+    }
+
+    public void sendToSession(String sessionId, String eventName, Object data, String eventId) {
+        send(SESSION_KEY_PREFIX + sessionId, eventName, data, eventId);
+    }
+
+    public void completeJob(String jobId) {
+        complete(jobId);
+    }
+
+    public void completeSession(String sessionId) {
+        complete(SESSION_KEY_PREFIX + sessionId);
+    }
+
+    private void send(String key, String eventName, Object data, String eventId) {
+        Map<String, SseEmitter> subs = emittersByJob.get(key);
         if (subs == null || subs.isEmpty())
             return;
 
         subs.forEach((sid, emitter) -> {
             try {
-                emitter.send(SseEmitter.event()
-                        .name(eventName)
-                        .id(UUID.randomUUID().toString())
-                        .data(data));
+                SseEmitter.SseEventBuilder event = SseEmitter.event().name(eventName).data(data);
+                emitter.send(eventId != null ? event.id(eventId) : event);
             } catch (IOException e) {
-                removeEmitter(jobId, sid);
+                sendFailures.increment();
+                removeEmitter(key, sid);
             }
         });
     }
 
-    public void completeJob(String jobId) {
-        Map<String, SseEmitter> subscribers = emittersByJob.get(jobId);
+    private void complete(String key) {
+        Map<String, SseEmitter> subscribers = emittersByJob.get(key);
         if (subscribers == null || subscribers.isEmpty()) {
             return;
         }
@@ -91,7 +258,40 @@ public class SseController {
 
             }
         });
-        emittersByJob.remove(jobId);
+        emittersByJob.remove(key);
+    }
+
+    /**
+     * 종료 전: 새 구독을 막고 열린 구독 모두에 reconnect 이벤트를 보낸 뒤 닫음
+     * - SSE retry 필드를 구독자마다 다르게 줘서 재연결 시점을 흩음
+     * - 브라우저는 retry 후 Last-Event-ID 와 함께 다시 연결 → 아웃박스에서 놓친 이벤트 재전송
+     *
+     * @return 닫은 구독 수
+     */
+    public int drain(Supplier<Duration> retry) {
+        drainRetry = retry;
+
+        int closed = 0;
+        for (String key : emittersByJob.keySet()) {
+            Map<String, SseEmitter> subscribers = emittersByJob.remove(key);
+            if (subscribers == null) {
+                continue;
+            }
+            for (SseEmitter emitter : subscribers.values()) {
+                long retryMs = retry.get().toMillis();
+                try {
+                    emitter.send(SseEmitter.event()
+                            .name("reconnect")
+                            .reconnectTime(retryMs)
+                            .data(Map.of("retryMs", retryMs)));
+                    emitter.complete();
+                } catch (Exception e) {
+                    sendFailures.increment();
+                }
+                closed++;
+            }
+        }
+        return closed;
     }
 
     private void removeEmitter(String jobId, String subscriberId) {
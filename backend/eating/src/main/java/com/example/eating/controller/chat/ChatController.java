@@ -1,10 +1,13 @@
 package com.example.eating.controller.chat;
 
+import com.example.eating.auth.AuthPrincipal;
 import com.example.eating.dto.request.chat.ChatRequest;
 import com.example.eating.dto.request.chat.StartSessionRequest;
 import com.example.eating.dto.response.chat.ChatResponse;
 import com.example.eating.dto.response.chat.SessionStatus;
 import com.example.eating.dto.response.chat.StartSessionResponse;
+import com.example.eating.metrics.ChatTurnMetrics;
+import com.example.eating.ratelimit.ChatRateLimiter;
 import com.example.eating.service.chat.ChatService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
@@ -17,53 +20,61 @@ import java.util.Map;
 public class ChatController {
 
     private final ChatService chatService;
+    private final ChatRateLimiter chatRateLimiter;
+    private final ChatTurnMetrics chatTurnMetrics;
 
     @PostMapping("/start")
     public StartSessionResponse startSession(
-            @RequestHeader("email") String email,
+            AuthPrincipal principal,
             @RequestBody StartSessionRequest request
     ) {
-        return chatService.startSession(email, request);
+        chatRateLimiter.check("start", principal.userId(), null);
+        return chatService.startSession(principal, request);
     }
 
     @GetMapping("/session/{sessionId}")
     public SessionStatus getSessionStatus(
-            @RequestHeader("email") String email,
+            AuthPrincipal principal,
             @PathVariable String sessionId
     ) {
-        return chatService.getSessionStatus(email, sessionId);
+        chatRateLimiter.check("status", principal.userId(), sessionId);
+        return chatService.getSessionStatus(principal, sessionId);
     }
 
     @PostMapping("/message")
     public ChatResponse sendMessage(
-            @RequestHeader("email") String email,
+            AuthPrincipal principal,
             @RequestBody ChatRequest request
     ) {
-        return chatService.sendMessage(email, request);
+        chatRateLimiter.check("message", principal.userId(), request.getSession_id());
+        return chatTurnMetrics.time(() -> chatService.sendMessage(principal, request));
     }
 
     @PostMapping("/session/{sessionId}/complete-step/{stepNumber}")
     public Map<String, Object> completeStep(
-            @RequestHeader("email") String email,
+            AuthPrincipal principal,
             @PathVariable String sessionId,
             @PathVariable int stepNumber
     ) {
-        return chatService.completeStep(email, sessionId, stepNumber);
+        chatRateLimiter.check("complete-step", principal.userId(), sessionId);
+        return chatService.completeStep(principal, sessionId, stepNumber);
     }
 
     @GetMapping("/session/{sessionId}/history")
     public Map<String, Object> getHistory(
-            @RequestHeader("email") String email,
+            AuthPrincipal principal,
             @PathVariable String sessionId
     ) {
-        return chatService.getHistory(email, sessionId);
+        chatRateLimiter.check("history", principal.userId(), sessionId);
+        return chatService.getHistory(principal, sessionId);
     }
 
     @DeleteMapping("/session/{sessionId}")
     public Map<String, Object> endSession(
-            @RequestHeader("email") String email,
+            AuthPrincipal principal,
             @PathVariable String sessionId
     ) {
-        return chatService.endSession(email, sessionId);
+        chatRateLimiter.check("end", principal.userId(), sessionId);
+        return chatService.endSession(principal, sessionId);
     }
 }
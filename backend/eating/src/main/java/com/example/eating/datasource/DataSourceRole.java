@@ -0,0 +1,6 @@
+package com.example.eating.datasource;
+
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,84 @@
+package com.example.eating.datasource;
+
+import com.example.eating.auth.AuthPrincipal;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * read-your-writes 보장
+ * - 쓰기 트랜잭션을 커밋한 사용자(토큰의 userId, 없으면 IP)의 읽기는
+ *   max(window, 현재 복제 지연) 동안 primary 로 보냄
+ * - 예: saveRecipeResult 직후 결과 조회, analyze 직후 상태 조회
+ */
+public class ReadYourWritesTracker {
+
+    private final Duration window;
+    private final ReplicaLagMonitor lagMonitor;
+
+    /**
+     * 사용자 키 -> 마지막 쓰기 커밋 시각 (nanoTime)
+     */
+    private final Map<String, Long> lastWriteAt = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration window, ReplicaLagMonitor lagMonitor) {
+        this.window = window;
+        this.lagMonitor = lagMonitor;
+    }
+
+    public void markWrite(String key) {
+        if (key != null) {
+            lastWriteAt.put(key, System.nanoTime());
+        }
+    }
+
+    public boolean mustReadPrimary(String key) {
+        if (key == null) {
+            return false;
+        }
+        Long writtenAt = lastWriteAt.get(key);
+        return writtenAt != null && System.nanoTime() - writtenAt < pinNanos();
+    }
+
+    /**
+     * 고정 기간이 지난 키 정리
+     */
+    @Scheduled(fixedDelayString = "${datasource.replica.evict-interval-ms:60000}")
+    public int evictExpired() {
+        long now = System.nanoTime();
+        long pinNanos = pinNanos();
+        int before = lastWriteAt.size();
+        lastWriteAt.values().removeIf(writtenAt -> now - writtenAt >= pinNanos);
+        return before - lastWriteAt.size();
+    }
+
+    public int size() {
+        return lastWriteAt.size();
+    }
+
+    private long pinNanos() {
+        return Math.max(window.toNanos(), lagMonitor.currentLag().toNanos());
+    }
+
+    /**
+     * 현재 요청의 사용자 키 (요청 밖 - 스케줄러 등 - 이면 null)
+     */
+    public static String currentKey() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return null;
+        }
+
+        HttpServletRequest request = servletAttributes.getRequest();
+        Object principal = request.getAttribute(AuthPrincipal.REQUEST_ATTRIBUTE);
+        return principal instanceof AuthPrincipal authPrincipal
+                ? "user:" + authPrincipal.userId()
+                : "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.eating.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+
+/**
+ * replica 복제 지연 측정
+ * - lag-query 가 초 단위 지연 한 값을 반환 (비어 있으면 측정하지 않고 0 으로 간주)
+ * - 지연이 max-lag 를 넘거나 측정이 실패하면 replica 를 쓰지 않음 (모든 읽기 → primary)
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagQuery;
+    private final Duration maxLag;
+
+    private volatile Duration currentLag = Duration.ZERO;
+    private volatile boolean healthy = true;
+
+    public ReplicaLagMonitor(JdbcTemplate replicaJdbcTemplate, String lagQuery, Duration maxLag) {
+        this.replicaJdbcTemplate = replicaJdbcTemplate;
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:1000}")
+    public void refresh() {
+        if (lagQuery == null || lagQuery.isBlank()) {
+            return;
+        }
+
+        try {
+            Number seconds = replicaJdbcTemplate.queryForObject(lagQuery, Number.class);
+            // NULL = 복제 중단
+            update(seconds == null ? null : Duration.ofMillis((long) (seconds.doubleValue() * 1000)));
+        } catch (RuntimeException e) {
+            log.warn("event=replica_lag_check_failed error={}", e.getMessage());
+            update(null);
+        }
+    }
+
+    /**
+     * lag == null 이면 측정 불가 (replica 사용 중지)
+     */
+    void update(Duration lag) {
+        boolean nowHealthy = lag != null && lag.compareTo(maxLag) <= 0;
+        if (nowHealthy != healthy) {
+            log.warn("event=replica_routing_changed healthy={} lagMs={} maxLagMs={}",
+                    nowHealthy, lag == null ? null : lag.toMillis(), maxLag.toMillis());
+        }
+        currentLag = lag == null ? maxLag : lag;
+        healthy = nowHealthy;
+    }
+
+    public Duration currentLag() {
+        return currentLag;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+}
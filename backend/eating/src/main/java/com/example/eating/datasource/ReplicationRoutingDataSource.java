@@ -0,0 +1,46 @@
+package com.example.eating.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * readOnly 트랜잭션 → replica, 그 외 → primary
+ * - LazyConnectionDataSourceProxy 뒤에 두어야 함
+ *   (실제 커넥션을 첫 문장 실행 시점에 얻어야 트랜잭션의 readOnly 여부를 알 수 있음)
+ * - 쓰기 트랜잭션 커밋 시 사용자를 기록해 직후 읽기는 primary 로 (ReadYourWritesTracker)
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReadYourWritesTracker readYourWrites;
+    private final ReplicaLagMonitor lagMonitor;
+
+    public ReplicationRoutingDataSource(ReadYourWritesTracker readYourWrites, ReplicaLagMonitor lagMonitor) {
+        this.readYourWrites = readYourWrites;
+        this.lagMonitor = lagMonitor;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String key = ReadYourWritesTracker.currentKey();
+
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (lagMonitor.isHealthy() && !readYourWrites.mustReadPrimary(key)) {
+                return DataSourceRole.REPLICA;
+            }
+            return DataSourceRole.PRIMARY;
+        }
+
+        if (key != null
+                && TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    readYourWrites.markWrite(key);
+                }
+            });
+        }
+        return DataSourceRole.PRIMARY;
+    }
+}
@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = @Index(name = "idx_ingredient_recipe", columnList = "recipe_id"))
 @Getter
 @NoArgsConstructor
 public class Ingredient {
@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(indexes = @Index(name = "idx_recipe_user_created", columnList = "user_id, created_at"))
 @Getter
 @Setter
 @NoArgsConstructor
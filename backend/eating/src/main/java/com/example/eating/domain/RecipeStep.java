@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = @Index(name = "idx_recipe_step_recipe_step", columnList = "recipe_id, step_number"))
 @Getter
 @NoArgsConstructor
 public class RecipeStep {
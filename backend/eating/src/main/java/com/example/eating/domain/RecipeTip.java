@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import lombok.Getter;
 
 @Entity
+@Table(indexes = @Index(name = "idx_recipe_tip_recipe", columnList = "recipe_id"))
 @Getter
 public class RecipeTip {
 
@@ -9,6 +9,7 @@ import lombok.Setter;
 @Setter
 @NoArgsConstructor
 @Entity
+@Table(indexes = @Index(name = "idx_recipe_video_video", columnList = "video_id"))
 public class RecipeVideo {
 
     @Id
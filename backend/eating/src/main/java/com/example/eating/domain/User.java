@@ -29,4 +29,11 @@ public class User {
         this.password = password;
         this.nickname = nickname;
     }
+
+    /**
+     * 해시된 비밀번호로 교체 (평문 저장분 재해시, cost 변경 시)
+     */
+    public void changePassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
 }
@@ -14,8 +14,8 @@ import java.util.List;
 @Table(
         name = "chat_session",
         indexes = {
-                @Index(name = "idx_chat_session_user", columnList = "user_id"),
-                @Index(name = "idx_chat_session_status", columnList = "status")
+                @Index(name = "idx_chat_session_user_last_used", columnList = "user_id, last_used_at"),
+                @Index(name = "idx_chat_session_status_last_used", columnList = "status, last_used_at")
         }
 )
 @Getter
@@ -83,8 +83,10 @@ public class ChatSession {
 
     /**
      * 마지막 사용 시간 (만료 판단용)
+     * - INSERT 이후에는 ChatSessionTouchBuffer 의 조건부 UPDATE 로만 바뀜
+     *   (엔티티 dirty flush 가 버퍼가 이미 쓴 더 최신 값을 옛 값으로 덮지 않도록 UPDATE 에서 제외)
      */
-    @Column(name = "last_used_at", nullable = false)
+    @Column(name = "last_used_at", nullable = false, updatable = false)
     private LocalDateTime lastUsedAt;
 
 
@@ -117,17 +119,10 @@ public class ChatSession {
         } else {
             this.status = ChatSessionStatus.FINISHED;
         }
-
-        touch();
     }
 
     public void expire() {
         this.status = ChatSessionStatus.EXPIRED;
-        touch();
-    }
-
-    public void touch() {
-        this.lastUsedAt = LocalDateTime.now();
     }
 
     public int calculateProgress() {
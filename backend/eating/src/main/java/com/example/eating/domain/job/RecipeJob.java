@@ -0,0 +1,156 @@
+package com.example.eating.domain.job;
+
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(
+        name = "recipe_job",
+        indexes = {
+                @Index(name = "idx_recipe_job_user_status", columnList = "user_id, status"),
+                @Index(name = "idx_recipe_job_status_created", columnList = "status, created_at"),
+                @Index(name = "idx_recipe_job_node_status", columnList = "node_id, status")
+        }
+)
+@Getter
+@NoArgsConstructor
+public class RecipeJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * FastAPI와 공유되는 작업 ID
+     */
+    @Column(name = "job_id", nullable = false, unique = true, length = 64)
+    private String jobId;
+
+    /**
+     * 작업 소유자
+     */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /**
+     * 분석 대상 영상 URL
+     */
+    @Column(length = 500)
+    private String url;
+
+    /**
+     * 작업을 접수한 인스턴스 (대기열/실행 슬롯의 주인)
+     */
+    @Column(name = "node_id", length = 64)
+    private String nodeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private RecipeJobStatus status;
+
+    private Integer progress;
+
+    @Column(length = 50)
+    private String step;
+
+    @Column(length = 500)
+    private String message;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * FastAPI 전달 시각 (대기열 체류 시간 측정용)
+     */
+    @Column(name = "dispatched_at")
+    private LocalDateTime dispatchedAt;
+
+    /**
+     * 첫 processing 콜백 시각
+     */
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public RecipeJob(String jobId, Long userId, String url, String nodeId, RecipeJobStatus status) {
+        this.jobId = jobId;
+        this.userId = userId;
+        this.url = url;
+        this.nodeId = nodeId;
+        this.status = status != null ? status : RecipeJobStatus.QUEUED;
+        this.progress = 0;
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    /* ================== 도메인 로직 ================== */
+
+    public void dispatch() {
+        if (this.status != RecipeJobStatus.QUEUED) {
+            return;
+        }
+        this.status = RecipeJobStatus.PENDING;
+        this.dispatchedAt = LocalDateTime.now();
+        this.updatedAt = this.dispatchedAt;
+    }
+
+    public void fail(String message) {
+        if (this.status.isFinished()) {
+            return;
+        }
+        this.status = RecipeJobStatus.FAILED;
+        this.message = truncate(message, 500);
+        this.finishedAt = LocalDateTime.now();
+        this.updatedAt = this.finishedAt;
+    }
+
+    public void applyProgress(String status, Integer progress, String step, String message) {
+        if (this.status.isFinished()) {
+            return; // 늦게 도착한 콜백 무시
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        this.status = RecipeJobStatus.from(status);
+        this.progress = progress;
+        this.step = step;
+        this.message = truncate(message, 500);
+        this.updatedAt = now;
+
+        if (this.startedAt == null && this.status != RecipeJobStatus.PENDING) {
+            this.startedAt = now;
+        }
+        if (this.status.isFinished()) {
+            this.finishedAt = now;
+        }
+    }
+
+    public boolean isOwnedBy(Long userId) {
+        return this.userId.equals(userId);
+    }
+
+    /**
+     * 생성부터 종료(또는 현재)까지 걸린 시간
+     */
+    public Duration elapsed() {
+        LocalDateTime end = finishedAt != null ? finishedAt : LocalDateTime.now();
+        return Duration.between(createdAt, end);
+    }
+
+    private static String truncate(String value, int max) {
+        if (value == null || value.length() <= max) {
+            return value;
+        }
+        return value.substring(0, max);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.eating.domain.job;
+
+public enum RecipeJobStatus {
+    QUEUED,     // Spring 대기열 (FastAPI 전달 전)
+    PENDING,
+    PROCESSING,
+    COMPLETED,
+    FAILED;
+
+    /**
+     * FastAPI 상태 문자열(pending|processing|completed|failed) 변환
+     */
+    public static RecipeJobStatus from(String status) {
+        if (status == null) {
+            return PENDING;
+        }
+        return switch (status.toLowerCase()) {
+            case "queued" -> QUEUED;
+            case "processing" -> PROCESSING;
+            case "completed" -> COMPLETED;
+            case "failed" -> FAILED;
+            default -> PENDING;
+        };
+    }
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+
+    public String toApiValue() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.eating.domain.media;
+
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용 해시로 주소가 정해진 업로드 객체 인덱스
+ * - 같은 내용은 한 번만 S3 에 올라가고 이후 요청은 기존 fileUrl 을 재사용
+ */
+@Entity
+@Table(name = "media_object")
+@Getter
+@NoArgsConstructor
+public class MediaObject {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * SHA-256 (소문자 hex)
+     */
+    @Column(name = "content_hash", nullable = false, unique = true, length = 64)
+    private String contentHash;
+
+    @Column(name = "s3_key", nullable = false, length = 200)
+    private String s3Key;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public MediaObject(String contentHash, String s3Key, String contentType) {
+        this.contentHash = contentHash;
+        this.s3Key = s3Key;
+        this.contentType = contentType;
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.eating.domain.media;
+
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 진행 중인 멀티파트 업로드 (uploadId → 시작한 사용자)
+ * - part 추가 발급/완료/중단은 소유자만 가능
+ */
+@Entity
+@Table(name = "multipart_upload")
+@Getter
+@NoArgsConstructor
+public class MultipartUpload {
+
+    @Id
+    @Column(name = "upload_id", nullable = false)
+    private String uploadId;
+
+    @Column(name = "s3_key", nullable = false, length = 200)
+    private String s3Key;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public MultipartUpload(String uploadId, String s3Key, Long userId) {
+        this.uploadId = uploadId;
+        this.s3Key = s3Key;
+        this.userId = userId;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public boolean isOwnedBy(Long userId) {
+        return this.userId.equals(userId);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.eating.domain.media;
+
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아직 처리하지 않은 업로드 완료 알림
+ * - 수신 API 가 응답 전에 기록하므로 재시작해도 알림을 잃지 않음
+ * - availableAt 이 지난 행만 다시 처리 대상 (메모리 큐에 들어가 있는 동안은 미래 시각)
+ */
+@Entity
+@Table(
+        name = "pending_upload_event",
+        indexes = @Index(name = "idx_pending_upload_event_available", columnList = "available_at")
+)
+@Getter
+@NoArgsConstructor
+public class PendingUploadEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "s3_key", nullable = false, unique = true, length = 200)
+    private String s3Key;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public PendingUploadEvent(String s3Key, LocalDateTime availableAt) {
+        this.s3Key = s3Key;
+        this.attempts = 0;
+        this.availableAt = availableAt;
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.eating.domain.outbox;
+
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상태 변경과 같은 트랜잭션에 기록되는 SSE 전달 이벤트
+ * - id 가 전달 순서이자 SSE event id (재연결 시 Last-Event-ID 이후부터 재전송)
+ */
+@Entity
+@Table(
+        name = "outbox_event",
+        indexes = {
+                @Index(name = "idx_outbox_event_channel", columnList = "channel, id"),
+                @Index(name = "idx_outbox_event_created", columnList = "created_at")
+        }
+)
+@Getter
+@NoArgsConstructor
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * SSE 구독 채널 (job:{jobId}, session:{sessionId})
+     */
+    @Column(nullable = false, length = 100)
+    private String channel;
+
+    @Column(name = "event_name", nullable = false, length = 32)
+    private String eventName;
+
+    /**
+     * JSON
+     */
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    /**
+     * 마지막 이벤트면 전달 후 구독을 닫음
+     */
+    @Column(nullable = false)
+    private boolean terminal;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public OutboxEvent(String channel, String eventName, String payload, boolean terminal) {
+        this.channel = channel;
+        this.eventName = eventName;
+        this.payload = payload;
+        this.terminal = terminal;
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.eating.dto.request.recipe;
+
+import lombok.Getter;
+
+/**
+ * BE → FastAPI
+ * 분석 작업 전달 (job_id는 Spring이 발급)
+ */
+@Getter
+public class AnalyzeJobRequest {
+
+    private String job_id;
+    private String url;
+
+    public AnalyzeJobRequest(String job_id, String url) {
+        this.job_id = job_id;
+        this.url = url;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.eating.dto.request.s3;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 여러 파일 presigned-url 한 번에 발급
+ */
+@Getter
+@NoArgsConstructor
+public class BatchPresignedUrlRequest {
+
+    private List<PresignedUrlRequest> files;
+
+    public BatchPresignedUrlRequest(List<PresignedUrlRequest> files) {
+        this.files = files;
+    }
+}
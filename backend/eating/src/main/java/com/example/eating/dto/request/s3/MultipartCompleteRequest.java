@@ -0,0 +1,39 @@
+package com.example.eating.dto.request.s3;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 멀티파트 업로드 완료 / 중단 (중단은 parts 없이)
+ */
+@Getter
+@NoArgsConstructor
+public class MultipartCompleteRequest {
+
+    private String key;
+    private String uploadId;
+    private List<Part> parts;
+
+    public MultipartCompleteRequest(String key, String uploadId, List<Part> parts) {
+        this.key = key;
+        this.uploadId = uploadId;
+        this.parts = parts;
+    }
+
+    /**
+     * part PUT 응답의 ETag 헤더 값
+     */
+    @Getter
+    @NoArgsConstructor
+    public static class Part {
+        private int partNumber;
+        private String etag;
+
+        public Part(int partNumber, String etag) {
+            this.partNumber = partNumber;
+            this.etag = etag;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.eating.dto.request.s3;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 진행 중인 멀티파트 업로드의 part URL 추가 발급 (만료/재시도)
+ */
+@Getter
+@NoArgsConstructor
+public class MultipartPartsRequest {
+
+    private String key;
+    private String uploadId;
+    private List<Integer> partNumbers;
+
+    public MultipartPartsRequest(String key, String uploadId, List<Integer> partNumbers) {
+        this.key = key;
+        this.uploadId = uploadId;
+        this.partNumbers = partNumbers;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.eating.dto.request.s3;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 멀티파트 업로드 시작 (part 업로드 URL partCount 개를 함께 발급)
+ */
+@Getter
+@NoArgsConstructor
+public class MultipartUploadRequest {
+
+    private String fileName;
+    private String contentType;
+    private int partCount;
+
+    /**
+     * complete 되면 바로 레시피 분석 시작 (로그인 필요)
+     */
+    private boolean analyze;
+
+    public MultipartUploadRequest(String fileName, String contentType, int partCount) {
+        this.fileName = fileName;
+        this.contentType = contentType;
+        this.partCount = partCount;
+    }
+}
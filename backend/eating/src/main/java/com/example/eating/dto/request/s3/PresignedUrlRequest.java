@@ -14,8 +14,24 @@ public class PresignedUrlRequest {
     private String fileName;
     private String contentType;
 
+    /**
+     * 선택: 파일 내용의 SHA-256 (hex)
+     * - 있으면 내용 기반 키를 쓰고, 이미 올라간 내용이면 업로드 없이 기존 fileUrl 반환
+     */
+    private String contentSha256;
+
+    /**
+     * 업로드가 끝나면 바로 레시피 분석 시작 (로그인 필요)
+     */
+    private boolean analyze;
+
     public PresignedUrlRequest(String fileName, String contentType) {
+        this(fileName, contentType, null);
+    }
+
+    public PresignedUrlRequest(String fileName, String contentType, String contentSha256) {
         this.fileName = fileName;
         this.contentType = contentType;
+        this.contentSha256 = contentSha256;
     }
-}
\ No newline at end of file
+}
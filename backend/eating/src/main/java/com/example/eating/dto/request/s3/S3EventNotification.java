@@ -0,0 +1,49 @@
+package com.example.eating.dto.request.s3;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * S3 → BE
+ * 객체 생성 이벤트 알림 (S3 이벤트 / MinIO webhook 공통 형식, 필요한 필드만)
+ */
+@Getter
+@NoArgsConstructor
+public class S3EventNotification {
+
+    @JsonProperty("Records")
+    private List<Record> records;
+
+    @Getter
+    @NoArgsConstructor
+    public static class Record {
+        private String eventName;
+        private S3 s3;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    public static class S3 {
+        private Bucket bucket;
+        private S3Object object;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    public static class Bucket {
+        private String name;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    public static class S3Object {
+        /**
+         * URL 인코딩된 키
+         */
+        private String key;
+        private Long size;
+    }
+}
@@ -9,4 +9,9 @@ public class LoginResponse {
     private boolean isLoginSuccess;
     private String email;
     private String nickname;
+
+    /**
+     * 이후 요청의 Authorization: Bearer 토큰
+     */
+    private String accessToken;
 }
@@ -0,0 +1,83 @@
+package com.example.eating.dto.response.job;
+
+import com.example.eating.tracing.JobTrace;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+@Getter
+@Builder
+public class JobTimelineResponse {
+
+    private String jobId;
+    private String traceId;
+    private String status;
+
+    private Instant createdAt;
+    private Instant dispatchedAt;
+    private Instant finishedAt;
+
+    /**
+     * 대기열 체류 시간
+     */
+    private Long queuedMs;
+
+    /**
+     * FastAPI 전달 → 첫 progress 콜백
+     */
+    private Long timeToFirstProgressMs;
+
+    private Long totalMs;
+
+    private List<Stage> stages;
+
+    /**
+     * 콜백 수신 → SSE 전송 완료
+     */
+    private long deliveryCount;
+    private double deliveryAvgMs;
+    private double deliveryMaxMs;
+
+    @Getter
+    @Builder
+    public static class Stage {
+        private String step;
+        private Instant startedAt;
+        private long durationMs;
+        private boolean finished;
+    }
+
+    public static JobTimelineResponse from(JobTrace trace) {
+        Duration firstProgress = trace.timeToFirstProgress();
+        Instant end = trace.getFinishedAt() != null ? trace.getFinishedAt() : Instant.now();
+
+        return JobTimelineResponse.builder()
+                .jobId(trace.getJobId())
+                .traceId(trace.getTraceId())
+                .status(trace.getFinalStatus())
+                .createdAt(trace.getCreatedAt())
+                .dispatchedAt(trace.getDispatchedAt())
+                .finishedAt(trace.getFinishedAt())
+                .queuedMs(trace.getDispatchedAt() != null
+                        ? Duration.between(trace.getCreatedAt(), trace.getDispatchedAt()).toMillis()
+                        : null)
+                .timeToFirstProgressMs(firstProgress != null ? firstProgress.toMillis() : null)
+                .totalMs(Duration.between(trace.getCreatedAt(), end).toMillis())
+                .stages(trace.snapshotStages().stream()
+                        .map(stage -> Stage.builder()
+                                .step(stage.getStep())
+                                .startedAt(stage.getStartedAt())
+                                .durationMs(stage.duration().toMillis())
+                                .finished(stage.getEndedAt() != null)
+                                .build())
+                        .toList())
+                .deliveryCount(trace.getDeliveryCount())
+                .deliveryAvgMs(trace.getDeliveryCount() == 0 ? 0
+                        : trace.getDeliveryTotalNanos() / 1_000_000.0 / trace.getDeliveryCount())
+                .deliveryMaxMs(trace.getDeliveryMaxNanos() / 1_000_000.0)
+                .build();
+    }
+}
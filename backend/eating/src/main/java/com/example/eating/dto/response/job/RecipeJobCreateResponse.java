@@ -9,4 +9,9 @@ public class RecipeJobCreateResponse {
 
     private String jobId;
     private String status;
+
+    /**
+     * 대기 순번 (1이면 다음 차례)
+     */
+    private long queuePosition;
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.example.eating.dto.response.job;
+
+import com.example.eating.domain.job.RecipeJob;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class RecipeJobResponse {
+
+    private String jobId;
+    private String url;
+    private String status;
+    private Integer progress;
+    private String step;
+    private String message;
+    private long queuePosition;
+    private long elapsedSeconds;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    public static RecipeJobResponse from(RecipeJob job, long queuePosition) {
+        return RecipeJobResponse.builder()
+                .jobId(job.getJobId())
+                .url(job.getUrl())
+                .status(job.getStatus().toApiValue())
+                .progress(job.getProgress())
+                .step(job.getStep())
+                .message(job.getMessage())
+                .queuePosition(queuePosition)
+                .elapsedSeconds(job.elapsed().toSeconds())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
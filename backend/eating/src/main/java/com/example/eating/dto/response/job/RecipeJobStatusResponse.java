@@ -10,4 +10,15 @@ public class RecipeJobStatusResponse {
     private String jobId;
 
     private String status;
-}
\ No newline at end of file
+
+    private Integer progress;
+
+    private String step;
+
+    private String message;
+
+    /**
+     * 대기 순번 (대기 중이 아니면 0)
+     */
+    private long queuePosition;
+}
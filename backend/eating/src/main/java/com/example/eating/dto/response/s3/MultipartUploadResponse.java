@@ -0,0 +1,31 @@
+package com.example.eating.dto.response.s3;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class MultipartUploadResponse {
+
+    private String key;
+
+    private String uploadId;
+
+    private String fileUrl;
+
+    private List<PartUploadUrl> parts;
+
+    /**
+     * analyze 요청 시 complete 후 시작될 분석 작업 ID
+     */
+    private String analysisJobId;
+
+    @Getter
+    @Builder
+    public static class PartUploadUrl {
+        private int partNumber;
+        private String uploadUrl;
+    }
+}
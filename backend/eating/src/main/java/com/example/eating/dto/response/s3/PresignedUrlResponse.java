@@ -3,12 +3,32 @@ package com.example.eating.dto.response.s3;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.Map;
+
 
 @Getter
 @Builder
 public class PresignedUrlResponse {
 
+    /**
+     * duplicate == true 면 null (업로드 불필요)
+     */
     private String uploadUrl;
 
     private String fileUrl;
-}
\ No newline at end of file
+
+    /**
+     * 업로드 시 그대로 보내야 하는 서명된 헤더 (내용 해시 업로드에서 x-amz-checksum-sha256 포함)
+     */
+    private Map<String, String> uploadHeaders;
+
+    /**
+     * 같은 내용이 이미 업로드되어 있음
+     */
+    private boolean duplicate;
+
+    /**
+     * analyze 요청 시 업로드 완료와 함께 시작될 분석 작업 ID
+     */
+    private String analysisJobId;
+}
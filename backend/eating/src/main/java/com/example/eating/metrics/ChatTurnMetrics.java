@@ -0,0 +1,70 @@
+package com.example.eating.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 채팅 턴 지연 분해
+ * - chat.turn{part=total}: 컨트롤러 진입부터 응답까지
+ * - chat.turn{part=fastapi}: FastAPI 호출 시간
+ * - chat.turn{part=spring}: 나머지 (DB, 트랜잭션, 직렬화 등 Spring 쪽 오버헤드)
+ *
+ * FastAPI 호출은 요청 스레드에서 block() 되므로 ThreadLocal로 같은 턴의 값을 모음
+ */
+@Component
+public class ChatTurnMetrics {
+
+    private final ThreadLocal<Long> fastApiNanos = new ThreadLocal<>();
+
+    private final Timer total;
+    private final Timer fastApi;
+    private final Timer spring;
+
+    public ChatTurnMetrics(MeterRegistry meterRegistry) {
+        this.total = turnTimer(meterRegistry, "total");
+        this.fastApi = turnTimer(meterRegistry, "fastapi");
+        this.spring = turnTimer(meterRegistry, "spring");
+    }
+
+    public <T> T time(Supplier<T> turn) {
+        long start = System.nanoTime();
+        fastApiNanos.set(0L);
+        try {
+            return turn.get();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            long remote = fastApiNanos.get();
+            fastApiNanos.remove();
+
+            total.record(elapsed, TimeUnit.NANOSECONDS);
+            fastApi.record(remote, TimeUnit.NANOSECONDS);
+            spring.record(Math.max(0, elapsed - remote), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 턴 안에서 FastAPI 호출에 쓴 시간 누적
+     */
+    public <T> T timeFastApi(Supplier<T> call) {
+        long start = System.nanoTime();
+        try {
+            return call.get();
+        } finally {
+            Long current = fastApiNanos.get();
+            if (current != null) {
+                fastApiNanos.set(current + System.nanoTime() - start);
+            }
+        }
+    }
+
+    private static Timer turnTimer(MeterRegistry meterRegistry, String part) {
+        return Timer.builder("chat.turn")
+                .tag("part", part)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
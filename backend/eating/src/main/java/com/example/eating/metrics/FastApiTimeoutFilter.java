@@ -0,0 +1,57 @@
+package com.example.eating.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.handler.timeout.ReadTimeoutException;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeoutException;
+
+/**
+ * FastAPI 응답 타임아웃 계측
+ * - 지연/상태코드는 Boot 의 http.client.requests 가 기록하고, 여기서는 타임아웃만 따로 셈
+ *   (http.client.requests 의 exception 태그는 감싼 WebClientRequestException 이라 타임아웃과 연결 오류가 구분되지 않음)
+ * - fastapi.client.timeouts: 엔드포인트(URI 템플릿)별 횟수
+ */
+public class FastApiTimeoutFilter implements ExchangeFilterFunction {
+
+    private static final String URI_TEMPLATE_ATTRIBUTE = WebClient.class.getName() + ".uriTemplate";
+
+    private final MeterRegistry meterRegistry;
+
+    public FastApiTimeoutFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return next.exchange(request)
+                .doOnError(FastApiTimeoutFilter::isTimeout, e -> Counter.builder("fastapi.client.timeouts")
+                        .tag("endpoint", endpoint(request))
+                        .register(meterRegistry)
+                        .increment());
+    }
+
+    /**
+     * URI 템플릿에서 baseUrl(스킴/호스트) 을 뺀 경로 (템플릿이 없으면 실제 경로)
+     */
+    private static String endpoint(ClientRequest request) {
+        return request.attribute(URI_TEMPLATE_ATTRIBUTE)
+                .map(template -> template.toString().replaceFirst("^[a-zA-Z][a-zA-Z0-9+.-]*://[^/]*", ""))
+                .orElse(request.url().getPath());
+    }
+
+    private static boolean isTimeout(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof TimeoutException || t instanceof ReadTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
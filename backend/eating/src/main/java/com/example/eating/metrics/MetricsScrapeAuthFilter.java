@@ -0,0 +1,59 @@
+package com.example.eating.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * /actuator/prometheus 는 수집기와 공유한 값(Authorization: Bearer ...)이 있어야 응답
+ * - 값이 비어 있으면 모두 거부 (health 는 로드밸런서 확인용이라 열어 둠)
+ */
+@Slf4j
+@Component
+public class MetricsScrapeAuthFilter extends OncePerRequestFilter {
+
+    private static final String PROMETHEUS_PATH = "/actuator/prometheus";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    @Value("${metrics.scrape.secret:}")
+    private String secret;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().equals(request.getContextPath() + PROMETHEUS_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        if (!authorized(request.getHeader(HttpHeaders.AUTHORIZATION))) {
+            log.warn("event=metrics_scrape_rejected ip={}", request.getRemoteAddr());
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean authorized(String authorization) {
+        if (secret.isBlank() || authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+                secret.getBytes(StandardCharsets.UTF_8),
+                authorization.substring(BEARER_PREFIX.length()).trim().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.eating.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 채팅 API 호출 제한
+ * - 사용자 버킷(모든 채팅 엔드포인트 합산) / 세션 버킷을 모두 통과해야 허용
+ * - 세션 버킷 키에 userId 를 포함: 남의 sessionId 로 호출해도(소유 확인 전에 거절되더라도)
+ *   호출한 사용자 자신의 버킷만 줄고 세션 주인의 버킷은 그대로
+ * - 초과 시 429 + Retry-After
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRateLimiter {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chat.rate-limit.user-capacity:20}")
+    private double userCapacity;
+
+    @Value("${chat.rate-limit.user-refill-per-minute:30}")
+    private double userRefillPerMinute;
+
+    @Value("${chat.rate-limit.session-capacity:10}")
+    private double sessionCapacity;
+
+    @Value("${chat.rate-limit.session-refill-per-minute:15}")
+    private double sessionRefillPerMinute;
+
+    @Value("${chat.rate-limit.idle-evict-minutes:10}")
+    private long idleEvictMinutes;
+
+    /**
+     * userId -> 버킷
+     */
+    private final Map<Long, TokenBucket> userBuckets = new ConcurrentHashMap<>();
+
+    /**
+     * userId:sessionId -> 버킷
+     */
+    private final Map<String, TokenBucket> sessionBuckets = new ConcurrentHashMap<>();
+
+    /**
+     * endpoint -> 거절 횟수
+     */
+    private final Map<String, LongAdder> throttledByEndpoint = new ConcurrentHashMap<>();
+
+    /**
+     * 세션 버킷을 먼저 확인하고, 사용자 버킷이 거절하면 세션 토큰을 돌려줌
+     * - 한 세션이 세션 한도에 걸려도 사용자의 다른 세션 몫은 줄지 않음
+     */
+    public void check(String endpoint, Long userId, String sessionId) {
+        TokenBucket sessionBucket = sessionId == null ? null : sessionBuckets.computeIfAbsent(
+                userId + ":" + sessionId, k -> new TokenBucket(sessionCapacity, sessionRefillPerMinute));
+        Duration retryAfter = sessionBucket == null ? Duration.ZERO : tryConsume(sessionBucket);
+
+        if (retryAfter.isZero()) {
+            retryAfter = tryConsume(
+                    userBuckets.computeIfAbsent(userId, k -> new TokenBucket(userCapacity, userRefillPerMinute)));
+            if (!retryAfter.isZero() && sessionBucket != null) {
+                sessionBucket.refund();
+            }
+        }
+
+        if (!retryAfter.isZero()) {
+            throttledByEndpoint.computeIfAbsent(endpoint, k -> new LongAdder()).increment();
+            meterRegistry.counter("chat.rate_limit.throttled", "endpoint", endpoint).increment();
+            log.warn("event=chat_throttled endpoint={} userId={} sessionId={} retryAfterMs={}",
+                    endpoint, userId, sessionId, retryAfter.toMillis());
+            throw new TooManyRequestsException("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", retryAfter);
+        }
+    }
+
+    /**
+     * 엔드포인트별 누적 거절 횟수 (읽기 전용)
+     */
+    public Map<String, Long> getThrottledByEndpoint() {
+        Map<String, Long> snapshot = new HashMap<>();
+        throttledByEndpoint.forEach((endpoint, count) -> snapshot.put(endpoint, count.sum()));
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    /**
+     * @return 성공 시 Duration.ZERO, 실패 시 다음 토큰까지 남은 시간
+     */
+    private static Duration tryConsume(TokenBucket bucket) {
+        return bucket.tryConsume() ? Duration.ZERO : bucket.timeUntilRefill();
+    }
+
+    /**
+     * 유휴 버킷 제거 (다시 만들면 가득 찬 상태로 시작하므로 충분히 쉰 버킷만)
+     */
+    @Scheduled(fixedDelayString = "${chat.rate-limit.evict-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        Duration idleAfter = Duration.ofMinutes(idleEvictMinutes);
+        int before = userBuckets.size() + sessionBuckets.size();
+        userBuckets.values().removeIf(bucket -> bucket.idleTime().compareTo(idleAfter) > 0);
+        sessionBuckets.values().removeIf(bucket -> bucket.idleTime().compareTo(idleAfter) > 0);
+        int evicted = before - (userBuckets.size() + sessionBuckets.size());
+        if (evicted > 0) {
+            log.info("event=chat_rate_limit_evicted count={} remaining={} throttled={}",
+                    evicted, userBuckets.size() + sessionBuckets.size(), throttledByEndpoint);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.eating.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free 토큰 버킷
+ * - 상태(토큰 수, 마지막 리필 시각)를 하나의 불변 객체로 묶어 CAS로 교체
+ */
+public class TokenBucket {
+
+    private final double capacity;
+    private final double refillPerNano;
+
+    private final AtomicReference<State> state;
+
+    /**
+     * @param capacity        최대 버스트 크기
+     * @param refillPerMinute 분당 충전되는 토큰 수
+     */
+    public TokenBucket(double capacity, double refillPerMinute) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerMinute / Duration.ofMinutes(1).toNanos();
+        this.state = new AtomicReference<>(new State(capacity, System.nanoTime()));
+    }
+
+    public boolean tryConsume() {
+        while (true) {
+            State current = state.get();
+            long now = System.nanoTime();
+            double tokens = refill(current, now);
+
+            if (tokens < 1) {
+                // 리필만 반영해 두고 실패 (마지막 접근 시각 갱신 겸)
+                if (state.compareAndSet(current, new State(tokens, now))) {
+                    return false;
+                }
+                continue;
+            }
+
+            if (state.compareAndSet(current, new State(tokens - 1, now))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * tryConsume 으로 가져간 토큰 1개 반환 (함께 확인한 다른 버킷이 거절한 경우)
+     */
+    public void refund() {
+        while (true) {
+            State current = state.get();
+            long now = System.nanoTime();
+            if (state.compareAndSet(current, new State(Math.min(capacity, refill(current, now) + 1), now))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 다음 토큰 1개가 찰 때까지 남은 시간
+     */
+    public Duration timeUntilRefill() {
+        State current = state.get();
+        double tokens = refill(current, System.nanoTime());
+        if (tokens >= 1) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos((long) Math.ceil((1 - tokens) / refillPerNano));
+    }
+
+    /**
+     * 마지막 접근 이후 경과 시간 (유휴 버킷 정리용)
+     */
+    public Duration idleTime() {
+        return Duration.ofNanos(System.nanoTime() - state.get().updatedAtNanos);
+    }
+
+    private double refill(State current, long now) {
+        double refilled = current.tokens + (now - current.updatedAtNanos) * refillPerNano;
+        return Math.min(capacity, refilled);
+    }
+
+    private record State(double tokens, long updatedAtNanos) {
+    }
+}
@@ -3,13 +3,17 @@ package com.example.eating.repository;
 import com.example.eating.domain.Recipe;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface RecipeRepository extends JpaRepository<Recipe, Long> {
 
-    List<Recipe> findByUser_IdOrderByCreatedAtDesc(Long userId);
+    // 파생 쿼리는 user 를 left join 한 뒤 u.id 로 걸러 idx_recipe_user_created 를 못 탐 → FK 컬럼으로 직접 비교
+    @Query("select r from Recipe r where r.user.id = :userId order by r.createdAt desc")
+    List<Recipe> findByUser_IdOrderByCreatedAtDesc(@Param("userId") Long userId);
 
     // n+1 방지 단일 조회 메서드 아직 사용 x
     @EntityGraph(attributePaths = {
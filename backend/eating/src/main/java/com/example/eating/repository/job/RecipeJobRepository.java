@@ -0,0 +1,44 @@
+package com.example.eating.repository.job;
+
+import com.example.eating.domain.job.RecipeJob;
+import com.example.eating.domain.job.RecipeJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface RecipeJobRepository extends JpaRepository<RecipeJob, Long> {
+
+    /**
+     * jobId로 작업 조회 (FastAPI 콜백/폴링 연동)
+     */
+    Optional<RecipeJob> findByJobId(String jobId);
+
+    /**
+     * 사용자별 진행 중 작업 목록
+     */
+    List<RecipeJob> findByUserIdAndStatusInOrderByCreatedAtAsc(
+            Long userId,
+            Collection<RecipeJobStatus> statuses
+    );
+
+    /**
+     * 사용자별 동시 실행 작업 수 (동시성 제한용)
+     */
+    long countByUserIdAndStatusIn(
+            Long userId,
+            Collection<RecipeJobStatus> statuses
+    );
+
+    /**
+     * 인스턴스별 작업 조회 (재시작 후 자기 대기열/실행 슬롯 복구용)
+     */
+    List<RecipeJob> findByNodeIdAndStatusIn(String nodeId, Collection<RecipeJobStatus> statuses);
+
+    /**
+     * 오래된 작업 조회 (사라진 인스턴스가 남긴 대기 작업 정리용)
+     */
+    List<RecipeJob> findByStatusAndCreatedAtBefore(RecipeJobStatus status, LocalDateTime before);
+}
@@ -0,0 +1,11 @@
+package com.example.eating.repository.media;
+
+import com.example.eating.domain.media.MediaObject;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface MediaObjectRepository extends JpaRepository<MediaObject, Long> {
+
+    Optional<MediaObject> findByContentHash(String contentHash);
+}
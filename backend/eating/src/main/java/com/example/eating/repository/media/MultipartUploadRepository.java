@@ -0,0 +1,7 @@
+package com.example.eating.repository.media;
+
+import com.example.eating.domain.media.MultipartUpload;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface MultipartUploadRepository extends JpaRepository<MultipartUpload, String> {
+}
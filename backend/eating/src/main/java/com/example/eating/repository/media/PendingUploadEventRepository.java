@@ -0,0 +1,42 @@
+package com.example.eating.repository.media;
+
+import com.example.eating.domain.media.PendingUploadEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface PendingUploadEventRepository extends JpaRepository<PendingUploadEvent, Long> {
+
+    /**
+     * 다시 처리할 알림 (실패 후 대기 시간이 지났거나 재시작 전에 처리하지 못한 것)
+     */
+    List<PendingUploadEvent> findByAvailableAtBeforeAndAttemptsLessThanOrderByIdAsc(
+            LocalDateTime now, int maxAttempts, Pageable pageable);
+
+    Optional<PendingUploadEvent> findByS3Key(String s3Key);
+
+    /**
+     * 다른 인스턴스가 먼저 가져갔으면 0 (availableAt 이 읽은 값과 다름)
+     */
+    @Transactional
+    @Modifying
+    @Query("update PendingUploadEvent e set e.availableAt = :next where e.id = :id and e.availableAt = :seen")
+    int claim(@Param("id") Long id, @Param("seen") LocalDateTime seen, @Param("next") LocalDateTime next);
+
+    @Transactional
+    @Modifying
+    @Query("update PendingUploadEvent e set e.attempts = e.attempts + 1, e.availableAt = :next where e.s3Key = :key")
+    int recordFailure(@Param("key") String s3Key, @Param("next") LocalDateTime next);
+
+    @Transactional
+    @Modifying
+    @Query("delete from PendingUploadEvent e where e.s3Key = :key")
+    int deleteByKey(@Param("key") String s3Key);
+}
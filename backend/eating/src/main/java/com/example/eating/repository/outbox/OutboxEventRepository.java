@@ -0,0 +1,38 @@
+package com.example.eating.repository.outbox;
+
+import com.example.eating.domain.outbox.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 릴레이: 커서 이후 이벤트를 id 순으로
+     */
+    List<OutboxEvent> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    /**
+     * 릴레이: 커서보다 작은 id 중 늦게 커밋된 이벤트 확인용
+     */
+    List<OutboxEvent> findByIdInOrderByIdAsc(Collection<Long> ids);
+
+    /**
+     * 재연결 구독자에게 Last-Event-ID 이후 이벤트 재전송
+     */
+    List<OutboxEvent> findByChannelAndIdGreaterThanOrderByIdAsc(String channel, Long id, Pageable pageable);
+
+    @Query("select max(e.id) from OutboxEvent e")
+    Optional<Long> findMaxId();
+
+    @Modifying
+    @Query("delete from OutboxEvent e where e.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
@@ -2,35 +2,77 @@ package com.example.eating.service;
 
 import org.springframework.stereotype.Service;
 
+import com.example.eating.auth.AuthTokenSigner;
 import com.example.eating.domain.User;
 import com.example.eating.dto.request.auth.LoginDto;
 import com.example.eating.dto.response.auth.LoginResponse;
 import com.example.eating.repository.UserRepository;
+import com.example.eating.service.auth.LoginThrottle;
+import com.example.eating.service.auth.PasswordHasher;
+import com.example.eating.service.auth.VerifiedCredentialCache;
+import com.example.eating.service.auth.VerifiedCredentialCache.VerifiedUser;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+import java.util.Optional;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
     private final UserRepository userRepository;
+    private final PasswordHasher passwordHasher;
+    private final LoginThrottle loginThrottle;
+    private final VerifiedCredentialCache verifiedCredentialCache;
+    private final AuthTokenSigner authTokenSigner;
 
-    public LoginResponse login(LoginDto dto) {
+    public LoginResponse login(LoginDto dto, String clientIp) {
         String email = dto.getEmail().trim();
         String password = dto.getPassword().trim();
 
-        User savedUser = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("User not found with email: " + email));
+        // 1️⃣ 실패 누적된 email / IP 는 429
+        loginThrottle.check(email, clientIp);
+
+        // 2️⃣ 방금 검증된 자격 증명이면 DB 조회 + 해시 생략
+        Optional<VerifiedUser> cached = verifiedCredentialCache.find(email, password);
+        if (cached.isPresent()) {
+            loginThrottle.recordSuccess(email);
+            return success(cached.get());
+        }
 
-        if (!savedUser.getEmail().equals(email) || !savedUser.getPassword().equals(password)) {
+        // 3️⃣ DB 조회 + 해시 비교 (전용 스레드)
+        // 없는 계정도 같은 메시지 + 같은 해시 비용 (가입 여부가 드러나지 않도록)
+        User savedUser = userRepository.findByEmail(email).orElse(null);
+        String storedPassword = savedUser != null ? savedUser.getPassword() : null;
+        if (!passwordHasher.matches(password, storedPassword) || savedUser == null) {
+            loginThrottle.recordFailure(email, clientIp);
             throw new IllegalArgumentException("Invalid login credentials");
         }
 
+        // 4️⃣ 평문 저장분 / cost 변경분은 로그인 성공 시 재해시
+        if (passwordHasher.needsRehash(savedUser.getPassword())) {
+            savedUser.changePassword(passwordHasher.hash(password));
+            userRepository.save(savedUser);
+            verifiedCredentialCache.invalidate(savedUser.getEmail());
+            log.info("event=password_rehashed userId={}", savedUser.getId());
+        }
+
+        VerifiedUser verified = new VerifiedUser(savedUser.getId(), savedUser.getEmail(), savedUser.getNickname());
+        verifiedCredentialCache.put(password, verified);
+        loginThrottle.recordSuccess(email);
+
         // 로그인 성공 응답 반환
+        return success(verified);
+    }
+
+    private LoginResponse success(VerifiedUser user) {
         return LoginResponse.builder()
                 .isLoginSuccess(true)
-                .email(email)
-                .nickname(savedUser.getNickname())
+                .email(user.email())
+                .nickname(user.nickname())
+                .accessToken(authTokenSigner.issue(user.userId(), user.email()))
                 .build();
     }
 }
@@ -0,0 +1,196 @@
+package com.example.eating.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 미리 서명해 둔 단일 PUT 업로드 슬롯 풀
+ * - 요청 스레드에서 SigV4 서명을 하지 않고 큐에서 꺼내기만 함
+ * - Content-Type 이 서명에 포함되므로 자주 쓰는 타입별로 따로 보관, 그 외 타입은 즉시 서명
+ * - 슬롯은 slot-expiry 로 서명하고, 남은 유효시간이 presign-expiry 보다 짧아지면 버림
+ *   → 클라이언트는 항상 기존과 같은 최소 유효시간을 받음
+ * - 서명 키(날짜/리전 단위 파생 키)는 SDK 서명기가 캐시하므로 S3Presigner 하나를 재사용하고
+ *   기동 직후 채우기로 자격 증명/엔드포인트 해석과 첫 키 파생을 미리 끝냄
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PresignedUploadSlotPool {
+
+    static final String KEY_PREFIX = "recipes/";
+
+    private final S3Presigner s3Presigner;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${aws.s3.bucket}")
+    private String bucket;
+
+    @Value("${aws.s3.presign-expiry-minutes:5}")
+    private long presignExpiryMinutes;
+
+    @Value("${aws.s3.slot-pool.enabled:true}")
+    private boolean enabled;
+
+    @Value("${aws.s3.slot-pool.content-types:image/jpeg,image/png,video/mp4}")
+    private String contentTypes;
+
+    @Value("${aws.s3.slot-pool.size-per-type:50}")
+    private int sizePerType;
+
+    @Value("${aws.s3.slot-pool.slot-expiry-minutes:15}")
+    private long slotExpiryMinutes;
+
+    /**
+     * contentType -> 오래된 슬롯이 앞쪽
+     */
+    private final Map<String, ConcurrentLinkedDeque<Slot>> slots = new ConcurrentHashMap<>();
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    public record Slot(String key, String uploadUrl, Instant expiresAt) {
+    }
+
+    @PostConstruct
+    void init() {
+        if (slotExpiryMinutes <= presignExpiryMinutes) {
+            throw new IllegalStateException("aws.s3.slot-pool.slot-expiry-minutes 는 presign-expiry-minutes 보다 커야 합니다.");
+        }
+
+        if (enabled) {
+            Arrays.stream(contentTypes.split(","))
+                    .map(String::trim)
+                    .filter(type -> !type.isEmpty())
+                    .forEach(type -> slots.put(type, new ConcurrentLinkedDeque<>()));
+        }
+
+        meterRegistry.gauge("s3.presign.slot_pool.size", size);
+    }
+
+    /**
+     * 풀에 있으면 꺼내고, 없거나 풀 대상 타입이 아니면 요청 스레드에서 서명
+     */
+    public Slot take(String contentType) {
+        Optional<Slot> pooled = poll(contentType);
+        meterRegistry.counter("s3.presign.slot", "result", pooled.isPresent() ? "hit" : "miss").increment();
+
+        return pooled.orElseGet(() -> sign(contentType, Duration.ofMinutes(presignExpiryMinutes)));
+    }
+
+    Optional<Slot> poll(String contentType) {
+        ConcurrentLinkedDeque<Slot> deque = contentType == null ? null : slots.get(contentType);
+        if (deque == null) {
+            return Optional.empty();
+        }
+
+        Instant usableUntil = usableUntil();
+        Slot slot;
+        while ((slot = deque.pollFirst()) != null) {
+            size.decrementAndGet();
+            if (slot.expiresAt().isAfter(usableUntil)) {
+                return Optional.of(slot);
+            }
+        }
+        return Optional.empty();
+    }
+
+    void offer(String contentType, Slot slot) {
+        slots.get(contentType).addLast(slot);
+        size.incrementAndGet();
+    }
+
+    /**
+     * 만료가 가까운 슬롯을 버리고 타입별 목표 개수까지 다시 채움
+     */
+    @Scheduled(fixedDelayString = "${aws.s3.slot-pool.refill-interval-ms:1000}")
+    public void refill() {
+        Instant usableUntil = usableUntil();
+        int discarded = 0;
+        int signed = 0;
+
+        for (Map.Entry<String, ConcurrentLinkedDeque<Slot>> entry : slots.entrySet()) {
+            ConcurrentLinkedDeque<Slot> deque = entry.getValue();
+
+            Slot oldest;
+            while ((oldest = deque.peekFirst()) != null && !oldest.expiresAt().isAfter(usableUntil)) {
+                if (deque.remove(oldest)) {
+                    size.decrementAndGet();
+                    discarded++;
+                }
+            }
+
+            while (deque.size() < sizePerType) {
+                offer(entry.getKey(), sign(entry.getKey(), Duration.ofMinutes(slotExpiryMinutes)));
+                signed++;
+            }
+        }
+
+        if (discarded > 0) {
+            meterRegistry.counter("s3.presign.slot_pool.discarded").increment(discarded);
+        }
+        if (signed > 0) {
+            log.debug("event=presign_slots_refilled signed={} discarded={} size={}", signed, discarded, size.get());
+        }
+    }
+
+    /**
+     * aws.s3.slot-pool.prewarm=false 면 호출되지 않음 → 지연 초기화된 풀이 기동 시 생성되지 않음 (fast-startup 프로필)
+     */
+    @EventListener(value = ApplicationReadyEvent.class,
+            condition = "@environment.getProperty('aws.s3.slot-pool.prewarm', 'true') == 'true'")
+    public void prewarm() {
+        if (slots.isEmpty()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            refill();
+            log.info("event=presign_slots_prewarmed size={} tookMs={}", size.get(), (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            // 서명 실패해도 요청 시 즉시 서명으로 동작
+            log.warn("event=presign_slots_prewarm_failed error={}", e.getMessage());
+        }
+    }
+
+    Slot sign(String contentType, Duration expiry) {
+        String key = KEY_PREFIX + UUID.randomUUID();
+
+        PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
+                .signatureDuration(expiry)
+                .putObjectRequest(PutObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(contentType)
+                        .build())
+                .build();
+
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(presignRequest);
+
+        return new Slot(key, presigned.url().toString(), presigned.expiration());
+    }
+
+    private Instant usableUntil() {
+        return Instant.now().plus(Duration.ofMinutes(presignExpiryMinutes));
+    }
+}
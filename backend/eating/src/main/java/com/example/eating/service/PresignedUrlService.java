@@ -1,23 +1,69 @@
 package com.example.eating.service;
 
+import com.example.eating.auth.AuthPrincipal;
+import com.example.eating.domain.media.MediaObject;
+import com.example.eating.domain.media.MultipartUpload;
+import com.example.eating.dto.request.s3.BatchPresignedUrlRequest;
+import com.example.eating.dto.request.s3.MultipartCompleteRequest;
+import com.example.eating.dto.request.s3.MultipartPartsRequest;
+import com.example.eating.dto.request.s3.MultipartUploadRequest;
 import com.example.eating.dto.request.s3.PresignedUrlRequest;
+import com.example.eating.dto.response.s3.MultipartUploadResponse;
 import com.example.eating.dto.response.s3.PresignedUrlResponse;
+import com.example.eating.repository.media.MediaObjectRepository;
+import com.example.eating.repository.media.MultipartUploadRepository;
+import com.example.eating.service.upload.UploadAnalysisTag;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import org.springframework.web.server.ResponseStatusException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.UploadPartPresignRequest;
 
 import java.time.Duration;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PresignedUrlService {
 
+    private static final String KEY_PREFIX = PresignedUploadSlotPool.KEY_PREFIX;
+
+    /**
+     * 내용 해시 기반 키 (recipes/sha256/<hex>)
+     */
+    private static final String CONTENT_KEY_PREFIX = KEY_PREFIX + "sha256/";
+
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-f]{64}");
+
+    /**
+     * S3 멀티파트 part 번호 상한
+     */
+    private static final int MAX_PART_NUMBER = 10_000;
+
     private final S3Presigner s3Presigner;
+    private final S3Client s3Client;
+    private final PresignedUploadSlotPool slotPool;
+    private final MediaObjectRepository mediaObjectRepository;
+    private final MultipartUploadRepository multipartUploadRepository;
+    private final RecipeJobService recipeJobService;
 
     @Value("${aws.s3.bucket}")
     private String bucket;
@@ -25,37 +71,341 @@ public class PresignedUrlService {
     @Value("${aws.region}")
     private String region;
 
-    public PresignedUrlResponse createPresignedUrl(PresignedUrlRequest dto) {
+    @Value("${aws.s3.endpoint:}")
+    private String endpoint;
 
-        String key = String.format(
-                "recipes/%s",
-                UUID.randomUUID()
-        );
+    @Value("${aws.s3.presign-expiry-minutes:5}")
+    private long presignExpiryMinutes;
 
-        PutObjectRequest objectRequest = PutObjectRequest.builder()
-                .bucket(bucket)
+    @Value("${aws.s3.dedup.enabled:true}")
+    private boolean dedupEnabled;
+
+    @Value("${aws.s3.part-expiry-minutes:60}")
+    private long partExpiryMinutes;
+
+    @Value("${aws.s3.batch-max-files:20}")
+    private int batchMaxFiles;
+
+    /**
+     * principal 은 analyze 요청일 때만 필요 (로그인하지 않은 사진 업로드는 null)
+     */
+    public PresignedUrlResponse createPresignedUrl(AuthPrincipal principal, PresignedUrlRequest dto) {
+        UploadAnalysisTag analysis = dto.isAnalyze() ? reserveAnalysis(principal) : null;
+
+        if (dedupEnabled && dto.getContentSha256() != null && !dto.getContentSha256().isBlank()) {
+            return createContentAddressedUrl(principal, dto, analysis);
+        }
+
+        // 메타데이터가 서명에 들어가야 하므로 분석 요청은 풀을 쓰지 않음
+        if (analysis != null) {
+            return presignPut(newKey(), dto.getContentType(), null, analysis);
+        }
+
+        PresignedUploadSlotPool.Slot slot = slotPool.take(dto.getContentType());
+
+        return PresignedUrlResponse.builder()
+                .uploadUrl(slot.uploadUrl())
+                .fileUrl(fileUrl(slot.key()))
+                .build();
+    }
+
+    /**
+     * 내용 해시 기반 업로드
+     * - 인덱스 → S3 HEAD 순으로 확인해 이미 있으면 업로드 URL 없이 기존 fileUrl 반환
+     * - 없으면 x-amz-checksum-sha256 을 서명에 포함 → 해시와 다른 내용은 S3 가 거부하므로
+     *   다른 사용자가 같은 해시 키에 엉뚱한 파일을 올려둘 수 없음
+     * - 인덱스는 업로드 후 다음 요청이 HEAD 로 확인할 때 기록
+     * - 이미 있는 내용은 업로드 이벤트가 오지 않으므로 분석을 바로 시작
+     * - 분석 요청은 해시 키 대신 고유 키로 올림: 같은 해시 키에 두 사용자가 동시에 올리면
+     *   나중 업로드의 메타데이터가 앞의 것을 덮어 앞 사용자의 분석이 시작되지 않음
+     *   (인덱스는 업로드 이벤트 처리 시 recordContent 로 기록)
+     */
+    private PresignedUrlResponse createContentAddressedUrl(
+            AuthPrincipal principal, PresignedUrlRequest dto, UploadAnalysisTag analysis) {
+        String hash = dto.getContentSha256().toLowerCase(Locale.ROOT);
+        if (!SHA256_HEX.matcher(hash).matches()) {
+            throw new IllegalArgumentException("contentSha256 은 64자리 hex 여야 합니다.");
+        }
+
+        String contentKey = CONTENT_KEY_PREFIX + hash;
+        String existingKey = mediaObjectRepository.findByContentHash(hash)
+                .map(MediaObject::getS3Key)
+                .orElseGet(() -> indexIfUploaded(hash, contentKey, dto.getContentType()) ? contentKey : null);
+
+        if (existingKey != null) {
+            log.info("event=upload_deduplicated key={}", existingKey);
+
+            if (analysis != null) {
+                recipeJobService.startAnalyzeForUpload(principal, analysis.jobId(), fileUrl(existingKey));
+            }
+
+            return PresignedUrlResponse.builder()
+                    .fileUrl(fileUrl(existingKey))
+                    .duplicate(true)
+                    .analysisJobId(analysis == null ? null : analysis.jobId())
+                    .build();
+        }
+
+        String checksum = Base64.getEncoder().encodeToString(HexFormat.of().parseHex(hash));
+        if (analysis != null) {
+            return presignPut(newKey(), dto.getContentType(), checksum, analysis.withContentSha256(hash));
+        }
+        return presignPut(contentKey, dto.getContentType(), checksum, null);
+    }
+
+    /**
+     * 요청 시 서명 (체크섬/분석 메타데이터가 있어 풀의 슬롯을 쓸 수 없는 경우)
+     * - 서명에 포함된 헤더는 uploadHeaders 로 돌려줘 클라이언트가 그대로 보내게 함
+     */
+    private PresignedUrlResponse presignPut(String key, String contentType, String checksumSha256, UploadAnalysisTag analysis) {
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(Duration.ofMinutes(presignExpiryMinutes))
+                .putObjectRequest(PutObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(contentType)
+                        .checksumSHA256(checksumSha256)
+                        .metadata(analysis == null ? null : analysis.toMetadata())
+                        .build())
+                .build());
+
+        Map<String, String> headers = presigned.signedHeaders().entrySet().stream()
+                .filter(header -> !header.getKey().equalsIgnoreCase("host"))
+                .collect(Collectors.toMap(Map.Entry::getKey, header -> String.join(",", header.getValue())));
+
+        return PresignedUrlResponse.builder()
+                .uploadUrl(presigned.url().toString())
+                .fileUrl(fileUrl(key))
+                .uploadHeaders(headers)
+                .analysisJobId(analysis == null ? null : analysis.jobId())
+                .build();
+    }
+
+    private UploadAnalysisTag reserveAnalysis(AuthPrincipal principal) {
+        if (principal == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "로그인이 필요합니다.");
+        }
+        return UploadAnalysisTag.of(principal.userId(), recipeJobService.reserveUploadAnalysis(principal));
+    }
+
+    private boolean indexIfUploaded(String hash, String key, String contentType) {
+        try {
+            s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build());
+        } catch (NoSuchKeyException e) {
+            return false;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return false;
+            }
+            throw e;
+        }
+
+        recordContent(hash, key, contentType);
+        return true;
+    }
+
+    /**
+     * 내용 해시 인덱스 기록 (이미 있으면 먼저 기록된 키를 유지)
+     */
+    public void recordContent(String hash, String key, String contentType) {
+        try {
+            mediaObjectRepository.save(MediaObject.builder()
+                    .contentHash(hash)
+                    .s3Key(key)
+                    .contentType(contentType)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 동시 요청이 먼저 기록함
+            log.debug("event=media_index_exists hash={}", hash);
+        }
+    }
+
+    /**
+     * 사진 여러 장을 한 번의 호출로
+     */
+    public List<PresignedUrlResponse> createPresignedUrls(AuthPrincipal principal, BatchPresignedUrlRequest dto) {
+        List<PresignedUrlRequest> files = dto.getFiles();
+        if (files == null || files.isEmpty()) {
+            throw new IllegalArgumentException("업로드할 파일이 없습니다.");
+        }
+        if (files.size() > batchMaxFiles) {
+            throw new IllegalArgumentException("한 번에 최대 " + batchMaxFiles + "개까지 업로드할 수 있습니다.");
+        }
+
+        return files.stream()
+                .map(file -> createPresignedUrl(principal, file))
+                .toList();
+    }
+
+    /**
+     * 멀티파트 업로드 시작 + part URL 일괄 발급
+     * - 클라이언트는 part 들을 S3 로 병렬 PUT 하고 ETag 를 모아 complete 호출
+     * - uploadId 의 소유자를 기록해 이후 parts/complete/abort 는 같은 사용자만 호출 가능
+     */
+    public MultipartUploadResponse initiateMultipart(AuthPrincipal principal, MultipartUploadRequest dto) {
+        if (dto.getPartCount() < 1 || dto.getPartCount() > MAX_PART_NUMBER) {
+            throw new IllegalArgumentException("part 수는 1 ~ " + MAX_PART_NUMBER + " 사이여야 합니다.");
+        }
+
+        UploadAnalysisTag analysis = dto.isAnalyze() ? reserveAnalysis(principal) : null;
+        String key = newKey();
+
+        CreateMultipartUploadResponse created = s3Client.createMultipartUpload(
+                CreateMultipartUploadRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(dto.getContentType())
+                        .metadata(analysis == null ? null : analysis.toMetadata())
+                        .build());
+
+        multipartUploadRepository.save(MultipartUpload.builder()
+                .uploadId(created.uploadId())
+                .s3Key(key)
+                .userId(principal.userId())
+                .build());
+
+        log.info("event=multipart_initiated key={} uploadId={} parts={}", key, created.uploadId(), dto.getPartCount());
+
+        return MultipartUploadResponse.builder()
                 .key(key)
-                .contentType(dto.getContentType())
+                .uploadId(created.uploadId())
+                .fileUrl(fileUrl(key))
+                .parts(presignParts(key, created.uploadId(),
+                        IntStream.rangeClosed(1, dto.getPartCount()).boxed().toList()))
+                .analysisJobId(analysis == null ? null : analysis.jobId())
                 .build();
+    }
 
-        PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
-                .signatureDuration(Duration.ofMinutes(5))
-                .putObjectRequest(objectRequest)
+    public MultipartUploadResponse presignParts(AuthPrincipal principal, MultipartPartsRequest dto) {
+        validateKey(dto.getKey());
+        requireOwnedUpload(principal, dto.getKey(), dto.getUploadId());
+
+        return MultipartUploadResponse.builder()
+                .key(dto.getKey())
+                .uploadId(dto.getUploadId())
+                .fileUrl(fileUrl(dto.getKey()))
+                .parts(presignParts(dto.getKey(), dto.getUploadId(), dto.getPartNumbers()))
                 .build();
+    }
+
+    public MultipartUploadResponse completeMultipart(AuthPrincipal principal, MultipartCompleteRequest dto) {
+        validateKey(dto.getKey());
+        MultipartUpload upload = requireOwnedUpload(principal, dto.getKey(), dto.getUploadId());
+        if (dto.getParts() == null || dto.getParts().isEmpty()) {
+            throw new IllegalArgumentException("완료할 part 가 없습니다.");
+        }
+
+        List<CompletedPart> parts = dto.getParts().stream()
+                .sorted(Comparator.comparingInt(MultipartCompleteRequest.Part::getPartNumber))
+                .map(part -> CompletedPart.builder()
+                        .partNumber(part.getPartNumber())
+                        .eTag(part.getEtag())
+                        .build())
+                .toList();
+
+        s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(dto.getKey())
+                .uploadId(dto.getUploadId())
+                .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                .build());
+        multipartUploadRepository.delete(upload);
+
+        log.info("event=multipart_completed key={} uploadId={} parts={}", dto.getKey(), dto.getUploadId(), parts.size());
+
+        return MultipartUploadResponse.builder()
+                .key(dto.getKey())
+                .uploadId(dto.getUploadId())
+                .fileUrl(fileUrl(dto.getKey()))
+                .parts(List.of())
+                .build();
+    }
+
+    /**
+     * 중단하지 않으면 업로드된 part 가 S3 에 남아 과금됨
+     */
+    public void abortMultipart(AuthPrincipal principal, MultipartCompleteRequest dto) {
+        validateKey(dto.getKey());
+        MultipartUpload upload = requireOwnedUpload(principal, dto.getKey(), dto.getUploadId());
 
-        PresignedPutObjectRequest presigned =
-                s3Presigner.presignPutObject(presignRequest);
+        s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(dto.getKey())
+                .uploadId(dto.getUploadId())
+                .build());
+        multipartUploadRepository.delete(upload);
+
+        log.info("event=multipart_aborted key={} uploadId={}", dto.getKey(), dto.getUploadId());
+    }
+
+    private List<MultipartUploadResponse.PartUploadUrl> presignParts(String key, String uploadId, List<Integer> partNumbers) {
+        if (partNumbers == null || partNumbers.isEmpty()) {
+            throw new IllegalArgumentException("part 번호가 없습니다.");
+        }
+
+        return partNumbers.stream()
+                .map(partNumber -> {
+                    if (partNumber < 1 || partNumber > MAX_PART_NUMBER) {
+                        throw new IllegalArgumentException("잘못된 part 번호입니다: " + partNumber);
+                    }
+
+                    UploadPartPresignRequest presignRequest = UploadPartPresignRequest.builder()
+                            .signatureDuration(Duration.ofMinutes(partExpiryMinutes))
+                            .uploadPartRequest(UploadPartRequest.builder()
+                                    .bucket(bucket)
+                                    .key(key)
+                                    .uploadId(uploadId)
+                                    .partNumber(partNumber)
+                                    .build())
+                            .build();
+
+                    return MultipartUploadResponse.PartUploadUrl.builder()
+                            .partNumber(partNumber)
+                            .uploadUrl(s3Presigner.presignUploadPart(presignRequest).url().toString())
+                            .build();
+                })
+                .toList();
+    }
+
+    /**
+     * 다른 사용자의 uploadId 로 part 를 더 올리거나 완료/중단하지 못하게 함
+     * - 키도 시작 시 발급한 것과 같아야 함 (uploadId 는 키별로 발급됨)
+     */
+    private MultipartUpload requireOwnedUpload(AuthPrincipal principal, String key, String uploadId) {
+        MultipartUpload upload = uploadId == null ? null : multipartUploadRepository.findById(uploadId).orElse(null);
+        if (upload == null || !upload.getS3Key().equals(key)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "업로드가 존재하지 않습니다.");
+        }
+        if (!upload.isOwnedBy(principal.userId())) {
+            log.warn("event=multipart_access_denied uploadId={} userId={}", uploadId, principal.userId());
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "업로드 접근 권한이 없습니다.");
+        }
+        return upload;
+    }
 
-        String fileUrl = String.format(
+    private String newKey() {
+        return KEY_PREFIX + UUID.randomUUID();
+    }
+
+    /**
+     * 이 서비스가 발급한 키만 완료/중단 가능
+     */
+    private void validateKey(String key) {
+        if (key == null || !key.startsWith(KEY_PREFIX) || key.contains("..")) {
+            throw new IllegalArgumentException("잘못된 업로드 키입니다.");
+        }
+    }
+
+    public String fileUrl(String key) {
+        if (!endpoint.isBlank()) {
+            return String.format("%s/%s/%s", endpoint, bucket, key);
+        }
+
+        return String.format(
                 "https://%s.s3.%s.amazonaws.com/%s",
                 bucket,
                 region,
                 key
         );
-
-        return PresignedUrlResponse.builder()
-                .uploadUrl(presigned.url().toString())
-                .fileUrl(fileUrl)
-                .build();
     }
-}
\ No newline at end of file
+}
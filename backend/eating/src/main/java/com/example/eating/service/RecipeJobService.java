@@ -1,15 +1,34 @@
 package com.example.eating.service;
 
+import com.example.eating.auth.AuthPrincipal;
+import com.example.eating.domain.job.RecipeJob;
+import com.example.eating.domain.job.RecipeJobStatus;
 import com.example.eating.dto.request.recipe.RecipeExtractRequest;
+import com.example.eating.dto.response.job.JobTimelineResponse;
 import com.example.eating.dto.response.job.RecipeJobCreateResponse;
+import com.example.eating.dto.response.job.RecipeJobResponse;
 import com.example.eating.dto.response.job.RecipeJobStatusResponse;
 import com.example.eating.dto.response.recipe.RecipeResponse;
 import com.example.eating.dto.request.recipe.RecipeResultPayload;
+import com.example.eating.ratelimit.TooManyRequestsException;
+import com.example.eating.service.job.RecipeJobAdmission;
+import com.example.eating.service.job.RecipeJobRegistry;
+import com.example.eating.service.job.RecipeJobState;
+import com.example.eating.service.job.RecipeJobStateCache;
+import com.example.eating.tracing.JobTraceRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -17,62 +36,184 @@ public class RecipeJobService {
 
     private final WebClient fastApiClient;
     private final RecipeService recipeService;
+    private final RecipeJobStateCache jobStateCache;
+    private final RecipeJobRegistry recipeJobRegistry;
+    private final RecipeJobAdmission recipeJobAdmission;
+    private final MeterRegistry meterRegistry;
+    private final JobTraceRecorder jobTraceRecorder;
 
     public RecipeJobCreateResponse startAnalyze(
-            String email,
+            AuthPrincipal principal,
             RecipeExtractRequest request
     ) {
-        Map<String, Object> response =
-                fastApiClient.post()
-                        .uri("/api/analyze")
-                        .header("email", email)
-                        .bodyValue(request)
-                        .retrieve()
-                        .bodyToMono(Map.class)
-                        .block();
+        recipeJobAdmission.checkRate(principal.email());
+
+        // jobId는 Spring이 발급 (대기열에 있는 동안에도 SSE 구독/폴링 가능)
+        return enqueue(principal, UUID.randomUUID().toString(), request.getUrl());
+    }
+
+    /**
+     * 업로드 후 자동 분석용 jobId 예약 (presign 시점에 요청 속도 확인)
+     */
+    public String reserveUploadAnalysis(AuthPrincipal principal) {
+        recipeJobAdmission.checkRate(principal.email());
+        return UUID.randomUUID().toString();
+    }
+
+    /**
+     * 업로드 완료로 분석 시작 (jobId 는 reserveUploadAnalysis 에서 발급된 값)
+     * - 같은 업로드 이벤트가 여러 번 와도 한 번만 시작
+     */
+    public Optional<RecipeJobCreateResponse> startAnalyzeForUpload(
+            AuthPrincipal principal,
+            String jobId,
+            String url
+    ) {
+        if (recipeJobRegistry.isRegistered(jobId)) {
+            return Optional.empty();
+        }
+        return Optional.of(enqueue(principal, jobId, url));
+    }
+
+    private RecipeJobCreateResponse enqueue(AuthPrincipal principal, String jobId, String url) {
+        String email = principal.email();
+
+        recipeJobRegistry.register(principal.userId(), jobId, url);
+        jobStateCache.register(jobId, email, "queued");
+        jobTraceRecorder.start(jobId);
+
+        long queuePosition;
+        try {
+            queuePosition = recipeJobAdmission.submit(email, jobId, url);
+        } catch (TooManyRequestsException e) {
+            recipeJobRegistry.markFailed(jobId, e.getReason());
+            jobStateCache.markFailed(jobId, e.getReason());
+            throw e;
+        }
 
         return RecipeJobCreateResponse.builder()
-                .jobId((String) response.get("job_id"))
-                .status((String) response.get("status"))
+                .jobId(jobId)
+                .status("queued")
+                .queuePosition(queuePosition)
                 .build();
     }
 
     public RecipeJobStatusResponse getStatus(
-            String userKey,
+            AuthPrincipal principal,
             String jobId
     ) {
+        String email = principal.email();
+
+        // 소유자가 확인된 캐시 엔트리면 DB/FastAPI 모두 거치지 않음
+        RecipeJobState state = jobStateCache.findFresh(jobId)
+                .filter(s -> email.equals(s.getEmail()))
+                .orElse(null);
+
+        if (state != null) {
+            return toStatusResponse(state, recipeJobAdmission.getQueuePosition(jobId));
+        }
+
+        // 캐시 미스: 소유권 확인 후 DB 기록으로 응답, 실행 중인데 기록이 오래됐을 때만 FastAPI 폴백
+        RecipeJob job = recipeJobRegistry.getOwnedJob(principal.userId(), jobId);
+        jobStateCache.claim(jobId, email);
+
+        if (job.getStatus() == RecipeJobStatus.QUEUED || job.getStatus().isFinished()) {
+            return toStatusResponse(RecipeJobState.from(job), recipeJobAdmission.getQueuePosition(jobId));
+        }
+
+        return toStatusResponse(fetchStatus(email, jobId), 0);
+    }
+
+    public JobTimelineResponse getTimeline(AuthPrincipal principal, String jobId) {
+        recipeJobRegistry.getOwnedJob(principal.userId(), jobId);
+
+        return jobTraceRecorder.find(jobId)
+                .map(JobTimelineResponse::from)
+                .orElseThrow(() -> new IllegalArgumentException("작업 추적 정보가 없습니다."));
+    }
+
+    public List<RecipeJobResponse> getActiveJobs(AuthPrincipal principal) {
+        return recipeJobRegistry.getActiveJobs(principal.userId()).stream()
+                .map(job -> RecipeJobResponse.from(job, recipeJobAdmission.getQueuePosition(job.getJobId())))
+                .toList();
+    }
+
+    private RecipeJobStatusResponse toStatusResponse(RecipeJobState state, long queuePosition) {
+        return RecipeJobStatusResponse.builder()
+                .jobId(state.getJobId())
+                .status(state.getStatus())
+                .progress(state.getProgress())
+                .step(state.getStep())
+                .message(state.getMessage())
+                .queuePosition(queuePosition)
+                .build();
+    }
+
+    private RecipeJobState fetchStatus(String userKey, String jobId) {
         Map<String, Object> response =
                 fastApiClient.get()
                         .uri("/api/status/{jobId}", jobId)
                         .header("X-USER-KEY", userKey)
                         .retrieve()
                         .bodyToMono(Map.class)
+                        .contextWrite(jobTraceRecorder.observationContext(jobId))
                         .block();
 
-        return RecipeJobStatusResponse.builder()
+        if (response == null) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "분석 서버에서 작업 상태를 받지 못했습니다.");
+        }
+
+        Object progress = response.get("progress");
+        LocalDateTime now = LocalDateTime.now();
+
+        RecipeJobState state = RecipeJobState.builder()
                 .jobId(jobId)
+                .email(userKey)
                 .status((String) response.get("status"))
+                .progress(progress instanceof Number ? ((Number) progress).intValue() : null)
+                .message((String) response.get("message"))
+                .createdAt(now)
+                .updatedAt(now)
                 .build();
+
+        jobStateCache.cacheFallback(state);
+        return state;
     }
 
     public RecipeResponse getResultAndSave(
-            String email,
+            AuthPrincipal principal,
             String jobId
     ) {
+        recipeJobRegistry.getOwnedJob(principal.userId(), jobId);
+
         RecipeResultPayload payload =
                 fastApiClient.get()
                         .uri("/api/result/{jobId}", jobId)
-                        .header("email", email)
+                        .header("email", principal.email())
                         .retrieve()
                         .bodyToMono(RecipeResultPayload.class)
+                        .contextWrite(jobTraceRecorder.observationContext(jobId))
                         .block();
 
         if (payload == null || payload.getRecipe() == null) {
             throw new IllegalStateException("Recipe result is empty");
         }
 
+        // 트랜잭션 커밋까지 포함한 저장 시간
+        Timer saveTimer = Timer.builder("recipe.save")
+                .tag("steps", stepBucket(payload.getRecipe().getSteps()))
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+
         return RecipeResponse.from(
-                recipeService.saveRecipeResult(email, payload)
+                saveTimer.record(() -> recipeService.saveRecipeResult(principal.userId(), jobId, payload))
         );
     }
-}
\ No newline at end of file
+
+    private String stepBucket(List<?> steps) {
+        int size = steps == null ? 0 : steps.size();
+        if (size <= 10) return "0-10";
+        if (size <= 30) return "11-30";
+        return "31+";
+    }
+}
@@ -4,11 +4,14 @@ import com.example.eating.domain.*;
 import com.example.eating.dto.request.recipe.RecipeResultPayload;
 import com.example.eating.repository.RecipeRepository;
 import com.example.eating.repository.UserRepository;
+import com.example.eating.service.outbox.EventOutbox;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -16,15 +19,16 @@ public class RecipeService {
 
     private final UserRepository userRepository;
     private final RecipeRepository recipeRepository;
+    private final EventOutbox eventOutbox;
 
     @Transactional
     public Recipe saveRecipeResult(
-            String email,
+            Long userId,
+            String jobId,
             RecipeResultPayload payload
     ) {
-        User user = userRepository.findByEmail(email).orElseThrow(
-                () -> new RuntimeException("")
-        );
+        // 토큰으로 확인된 userId → 조회 없이 FK 참조만
+        User user = userRepository.getReferenceById(userId);
 
         // 1️⃣ Recipe 생성
         Recipe recipe = new Recipe(user);
@@ -89,6 +93,11 @@ public class RecipeService {
         }
 
         // ✅ 마지막 save
-        return recipeRepository.save(recipe);
+        Recipe saved = recipeRepository.save(recipe);
+
+        // 저장과 같은 트랜잭션 → 커밋된 경우에만 구독자에게 전달
+        eventOutbox.appendJobEvent(jobId, "saved", Map.of("jobId", jobId, "recipeId", saved.getId()), false);
+
+        return saved;
     }
 }
\ No newline at end of file
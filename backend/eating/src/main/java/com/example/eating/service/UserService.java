@@ -6,6 +6,8 @@ import com.example.eating.domain.User;
 import com.example.eating.dto.request.user.SignupDto;
 import com.example.eating.dto.response.user.SignupResponse;
 import com.example.eating.repository.UserRepository;
+import com.example.eating.service.auth.PasswordHasher;
+import com.example.eating.service.auth.VerifiedCredentialCache;
 
 import lombok.RequiredArgsConstructor;
 
@@ -13,12 +15,17 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
+    private final PasswordHasher passwordHasher;
+    private final VerifiedCredentialCache verifiedCredentialCache;
 
     public SignupResponse signup(SignupDto dto) {
+        // 해시 대기열이 차면 429 가 그대로 나가도록 try 밖에서
+        String encodedPassword = passwordHasher.hash(dto.getPassword().trim());
+
         try {
             User user = User.builder()
                     .email(dto.getEmail().trim())
-                    .password(dto.getPassword().trim())
+                    .password(encodedPassword)
                     .nickname(dto.getNickname().trim())
                     .build();
 
@@ -54,6 +61,9 @@ public class UserService {
         if (userId == null) {
             throw new IllegalArgumentException("User ID cannot be null");
         }
+        // 탈퇴한 계정이 캐시된 자격 증명으로 로그인되지 않도록
+        userRepository.findById(userId)
+                .ifPresent(user -> verifiedCredentialCache.invalidate(user.getEmail()));
         userRepository.deleteById(userId);
     }
 }
@@ -0,0 +1,94 @@
+package com.example.eating.service.auth;
+
+import com.example.eating.ratelimit.TooManyRequestsException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 로그인 실패 제한 (email, IP 각각)
+ * - window 안에 max-failures 번 실패하면 lockout 동안 429
+ * - 키 수는 max-entries 로 제한 (가장 오래 안 쓴 키부터 버림)
+ */
+@Slf4j
+@Component
+public class LoginThrottle {
+
+    @Value("${auth.login-throttle.max-failures-per-email:5}")
+    private int maxFailuresPerEmail;
+
+    @Value("${auth.login-throttle.max-failures-per-ip:20}")
+    private int maxFailuresPerIp;
+
+    @Value("${auth.login-throttle.window-seconds:300}")
+    private long windowSeconds;
+
+    @Value("${auth.login-throttle.lockout-seconds:300}")
+    private long lockoutSeconds;
+
+    @Value("${auth.login-throttle.max-entries:100000}")
+    private int maxEntries;
+
+    private static final class Failures {
+        private int count;
+        private long windowStartNanos;
+        private long lockedUntilNanos;
+
+        private Failures(long now) {
+            this.windowStartNanos = now;
+        }
+    }
+
+    private final Map<String, Failures> failuresByKey = new LinkedHashMap<>(1024, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Failures> eldest) {
+            return size() > maxEntries;
+        }
+    };
+
+    public synchronized void check(String email, String clientIp) {
+        long now = System.nanoTime();
+        long lockedFor = Math.max(lockedFor("email:" + email, now), lockedFor("ip:" + clientIp, now));
+
+        if (lockedFor > 0) {
+            log.warn("event=login_throttled email={} ip={} retryAfterMs={}", email, clientIp, lockedFor / 1_000_000);
+            throw new TooManyRequestsException(
+                    "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.", Duration.ofNanos(lockedFor));
+        }
+    }
+
+    public synchronized void recordFailure(String email, String clientIp) {
+        long now = System.nanoTime();
+        fail("email:" + email, maxFailuresPerEmail, now);
+        fail("ip:" + clientIp, maxFailuresPerIp, now);
+    }
+
+    public synchronized void recordSuccess(String email) {
+        failuresByKey.remove("email:" + email);
+    }
+
+    private long lockedFor(String key, long now) {
+        Failures failures = failuresByKey.get(key);
+        return failures == null ? 0 : Math.max(0, failures.lockedUntilNanos - now);
+    }
+
+    private void fail(String key, int maxFailures, long now) {
+        Failures failures = failuresByKey.computeIfAbsent(key, k -> new Failures(now));
+
+        if (now - failures.windowStartNanos > Duration.ofSeconds(windowSeconds).toNanos()) {
+            failures.count = 0;
+            failures.windowStartNanos = now;
+        }
+
+        if (++failures.count >= maxFailures) {
+            failures.lockedUntilNanos = now + Duration.ofSeconds(lockoutSeconds).toNanos();
+            failures.count = 0;
+            failures.windowStartNanos = now;
+            log.warn("event=login_locked key={} lockoutSeconds={}", key, lockoutSeconds);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.eating.service.auth;
+
+import com.example.eating.ratelimit.TooManyRequestsException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시 (BCrypt, cost 설정 가능)
+ * - 해시 계산은 고정 크기 전용 스레드 + 제한된 대기열에서만 수행
+ *   → 로그인 폭주가 CPU 를 다 써서 다른 API 가 굶는 일을 막음
+ * - 대기열이 차면 429
+ * - 없는 계정도 더미 해시와 비교해 응답 시간으로 가입 여부가 드러나지 않게 함
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private static final String BCRYPT_PREFIX = "$2";
+
+    @Value("${auth.password.bcrypt-strength:10}")
+    private int strength;
+
+    @Value("${auth.hashing.threads:2}")
+    private int threads;
+
+    @Value("${auth.hashing.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${auth.hashing.timeout-ms:3000}")
+    private long timeoutMs;
+
+    private BCryptPasswordEncoder encoder;
+    private ThreadPoolExecutor executor;
+    private String dummyHash;
+
+    @PostConstruct
+    void init() {
+        encoder = new BCryptPasswordEncoder(strength);
+        dummyHash = encoder.encode(UUID.randomUUID().toString());
+
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hasher-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    public String hash(String rawPassword) {
+        return run(() -> encoder.encode(rawPassword));
+    }
+
+    /**
+     * BCrypt 가 아닌 기존 평문 저장 값도 비교 (로그인 성공 시 AuthService 가 재해시)
+     * - 저장 값이 없으면(없는 계정) 같은 비용으로 더미 해시와 비교한 뒤 false
+     */
+    public boolean matches(String rawPassword, String storedPassword) {
+        if (storedPassword == null) {
+            run(() -> encoder.matches(rawPassword, dummyHash));
+            return false;
+        }
+        if (!isHashed(storedPassword)) {
+            return MessageDigest.isEqual(
+                    rawPassword.getBytes(StandardCharsets.UTF_8),
+                    storedPassword.getBytes(StandardCharsets.UTF_8));
+        }
+        return run(() -> encoder.matches(rawPassword, storedPassword));
+    }
+
+    /**
+     * 평문이거나 cost 가 바뀐 값이면 재해시 필요
+     */
+    public boolean needsRehash(String storedPassword) {
+        return !isHashed(storedPassword) || encoder.upgradeEncoding(storedPassword);
+    }
+
+    private boolean isHashed(String storedPassword) {
+        return storedPassword.startsWith(BCRYPT_PREFIX);
+    }
+
+    private <T> T run(Supplier<T> work) {
+        Future<T> future;
+        try {
+            future = executor.submit(work::get);
+        } catch (RejectedExecutionException e) {
+            log.warn("event=password_hashing_rejected queued={}", executor.getQueue().size());
+            throw new TooManyRequestsException("로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.", Duration.ofSeconds(1));
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new TooManyRequestsException("로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.", Duration.ofSeconds(1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 확인이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("비밀번호 확인에 실패했습니다.", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
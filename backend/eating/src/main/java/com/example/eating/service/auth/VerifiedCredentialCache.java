@@ -0,0 +1,97 @@
+package com.example.eating.service.auth;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 최근 검증된 (email, 비밀번호) 짧은 캐시
+ * - 같은 자격 증명으로 다시 로그인하면 DB 조회 + BCrypt 생략
+ * - 비밀번호 자체가 아니라 프로세스마다 새로 만드는 키로 HMAC 한 값만 보관
+ * - 비밀번호가 바뀌거나 탈퇴하면 invalidate (다른 인스턴스의 항목은 ttl 로 만료)
+ */
+@Component
+public class VerifiedCredentialCache {
+
+    @Value("${auth.credential-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${auth.credential-cache.max-entries:50000}")
+    private int maxEntries;
+
+    private SecretKeySpec macKey;
+
+    public record VerifiedUser(Long userId, String email, String nickname) {
+    }
+
+    private record Entry(byte[] digest, VerifiedUser user, long expiresAtNanos) {
+    }
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        macKey = new SecretKeySpec(key, "HmacSHA256");
+    }
+
+    public Optional<VerifiedUser> find(String email, String rawPassword) {
+        Entry entry = entries.get(email);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.expiresAtNanos() - System.nanoTime() <= 0) {
+            entries.remove(email, entry);
+            return Optional.empty();
+        }
+        return MessageDigest.isEqual(entry.digest(), digest(email, rawPassword))
+                ? Optional.of(entry.user())
+                : Optional.empty();
+    }
+
+    public void put(String rawPassword, VerifiedUser user) {
+        if (entries.size() >= maxEntries) {
+            evictExpired();
+            if (entries.size() >= maxEntries) {
+                return;
+            }
+        }
+        long expiresAt = System.nanoTime() + Duration.ofSeconds(ttlSeconds).toNanos();
+        entries.put(user.email(), new Entry(digest(user.email(), rawPassword), user, expiresAt));
+    }
+
+    public void invalidate(String email) {
+        entries.remove(email);
+    }
+
+    @Scheduled(fixedDelayString = "${auth.credential-cache.evict-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.nanoTime();
+        entries.values().removeIf(entry -> entry.expiresAtNanos() - now <= 0);
+    }
+
+    private byte[] digest(String email, String rawPassword) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(macKey);
+            mac.update(email.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return mac.doFinal(rawPassword.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
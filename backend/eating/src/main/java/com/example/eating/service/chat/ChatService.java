@@ -1,15 +1,13 @@
 package com.example.eating.service.chat;
 
+import com.example.eating.auth.AuthPrincipal;
 import com.example.eating.domain.chat.ChatSession;
-import com.example.eating.domain.chat.ChatSessionStatus;
-import com.example.eating.domain.User;
 import com.example.eating.dto.request.chat.ChatRequest;
 import com.example.eating.dto.request.chat.StartSessionRequest;
 import com.example.eating.dto.response.chat.ChatResponse;
 import com.example.eating.dto.response.chat.SessionStatus;
 import com.example.eating.dto.response.chat.StartSessionResponse;
-import com.example.eating.repository.chat.ChatSessionRepository;
-import com.example.eating.repository.UserRepository;
+import com.example.eating.metrics.ChatTurnMetrics;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,23 +17,26 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
+/**
+ * 채팅 흐름
+ * - 클래스 레벨 트랜잭션 없음: FastAPI(LLM) 호출 동안 DB 커넥션을 잡지 않음
+ * - DB 접근은 ChatSessionStore 의 짧은 트랜잭션으로 호출 전/후에만 수행
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class ChatService {
 
-    private final ChatSessionRepository chatSessionRepository;
-    private final UserRepository userRepository;
+    private final ChatSessionStore chatSessionStore;
     private final WebClient fastApiClient;
+    private final ChatTurnMetrics chatTurnMetrics;
+    private final ChatSessionTouchBuffer touchBuffer;
 
     public StartSessionResponse startSession(
-            String email,
+            AuthPrincipal principal,
             StartSessionRequest request
     ) {
-        // 1️⃣ email → userId
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
-        Long userId = user.getId();
+        // 1️⃣ 토큰으로 확인된 userId (조회 없음)
+        Long userId = principal.userId();
 
         // 2️⃣ Spring이 session_id 생성 (단일 기준)
         String sessionId = UUID.randomUUID().toString();
@@ -55,7 +56,7 @@ public class ChatService {
                 .totalSteps(totalSteps)
                 .build();
 
-        chatSessionRepository.save(session);
+        chatSessionStore.create(session);
 
         // ✅ 5️⃣ FastAPI 전용 요청 DTO 생성 (핵심)
         StartSessionRequest fastApiRequest =
@@ -79,15 +80,15 @@ public class ChatService {
 
     @Transactional(readOnly = true)
     public SessionStatus getSessionStatus(
-            String email,
+            AuthPrincipal principal,
             String sessionId
     ) {
-        ChatSession session = getOwnedSession(email, sessionId);
+        ChatSession session = chatSessionStore.getOwnedSession(principal.userId(), sessionId);
 
         return new SessionStatus(
                 session.getSessionId(),
                 session.getRecipeTitle(),
-                session.getCurrentStep(),
+                touchBuffer.pendingStep(sessionId).orElse(session.getCurrentStep()),
                 session.getTotalSteps(),
                 session.getCompletedSteps(),
                 session.calculateProgress()
@@ -96,36 +97,36 @@ public class ChatService {
 
 
     public ChatResponse sendMessage(
-            String email,
+            AuthPrincipal principal,
             ChatRequest request
     ) {
-        ChatSession session = getOwnedSession(email, request.getSession_id());
+        ChatSession session = chatSessionStore.getOwnedSession(principal.userId(), request.getSession_id());
 
-        ChatResponse response =
+        ChatResponse response = chatTurnMetrics.timeFastApi(() ->
                 fastApiClient.post()
                         .uri("/api/chat/message")
                         .bodyValue(request)
                         .retrieve()
                         .bodyToMono(ChatResponse.class)
-                        .block();
+                        .block());
 
-        // current_step 동기화
+        // current_step 동기화 + touch → write-behind (메시지마다 UPDATE 하지 않음)
         Object currentStepObj = response.getSession_status().get("current_step");
-        if (currentStepObj instanceof Number) {
-            session.setCurrentStep(((Number) currentStepObj).intValue());
-        }
+        Integer currentStep = currentStepObj instanceof Number
+                ? ((Number) currentStepObj).intValue()
+                : null;
 
-        session.touch();
+        touchBuffer.touch(session.getSessionId(), currentStep);
         return response;
     }
 
 
     public Map<String, Object> completeStep(
-            String email,
+            AuthPrincipal principal,
             String sessionId,
             int stepNumber
     ) {
-        ChatSession session = getOwnedSession(email, sessionId);
+        chatSessionStore.getOwnedSession(principal.userId(), sessionId);
 
         Map<String, Object> response =
                 fastApiClient.post()
@@ -135,22 +136,18 @@ public class ChatService {
                         .bodyToMono(Map.class)
                         .block();
 
-        session.markStepCompleted(stepNumber);
-
-        if (Boolean.TRUE.equals(response.get("is_finished"))) {
-            session.setStatus(ChatSessionStatus.FINISHED);
-        }
+        chatSessionStore.completeStep(
+                sessionId, stepNumber, Boolean.TRUE.equals(response.get("is_finished")));
 
         return response;
     }
 
 
-    @Transactional(readOnly = true)
     public Map<String, Object> getHistory(
-            String email,
+            AuthPrincipal principal,
             String sessionId
     ) {
-        getOwnedSession(email, sessionId);
+        chatSessionStore.getOwnedSession(principal.userId(), sessionId);
 
         return fastApiClient.get()
                 .uri("/api/chat/session/{sessionId}/history", sessionId)
@@ -161,10 +158,10 @@ public class ChatService {
 
 
     public Map<String, Object> endSession(
-            String email,
+            AuthPrincipal principal,
             String sessionId
     ) {
-        ChatSession session = getOwnedSession(email, sessionId);
+        chatSessionStore.getOwnedSession(principal.userId(), sessionId);
 
         Map<String, Object> response =
                 fastApiClient.delete()
@@ -173,24 +170,10 @@ public class ChatService {
                         .bodyToMono(Map.class)
                         .block();
 
-        session.setStatus(ChatSessionStatus.FINISHED);
-        session.touch();
+        chatSessionStore.finish(sessionId);
 
         return response;
     }
 
 
-    private ChatSession getOwnedSession(String email, String sessionId) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
-
-        ChatSession session = chatSessionRepository.findBySessionId(sessionId)
-                .orElseThrow(() -> new IllegalArgumentException("세션이 존재하지 않습니다."));
-
-        if (!session.getUserId().equals(user.getId())) {
-            throw new IllegalStateException("세션 접근 권한이 없습니다.");
-        }
-
-        return session;
-    }
 }
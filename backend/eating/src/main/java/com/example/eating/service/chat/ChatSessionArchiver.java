@@ -0,0 +1,174 @@
+package com.example.eating.service.chat;
+
+import com.example.eating.domain.chat.ChatSessionStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 종료된 세션 보관 이동 (chat_session → chat_session_archive)
+ * - FINISHED/EXPIRED 이고 last_used_at 이 보관 기간보다 오래된 세션만
+ * - batch-size 건씩 트랜잭션 하나로 옮기고 batch 사이에 쉬어서 운영 쿼리와 락/IO 를 나눠 씀
+ * - 대상 id 는 (status, last_used_at) 인덱스만으로 찾고 FOR UPDATE 로 잠가 여러 노드가 같은 행을 옮기지 않음
+ * - 옮겨진 세션은 더 이상 조회/재개 대상이 아님 (보관 기간 = 종료 후 조회 가능 기간)
+ * - batch 사이 대기가 공용 스케줄러 스레드를 잡지 않도록 전용 스레드에서 실행 (스케줄러는 시작만 알림)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatSessionArchiver {
+
+    private static final List<ChatSessionStatus> ARCHIVED_STATUSES =
+            List.of(ChatSessionStatus.FINISHED, ChatSessionStatus.EXPIRED);
+
+    private static final String SELECT_IDS_SQL =
+            "SELECT id FROM chat_session " +
+            "WHERE status = :status AND last_used_at < :before " +
+            "ORDER BY last_used_at LIMIT :limit FOR UPDATE";
+
+    private static final String ARCHIVE_SESSIONS_SQL =
+            "INSERT INTO chat_session_archive " +
+            "(id, session_id, user_id, recipe_title, current_step, total_steps, status, created_at, last_used_at, archived_at) " +
+            "SELECT id, session_id, user_id, recipe_title, current_step, total_steps, status, created_at, last_used_at, :now " +
+            "FROM chat_session WHERE id IN (:ids)";
+
+    private static final String ARCHIVE_STEPS_SQL =
+            "INSERT INTO chat_session_completed_step_archive (chat_session_id, step_number) " +
+            "SELECT chat_session_id, step_number FROM chat_session_completed_step WHERE chat_session_id IN (:ids)";
+
+    private static final String DELETE_STEPS_SQL =
+            "DELETE FROM chat_session_completed_step WHERE chat_session_id IN (:ids)";
+
+    private static final String DELETE_SESSIONS_SQL =
+            "DELETE FROM chat_session WHERE id IN (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chat.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${chat.archive.retention-days:7}")
+    private long retentionDays;
+
+    @Value("${chat.archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${chat.archive.batch-pause-ms:200}")
+    private long batchPauseMs;
+
+    @Value("${chat.archive.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    private final ExecutorService archiveExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "chat-archiver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /**
+     * 이전 실행이 아직 끝나지 않았으면 건너뜀
+     */
+    @Scheduled(fixedDelayString = "${chat.archive.interval-ms:60000}")
+    public void schedule() {
+        if (enabled && running.compareAndSet(false, true)) {
+            archiveExecutor.execute(() -> {
+                try {
+                    archive();
+                } catch (RuntimeException e) {
+                    log.warn("event=chat_archive_failed error={}", e.getMessage());
+                } finally {
+                    running.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * 한 번에 최대 max-batches-per-run * batch-size 건, 남은 건 다음 주기에
+     */
+    void archive() {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        long start = System.nanoTime();
+        int archived = 0;
+        int batches = 0;
+
+        for (ChatSessionStatus status : ARCHIVED_STATUSES) {
+            while (batches < maxBatchesPerRun) {
+                int moved = archiveBatch(status, before);
+                batches++;
+                archived += moved;
+
+                if (moved < batchSize || !pause()) {
+                    break;
+                }
+            }
+        }
+
+        if (archived > 0) {
+            meterRegistry.counter("chat.session.archived").increment(archived);
+            log.info("event=chat_sessions_archived count={} batches={} tookMs={}",
+                    archived, batches, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    /**
+     * 옮긴 세션 수
+     */
+    int archiveBatch(ChatSessionStatus status, LocalDateTime before) {
+        Integer moved = transactionTemplate.execute(tx -> {
+            List<Long> ids = jdbcTemplate.queryForList(SELECT_IDS_SQL, new MapSqlParameterSource()
+                    .addValue("status", status.name())
+                    .addValue("before", Timestamp.valueOf(before))
+                    .addValue("limit", batchSize), Long.class);
+            if (ids.isEmpty()) {
+                return 0;
+            }
+
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("ids", ids)
+                    .addValue("now", Timestamp.valueOf(LocalDateTime.now()));
+
+            jdbcTemplate.update(ARCHIVE_SESSIONS_SQL, params);
+            jdbcTemplate.update(ARCHIVE_STEPS_SQL, params);
+            jdbcTemplate.update(DELETE_STEPS_SQL, params);
+            return jdbcTemplate.update(DELETE_SESSIONS_SQL, params);
+        });
+        return moved != null ? moved : 0;
+    }
+
+    /**
+     * 종료 중이면 false (남은 건 다음 기동 후에)
+     */
+    private boolean pause() {
+        try {
+            Thread.sleep(batchPauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        archiveExecutor.shutdownNow();
+    }
+}
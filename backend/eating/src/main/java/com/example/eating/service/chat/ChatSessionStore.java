@@ -0,0 +1,84 @@
+package com.example.eating.service.chat;
+
+import com.example.eating.domain.chat.ChatSession;
+import com.example.eating.domain.chat.ChatSessionStatus;
+import com.example.eating.repository.chat.ChatSessionRepository;
+import com.example.eating.service.outbox.EventOutbox;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+/**
+ * ChatSession DB 접근 전용 (짧은 트랜잭션)
+ * - ChatService 는 FastAPI 호출 동안 트랜잭션/커넥션을 잡지 않고
+ *   호출 전 조회, 호출 후 반영만 여기서 각각 짧게 수행
+ * - 상태 변경은 같은 트랜잭션에 아웃박스 이벤트로 남겨 /sse/sessions 구독자에게 전달
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ChatSessionStore {
+
+    private final ChatSessionRepository chatSessionRepository;
+    private final ChatSessionTouchBuffer touchBuffer;
+    private final EventOutbox eventOutbox;
+
+    public ChatSession create(ChatSession session) {
+        return chatSessionRepository.save(session);
+    }
+
+    /**
+     * 소유권 확인 후 세션 반환
+     * - 트랜잭션 밖에서는 단순 필드만 사용 (completedSteps 는 지연 로딩)
+     */
+    @Transactional(readOnly = true)
+    public ChatSession getOwnedSession(Long userId, String sessionId) {
+        ChatSession session = chatSessionRepository.findBySessionId(sessionId)
+                .orElseThrow(() -> new IllegalArgumentException("세션이 존재하지 않습니다."));
+
+        if (!session.getUserId().equals(userId)) {
+            throw new IllegalStateException("세션 접근 권한이 없습니다.");
+        }
+
+        return session;
+    }
+
+    public void completeStep(String sessionId, int stepNumber, boolean finished) {
+        ChatSession session = load(sessionId);
+
+        session.markStepCompleted(stepNumber);
+        eventOutbox.appendSessionEvent(sessionId, "step_completed",
+                Map.of("sessionId", sessionId, "stepNumber", stepNumber, "finished", finished), false);
+
+        if (finished) {
+            session.setStatus(ChatSessionStatus.FINISHED);
+            eventOutbox.appendSessionEvent(sessionId, "finished", Map.of("sessionId", sessionId), true);
+        }
+        touchBuffer.touch(sessionId, null);
+    }
+
+    public void finish(String sessionId) {
+        ChatSession session = load(sessionId);
+
+        session.setStatus(ChatSessionStatus.FINISHED);
+        touchBuffer.touch(sessionId, null);
+        eventOutbox.appendSessionEvent(sessionId, "finished", Map.of("sessionId", sessionId), true);
+    }
+
+    /**
+     * 버퍼에 남은 current_step 을 먼저 반영한 세션 (같은 트랜잭션에서 함께 저장)
+     * - last_used_at 은 엔티티로 저장되지 않으므로 호출자가 다시 버퍼에 touch
+     */
+    private ChatSession load(String sessionId) {
+        ChatSession session = chatSessionRepository.findBySessionId(sessionId)
+                .orElseThrow(() -> new IllegalArgumentException("세션이 존재하지 않습니다."));
+
+        touchBuffer.drain(sessionId)
+                .map(ChatSessionTouchBuffer.PendingTouch::currentStep)
+                .ifPresent(session::setCurrentStep);
+
+        return session;
+    }
+}
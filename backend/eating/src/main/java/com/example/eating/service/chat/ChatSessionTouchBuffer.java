@@ -0,0 +1,137 @@
+package com.example.eating.service.chat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ChatSession last_used_at / current_step write-behind 버퍼
+ * - 메시지마다 UPDATE 하지 않고 세션별로 마지막 값만 메모리에 합쳐둠
+ * - 주기적으로 JDBC batch 로 반영 → DB 쓰기 QPS 가 메시지 수가 아니라 세션 수에 비례
+ * - 단계 완료 / 세션 종료는 drain() 으로 꺼내 같은 트랜잭션에서 엔티티에 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatSessionTouchBuffer {
+
+    private static final String FLUSH_SQL =
+            "UPDATE chat_session " +
+            "SET last_used_at = ?, current_step = COALESCE(?, current_step) " +
+            "WHERE session_id = ? AND last_used_at <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chat.touch-buffer.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * sessionId -> 아직 DB에 반영되지 않은 마지막 값
+     */
+    private final Map<String, PendingTouch> pending = new ConcurrentHashMap<>();
+
+    /**
+     * currentStep == null 이면 last_used_at 만 갱신
+     */
+    public record PendingTouch(LocalDateTime lastUsedAt, Integer currentStep) {
+
+        PendingTouch merge(PendingTouch newer) {
+            return new PendingTouch(
+                    newer.lastUsedAt.isAfter(lastUsedAt) ? newer.lastUsedAt : lastUsedAt,
+                    newer.currentStep != null ? newer.currentStep : currentStep
+            );
+        }
+    }
+
+    @PostConstruct
+    void registerGauge() {
+        meterRegistry.gaugeMapSize("chat.touch_buffer.pending", List.of(), pending);
+    }
+
+    public void touch(String sessionId, Integer currentStep) {
+        pending.merge(sessionId, new PendingTouch(LocalDateTime.now(), currentStep), PendingTouch::merge);
+    }
+
+    /**
+     * 아직 반영되지 않은 current_step (조회 응답 보정용)
+     */
+    public Optional<Integer> pendingStep(String sessionId) {
+        PendingTouch touch = pending.get(sessionId);
+        return touch == null ? Optional.empty() : Optional.ofNullable(touch.currentStep());
+    }
+
+    /**
+     * 세션 하나의 대기 값을 꺼냄 (호출자가 엔티티에 직접 반영)
+     */
+    public Optional<PendingTouch> drain(String sessionId) {
+        return Optional.ofNullable(pending.remove(sessionId));
+    }
+
+    @Scheduled(fixedDelayString = "${chat.touch-buffer.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batch = new ArrayList<>(Math.min(pending.size(), batchSize));
+        for (String sessionId : pending.keySet()) {
+            PendingTouch touch = pending.remove(sessionId);
+            if (touch == null) {
+                continue;
+            }
+
+            Timestamp lastUsedAt = Timestamp.valueOf(touch.lastUsedAt());
+            batch.add(new Object[]{lastUsedAt, touch.currentStep(), sessionId, lastUsedAt});
+
+            if (batch.size() >= batchSize) {
+                write(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    private void write(List<Object[]> batch) {
+        long start = System.nanoTime();
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch,
+                    new int[]{Types.TIMESTAMP, Types.INTEGER, Types.VARCHAR, Types.TIMESTAMP});
+            meterRegistry.counter("chat.touch_buffer.flushed").increment(batch.size());
+            log.debug("event=chat_touch_flushed count={} tookMs={}",
+                    batch.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 시도 (그 사이 더 최신 값이 들어왔으면 그 값을 유지)
+            for (Object[] row : batch) {
+                PendingTouch touch = new PendingTouch(((Timestamp) row[0]).toLocalDateTime(), (Integer) row[1]);
+                pending.merge((String) row[2], touch, (newer, older) -> older.merge(newer));
+            }
+            log.warn("event=chat_touch_flush_failed count={} error={}", batch.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        int remaining = pending.size();
+        flush();
+        log.info("event=chat_touch_flushed_on_shutdown count={} left={}", remaining, pending.size());
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.eating.service.job;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대기열에 들어간 분석 요청
+ */
+public record PendingRecipeJob(
+        String jobId,
+        String email,
+        String url,
+        LocalDateTime enqueuedAt
+) {
+}
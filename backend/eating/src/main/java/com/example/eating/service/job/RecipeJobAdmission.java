@@ -0,0 +1,360 @@
+package com.example.eating.service.job;
+
+import com.example.eating.controller.SseController;
+import com.example.eating.domain.job.RecipeJob;
+import com.example.eating.ratelimit.TokenBucket;
+import com.example.eating.ratelimit.TooManyRequestsException;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 분석 작업 입장 제어
+ * - 사용자별 토큰 버킷으로 요청 속도 제한
+ * - FastAPI 워커 수에 맞춘 동시 실행 상한
+ * - 사용자 단위 라운드로빈 대기열: 한 사용자가 몰아서 넣어도 다른 사용자 작업이 밀리지 않음
+ * - 대기열/상한/토큰 버킷은 인스턴스별 (여러 대면 FastAPI 에 걸리는 최대 동시 실행 = 인스턴스 수 × max-concurrent)
+ * - 재시작 시 이 인스턴스가 전달해 둔 작업(PENDING/PROCESSING)은 DB 에서 다시 읽어 슬롯으로 셈
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecipeJobAdmission {
+
+    private final RecipeJobDispatcher recipeJobDispatcher;
+    private final RecipeJobRegistry recipeJobRegistry;
+    private final RecipeJobStateCache jobStateCache;
+    private final SseController sseController;
+
+    @Value("${job.admission.max-concurrent:2}")
+    private int maxConcurrent;
+
+    @Value("${job.admission.user-burst:3}")
+    private int userBurst;
+
+    @Value("${job.admission.user-refill-per-minute:2}")
+    private double userRefillPerMinute;
+
+    @Value("${job.admission.user-max-queued:3}")
+    private int userMaxQueued;
+
+    @Value("${job.admission.slot-timeout-minutes:15}")
+    private long slotTimeoutMinutes;
+
+    @Value("${job.admission.queued-max-age-minutes:60}")
+    private long queuedMaxAgeMinutes;
+
+    private final Map<String, TokenBucket> bucketsByEmail = new ConcurrentHashMap<>();
+
+    /**
+     * email -> 해당 사용자의 대기 작업 (FIFO)
+     */
+    private final Map<String, Deque<PendingRecipeJob>> queuesByEmail = new HashMap<>();
+
+    /**
+     * 라운드로빈 순서 (대기 작업이 있는 사용자만)
+     */
+    private final Deque<String> userRing = new ArrayDeque<>();
+
+    /**
+     * FastAPI에서 실행 중인 jobId -> 전달 시각
+     */
+    private final Map<String, LocalDateTime> inFlight = new HashMap<>();
+
+    /**
+     * FastAPI 호출은 블로킹이므로 콜백 스레드가 아닌 별도 스레드에서 전달
+     */
+    private final ExecutorService dispatchExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "recipe-job-dispatch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 대기열에 넣고 대기 순번 반환
+     */
+    public long submit(String email, String jobId, String url) {
+        long position;
+        synchronized (this) {
+            Deque<PendingRecipeJob> queue = queuesByEmail.computeIfAbsent(email, k -> new ArrayDeque<>());
+            if (queue.size() >= userMaxQueued) {
+                throw new TooManyRequestsException("대기 중인 분석 작업이 너무 많습니다.", Duration.ofMinutes(1));
+            }
+            if (queue.isEmpty()) {
+                userRing.addLast(email);
+            }
+            queue.addLast(new PendingRecipeJob(jobId, email, url, LocalDateTime.now()));
+            position = positionOf(jobId);
+        }
+
+        log.info("event=job_queued jobId={} queuePosition={}", jobId, position);
+        drainAsync();
+        return position;
+    }
+
+    /**
+     * 요청 속도 확인 (작업 등록 전에 호출)
+     */
+    public void checkRate(String email) {
+        TokenBucket bucket = bucketsByEmail.computeIfAbsent(
+                email, k -> new TokenBucket(userBurst, userRefillPerMinute));
+        if (!bucket.tryConsume()) {
+            throw new TooManyRequestsException("분석 요청이 너무 잦습니다.", bucket.timeUntilRefill());
+        }
+    }
+
+    /**
+     * 작업 종료(완료/실패) 시 슬롯 반환
+     */
+    public void release(String jobId) {
+        boolean released;
+        synchronized (this) {
+            released = inFlight.remove(jobId) != null;
+        }
+        if (released) {
+            drainAsync();
+        }
+    }
+
+    public synchronized long getQueuePosition(String jobId) {
+        return positionOf(jobId);
+    }
+
+    private void drainAsync() {
+        dispatchExecutor.execute(this::drain);
+    }
+
+    private void drain() {
+        while (true) {
+            PendingRecipeJob next;
+            synchronized (this) {
+                if (inFlight.size() >= maxConcurrent || userRing.isEmpty()) {
+                    break;
+                }
+                next = pollNext();
+                inFlight.put(next.jobId(), LocalDateTime.now());
+            }
+
+            try {
+                recipeJobDispatcher.dispatch(next);
+                log.info("event=job_dispatched jobId={} waitedMs={}",
+                        next.jobId(), Duration.between(next.enqueuedAt(), LocalDateTime.now()).toMillis());
+            } catch (Exception e) {
+                log.warn("event=job_dispatch_failed jobId={} message={}", next.jobId(), e.getMessage());
+                failJob(next.jobId(), "분석 요청 전달 실패: " + e.getMessage());
+                synchronized (this) {
+                    inFlight.remove(next.jobId());
+                }
+            }
+        }
+
+        broadcastQueuePositions();
+    }
+
+    /**
+     * 라운드로빈: 맨 앞 사용자의 첫 작업을 꺼내고, 남은 작업이 있으면 맨 뒤로 보냄
+     */
+    private PendingRecipeJob pollNext() {
+        String email = userRing.pollFirst();
+        Deque<PendingRecipeJob> queue = queuesByEmail.get(email);
+        PendingRecipeJob job = queue.pollFirst();
+
+        if (queue.isEmpty()) {
+            queuesByEmail.remove(email);
+        } else {
+            userRing.addLast(email);
+        }
+        return job;
+    }
+
+    /**
+     * 라운드로빈 순서상 몇 번째로 전달될지 계산 (1부터, 대기열에 없으면 0)
+     * - 내 앞 순번 = 각 사용자의 min(대기 수, 내 인덱스) + 내 인덱스 라운드에서 나보다 앞선 사용자 수
+     */
+    private long positionOf(String jobId) {
+        int ringIndex = 0;
+        for (String email : userRing) {
+            int index = indexIn(queuesByEmail.get(email), jobId);
+            if (index >= 0) {
+                long ahead = 0;
+                int i = 0;
+                for (String other : userRing) {
+                    int size = queuesByEmail.get(other).size();
+                    ahead += Math.min(size, index);
+                    if (i < ringIndex && size > index) {
+                        ahead++;
+                    }
+                    i++;
+                }
+                return ahead + 1;
+            }
+            ringIndex++;
+        }
+        return 0;
+    }
+
+    private int indexIn(Deque<PendingRecipeJob> queue, String jobId) {
+        int index = 0;
+        for (PendingRecipeJob job : queue) {
+            if (job.jobId().equals(jobId)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * 대기 중인 모든 작업에 현재 순번 전송
+     * - 락 안에서는 대기열만 복사하고, 순번 계산과 전송은 락 밖에서 한 번에
+     */
+    private void broadcastQueuePositions() {
+        List<List<String>> queuesInRingOrder;
+        synchronized (this) {
+            queuesInRingOrder = userRing.stream()
+                    .map(email -> queuesByEmail.get(email).stream().map(PendingRecipeJob::jobId).toList())
+                    .toList();
+        }
+
+        List<String> order = dispatchOrder(queuesInRingOrder);
+        for (int i = 0; i < order.size(); i++) {
+            String jobId = order.get(i);
+            sseController.sendToJob(jobId, "queued", Map.of(
+                    "jobId", jobId,
+                    "status", "queued",
+                    "queuePosition", (long) i + 1));
+        }
+    }
+
+    /**
+     * 라운드로빈으로 꺼내질 순서 (pollNext 를 반복한 결과와 같음)
+     * - 라운드마다 아직 작업이 남은 사용자만 링 순서대로 하나씩
+     */
+    static List<String> dispatchOrder(List<List<String>> queuesInRingOrder) {
+        List<String> order = new ArrayList<>();
+        List<List<String>> remaining = queuesInRingOrder;
+        for (int round = 0; !remaining.isEmpty(); round++) {
+            List<List<String>> next = new ArrayList<>();
+            for (List<String> queue : remaining) {
+                order.add(queue.get(round));
+                if (queue.size() > round + 1) {
+                    next.add(queue);
+                }
+            }
+            remaining = next;
+        }
+        return order;
+    }
+
+    /**
+     * SSE 실패 이벤트는 markFailed 가 아웃박스에 기록 → OutboxRelay 가 전달 후 구독 종료
+     */
+    private void failJob(String jobId, String message) {
+        recipeJobRegistry.markFailed(jobId, message);
+        jobStateCache.markFailed(jobId, message);
+    }
+
+    /**
+     * 콜백이 유실된 작업이 슬롯을 영구 점유하지 않도록 회수
+     * - 너무 오래 기다린 대기 작업도 실패 처리 (사라진 인스턴스가 남긴 QUEUED 행은 그 두 배가 지나면)
+     */
+    @Scheduled(fixedDelayString = "${job.admission.reap-interval-ms:60000}")
+    public void reapStuckSlots() {
+        expireQueuedJobs();
+
+        LocalDateTime deadline = LocalDateTime.now().minusMinutes(slotTimeoutMinutes);
+        List<String> stuck;
+        synchronized (this) {
+            stuck = inFlight.entrySet().stream()
+                    .filter(e -> e.getValue().isBefore(deadline))
+                    .map(Map.Entry::getKey)
+                    .toList();
+            stuck.forEach(inFlight::remove);
+        }
+
+        if (!stuck.isEmpty()) {
+            log.warn("event=job_slot_reaped jobIds={}", stuck);
+            drainAsync();
+        }
+
+        // 오래 쓰이지 않은 버킷 정리 (가득 찬 버킷과 동일하므로 버려도 무방)
+        bucketsByEmail.values().removeIf(bucket -> bucket.idleTime().toMinutes() > 30);
+    }
+
+    private void expireQueuedJobs() {
+        LocalDateTime deadline = LocalDateTime.now().minusMinutes(queuedMaxAgeMinutes);
+        List<String> expired = new ArrayList<>();
+        synchronized (this) {
+            Iterator<Map.Entry<String, Deque<PendingRecipeJob>>> it = queuesByEmail.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<String, Deque<PendingRecipeJob>> entry = it.next();
+                entry.getValue().removeIf(job -> {
+                    boolean old = job.enqueuedAt().isBefore(deadline);
+                    if (old) {
+                        expired.add(job.jobId());
+                    }
+                    return old;
+                });
+                if (entry.getValue().isEmpty()) {
+                    userRing.remove(entry.getKey());
+                    it.remove();
+                }
+            }
+        }
+
+        String message = "대기 시간이 너무 길어 작업이 취소되었습니다.";
+        expired.forEach(jobId -> failJob(jobId, message));
+
+        int orphaned = recipeJobRegistry.failOrphanedQueuedJobs(
+                LocalDateTime.now().minusMinutes(queuedMaxAgeMinutes * 2), message);
+
+        if (!expired.isEmpty() || orphaned > 0) {
+            log.warn("event=job_queue_expired jobIds={} orphaned={}", expired, orphaned);
+        }
+    }
+
+    /**
+     * 재시작 전 상태 복구 (이 인스턴스의 작업만)
+     * - 메모리 대기열에 있던 QUEUED 작업은 사라졌으므로 실패 처리
+     * - 이미 FastAPI 로 전달된 작업은 콜백(또는 슬롯 회수)까지 슬롯을 점유하도록 다시 등록
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverFromPreviousRun() {
+        int failed = recipeJobRegistry.failQueuedJobs("서버 재시작으로 대기 중인 작업이 취소되었습니다.");
+
+        List<RecipeJob> running = recipeJobRegistry.getRunningJobs();
+        synchronized (this) {
+            for (RecipeJob job : running) {
+                inFlight.putIfAbsent(job.getJobId(),
+                        job.getDispatchedAt() != null ? job.getDispatchedAt() : job.getUpdatedAt());
+            }
+        }
+
+        if (failed > 0 || !running.isEmpty()) {
+            log.warn("event=job_queue_recovered failed={} inFlight={}", failed, running.size());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatchExecutor.shutdown();
+    }
+}
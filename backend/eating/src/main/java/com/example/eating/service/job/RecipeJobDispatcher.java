@@ -0,0 +1,46 @@
+package com.example.eating.service.job;
+
+import com.example.eating.dto.request.recipe.AnalyzeJobRequest;
+import com.example.eating.tracing.JobTraceRecorder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.Map;
+
+/**
+ * 대기열에서 꺼낸 작업을 FastAPI로 전달
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecipeJobDispatcher {
+
+    private final WebClient fastApiClient;
+    private final RecipeJobRegistry recipeJobRegistry;
+    private final RecipeJobStateCache jobStateCache;
+    private final JobTraceRecorder jobTraceRecorder;
+
+    public void dispatch(PendingRecipeJob job) {
+        // 콜백이 먼저 도착해도 상태가 뒤로 가지 않도록 전달 전에 기록
+        recipeJobRegistry.markDispatched(job.jobId());
+        jobStateCache.markStatus(job.jobId(), "queued", "pending");
+        jobTraceRecorder.onDispatched(job.jobId());
+
+        Map<String, Object> response =
+                fastApiClient.post()
+                        .uri("/api/analyze")
+                        .header("email", job.email())
+                        .bodyValue(new AnalyzeJobRequest(job.jobId(), job.url()))
+                        .retrieve()
+                        .bodyToMono(Map.class)
+                        .contextWrite(jobTraceRecorder.observationContext(job.jobId()))
+                        .block();
+
+        String fastApiJobId = response != null ? (String) response.get("job_id") : null;
+        if (!job.jobId().equals(fastApiJobId)) {
+            log.warn("event=job_id_mismatch jobId={} fastApiJobId={}", job.jobId(), fastApiJobId);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.eating.service.job;
+
+import com.example.eating.domain.job.RecipeJob;
+import com.example.eating.domain.job.RecipeJobStatus;
+import com.example.eating.dto.request.sse.JobProgressRequest;
+import com.example.eating.repository.job.RecipeJobRepository;
+import com.example.eating.service.outbox.EventOutbox;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 분석 작업 영속 기록
+ * - 누가 어떤 작업을 시작했는지, 얼마나 걸렸는지, 실패했는지를 Spring 쪽에 남김
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class RecipeJobRegistry {
+
+    public static final Set<RecipeJobStatus> ACTIVE_STATUSES =
+            EnumSet.of(RecipeJobStatus.QUEUED, RecipeJobStatus.PENDING, RecipeJobStatus.PROCESSING);
+
+    private static final Set<RecipeJobStatus> RUNNING_STATUSES =
+            EnumSet.of(RecipeJobStatus.PENDING, RecipeJobStatus.PROCESSING);
+
+    private final RecipeJobRepository recipeJobRepository;
+    private final EventOutbox eventOutbox;
+
+    /**
+     * 이 인스턴스 식별자 (재시작해도 같은 값이어야 자기 작업을 복구할 수 있음)
+     */
+    @Value("${job.admission.node-id:${HOSTNAME:local}}")
+    private String nodeId;
+
+    public RecipeJob register(Long userId, String jobId, String url) {
+        RecipeJob job = RecipeJob.builder()
+                .jobId(jobId)
+                .userId(userId)
+                .url(url)
+                .nodeId(nodeId)
+                .status(RecipeJobStatus.QUEUED)
+                .build();
+
+        return recipeJobRepository.save(job);
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isRegistered(String jobId) {
+        return recipeJobRepository.findByJobId(jobId).isPresent();
+    }
+
+    public void markDispatched(String jobId) {
+        recipeJobRepository.findByJobId(jobId).ifPresent(RecipeJob::dispatch);
+    }
+
+    public void markFailed(String jobId, String message) {
+        recipeJobRepository.findByJobId(jobId).ifPresent(job -> fail(job, message));
+    }
+
+    /**
+     * 메모리 대기열은 재시작 시 사라지므로 이 인스턴스에 남은 QUEUED 작업은 실패 처리
+     * - 다른 인스턴스의 대기 작업은 그 인스턴스가 아직 처리 중일 수 있으므로 건드리지 않음
+     */
+    public int failQueuedJobs(String message) {
+        List<RecipeJob> queued = recipeJobRepository.findByNodeIdAndStatusIn(nodeId, EnumSet.of(RecipeJobStatus.QUEUED));
+        queued.forEach(job -> fail(job, message));
+        return queued.size();
+    }
+
+    /**
+     * 재시작 전에 FastAPI 로 전달해 아직 끝나지 않은 이 인스턴스의 작업 (실행 슬롯 복구용)
+     */
+    @Transactional(readOnly = true)
+    public List<RecipeJob> getRunningJobs() {
+        return recipeJobRepository.findByNodeIdAndStatusIn(nodeId, RUNNING_STATUSES);
+    }
+
+    /**
+     * before 전에 접수된 다른 인스턴스(또는 node_id 가 없는 이전 행)의 QUEUED 작업 실패 처리
+     * - 사라진 인스턴스의 대기 작업은 아무도 전달하지 않으므로 활성 작업 목록에 영원히 남음
+     */
+    public int failOrphanedQueuedJobs(LocalDateTime before, String message) {
+        List<RecipeJob> orphaned = recipeJobRepository.findByStatusAndCreatedAtBefore(RecipeJobStatus.QUEUED, before)
+                .stream()
+                .filter(job -> !Objects.equals(job.getNodeId(), nodeId))
+                .toList();
+        orphaned.forEach(job -> fail(job, message));
+        return orphaned.size();
+    }
+
+    /**
+     * 실패 기록 + 같은 트랜잭션에 마지막 SSE 이벤트 (늦게 구독해도 재전송으로 받음)
+     */
+    private void fail(RecipeJob job, String message) {
+        if (job.getStatus().isFinished()) {
+            return;
+        }
+        job.fail(message);
+        eventOutbox.appendJobEvent(job.getJobId(), "failed", Map.of(
+                "jobId", job.getJobId(),
+                "status", "failed",
+                "message", Objects.requireNonNullElse(job.getMessage(), "")), true);
+    }
+
+    /**
+     * 진행 상태 반영 + 같은 트랜잭션에 SSE 전달 이벤트 기록 (완료/실패면 마지막 이벤트까지)
+     */
+    public void applyProgress(String jobId, JobProgressRequest request) {
+        recipeJobRepository.findByJobId(jobId).ifPresentOrElse(
+                job -> job.applyProgress(
+                        request.getStatus(),
+                        request.getProgress(),
+                        request.getStep(),
+                        request.getMessage()),
+                () -> log.warn("event=job_progress_unknown_job jobId={}", jobId)
+        );
+
+        eventOutbox.appendJobEvent(jobId, "progress", request, false);
+
+        if ("completed".equalsIgnoreCase(request.getStatus())) {
+            eventOutbox.appendJobEvent(jobId, "completed", request, true);
+        } else if ("failed".equalsIgnoreCase(request.getStatus())) {
+            eventOutbox.appendJobEvent(jobId, "failed", request, true);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public RecipeJob getOwnedJob(Long userId, String jobId) {
+        RecipeJob job = recipeJobRepository.findByJobId(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("작업이 존재하지 않습니다."));
+
+        if (!job.isOwnedBy(userId)) {
+            throw new IllegalStateException("작업 접근 권한이 없습니다.");
+        }
+
+        return job;
+    }
+
+    @Transactional(readOnly = true)
+    public List<RecipeJob> getActiveJobs(Long userId) {
+        return recipeJobRepository.findByUserIdAndStatusInOrderByCreatedAtAsc(userId, ACTIVE_STATUSES);
+    }
+
+    @Transactional(readOnly = true)
+    public long countActiveJobs(Long userId) {
+        return recipeJobRepository.countByUserIdAndStatusIn(userId, ACTIVE_STATUSES);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.eating.service.job;
+
+import com.example.eating.domain.job.RecipeJob;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Spring 쪽에서 관측한 분석 작업 상태 스냅샷
+ * - FastAPI progress 콜백마다 새 스냅샷으로 교체 (불변)
+ */
+@Getter
+@Builder(toBuilder = true)
+public class RecipeJobState {
+
+    private final String jobId;
+
+    /**
+     * 작업을 시작한 사용자 (FastAPI 폴백으로 채워진 경우 null)
+     */
+    private final String email;
+
+    private final String status;
+    private final Integer progress;
+    private final String step;
+    private final String message;
+
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public static RecipeJobState from(RecipeJob job) {
+        return RecipeJobState.builder()
+                .jobId(job.getJobId())
+                .status(job.getStatus().toApiValue())
+                .progress(job.getProgress())
+                .step(job.getStep())
+                .message(job.getMessage())
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .build();
+    }
+
+    public boolean isTerminal() {
+        return "completed".equalsIgnoreCase(status) || "failed".equalsIgnoreCase(status);
+    }
+}
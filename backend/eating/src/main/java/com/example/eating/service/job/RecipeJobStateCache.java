@@ -0,0 +1,184 @@
+package com.example.eating.service.job;
+
+import com.example.eating.dto.request.sse.JobProgressRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 작업 상태 로컬 캐시
+ * - startAnalyze 시 등록, InternalJobProgressController 콜백으로 갱신
+ * - /recipes/status 폴링은 여기서 바로 응답하고, 모르는 작업만 FastAPI로 폴백
+ */
+@Slf4j
+@Component
+public class RecipeJobStateCache {
+
+    /**
+     * jobId -> 최신 상태
+     */
+    private final Map<String, RecipeJobState> states = new ConcurrentHashMap<>();
+
+    /**
+     * jobId -> FastAPI 폴백으로 얻은 진행 중 상태 (fallback-ttl-seconds 동안만 사용)
+     */
+    private final Map<String, RecipeJobState> fallbacks = new ConcurrentHashMap<>();
+
+    /**
+     * 완료/실패 작업 보관 시간
+     */
+    @Value("${job.state.terminal-ttl-minutes:30}")
+    private long terminalTtlMinutes;
+
+    /**
+     * 진행 중 작업 보관 시간 (콜백이 끊긴 작업 정리용)
+     */
+    @Value("${job.state.active-ttl-minutes:360}")
+    private long activeTtlMinutes;
+
+    /**
+     * 이 시간 동안 콜백이 없으면 캐시를 믿지 않고 FastAPI에 다시 물어봄
+     */
+    @Value("${job.state.stale-seconds:60}")
+    private long staleSeconds;
+
+    /**
+     * 진행 중 폴백 결과를 재사용하는 시간 (그동안의 폴링은 FastAPI 를 다시 부르지 않음)
+     */
+    @Value("${job.state.fallback-ttl-seconds:5}")
+    private long fallbackTtlSeconds;
+
+    public void register(String jobId, String email, String status) {
+        LocalDateTime now = LocalDateTime.now();
+        states.merge(
+                jobId,
+                RecipeJobState.builder()
+                        .jobId(jobId)
+                        .email(email)
+                        .status(status != null ? status : "pending")
+                        .progress(0)
+                        .createdAt(now)
+                        .updatedAt(now)
+                        .build(),
+                // 콜백이 응답보다 먼저 도착한 경우: 진행 상태는 유지하고 소유자만 채움
+                (observed, registered) -> observed.toBuilder().email(email).build()
+        );
+    }
+
+    /**
+     * progress 콜백 반영
+     * - 이미 완료/실패로 끝난 작업은 늦게 오거나 중복된 콜백으로 되돌리지 않음
+     */
+    public void update(String jobId, JobProgressRequest request) {
+        LocalDateTime now = LocalDateTime.now();
+        states.compute(jobId, (id, current) -> {
+            if (current != null && current.isTerminal()) {
+                log.debug("event=job_state_update_ignored jobId={} current={} status={}",
+                        id, current.getStatus(), request.getStatus());
+                return current;
+            }
+
+            RecipeJobState.RecipeJobStateBuilder builder = current != null
+                    ? current.toBuilder()
+                    : RecipeJobState.builder().jobId(id).createdAt(now);
+
+            return builder
+                    .status(request.getStatus())
+                    .progress(request.getProgress())
+                    .step(request.getStep())
+                    .message(request.getMessage())
+                    .updatedAt(now)
+                    .build();
+        });
+        fallbacks.remove(jobId);
+    }
+
+    /**
+     * Spring 내부 상태 전이 반영 (현재 상태가 expected일 때만)
+     */
+    public void markStatus(String jobId, String expected, String status) {
+        states.computeIfPresent(jobId, (id, state) -> expected.equalsIgnoreCase(state.getStatus())
+                ? state.toBuilder().status(status).updatedAt(LocalDateTime.now()).build()
+                : state);
+    }
+
+    public void markFailed(String jobId, String message) {
+        states.computeIfPresent(jobId, (id, state) -> state.toBuilder()
+                .status("failed")
+                .message(message)
+                .updatedAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * 소유권이 확인된 엔트리에 소유자 기록
+     * - 재시작 후 콜백으로만 채워진 엔트리도 다음 폴링부터 캐시로 응답
+     */
+    public void claim(String jobId, String email) {
+        states.computeIfPresent(jobId, (id, state) ->
+                email.equals(state.getEmail()) ? state : state.toBuilder().email(email).build());
+    }
+
+    /**
+     * FastAPI 폴백으로 얻은 결과 반영
+     * - 종료 상태: 콜백으로 쌓인 진행 중 엔트리를 대신함 (이미 종료된 엔트리는 유지)
+     * - 진행 중 상태: fallback-ttl-seconds 동안만 폴링에 재사용 (그 뒤로는 다시 물어봄)
+     */
+    public void cacheFallback(RecipeJobState state) {
+        if (state.isTerminal()) {
+            states.merge(state.getJobId(), state, (current, fetched) -> current.isTerminal() ? current : fetched);
+            fallbacks.remove(state.getJobId());
+        } else {
+            fallbacks.put(state.getJobId(), state);
+        }
+    }
+
+    /**
+     * 폴링 응답에 그대로 쓸 수 있는 상태만 반환
+     */
+    public Optional<RecipeJobState> findFresh(String jobId) {
+        LocalDateTime now = LocalDateTime.now();
+
+        RecipeJobState state = states.get(jobId);
+        if (state != null
+                && (state.isTerminal() || !state.getUpdatedAt().isBefore(now.minusSeconds(staleSeconds)))) {
+            return Optional.of(state);
+        }
+
+        RecipeJobState fallback = fallbacks.get(jobId);
+        if (fallback != null && !fallback.getUpdatedAt().isBefore(now.minusSeconds(fallbackTtlSeconds))) {
+            return Optional.of(fallback);
+        }
+
+        return Optional.empty();
+    }
+
+    public Optional<RecipeJobState> find(String jobId) {
+        return Optional.ofNullable(states.get(jobId));
+    }
+
+    @Scheduled(fixedDelayString = "${job.state.evict-interval-ms:60000}")
+    public void evictExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime terminalBefore = now.minusMinutes(terminalTtlMinutes);
+        LocalDateTime activeBefore = now.minusMinutes(activeTtlMinutes);
+
+        int before = states.size();
+        states.values().removeIf(state -> state.isTerminal()
+                ? state.getUpdatedAt().isBefore(terminalBefore)
+                : state.getUpdatedAt().isBefore(activeBefore));
+        LocalDateTime fallbackBefore = now.minusSeconds(fallbackTtlSeconds);
+        fallbacks.values().removeIf(state -> state.getUpdatedAt().isBefore(fallbackBefore));
+
+        int evicted = before - states.size();
+        if (evicted > 0) {
+            log.info("event=job_state_evicted count={} remaining={}", evicted, states.size());
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.eating.service.outbox;
+
+import com.example.eating.domain.outbox.OutboxEvent;
+import com.example.eating.repository.outbox.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 트랜잭션 아웃박스
+ * - 상태 변경과 같은 트랜잭션에 이벤트 행을 남기고, 전송은 OutboxRelay 가 커밋 후 비동기로
+ * - 요청 스레드는 INSERT 한 번만 추가로 부담
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventOutbox {
+
+    public static final String JOB_CHANNEL = "job:";
+    public static final String SESSION_CHANNEL = "session:";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${outbox.retention-minutes:60}")
+    private long retentionMinutes;
+
+    @Value("${outbox.replay-max-events:500}")
+    private int replayMaxEvents;
+
+    /**
+     * 커밋 후 릴레이를 깨우는 신호 (@TransactionalEventListener)
+     */
+    public record Appended(Long id) {
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendJobEvent(String jobId, String eventName, Object payload, boolean terminal) {
+        append(JOB_CHANNEL + jobId, eventName, payload, terminal);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendSessionEvent(String sessionId, String eventName, Object payload, boolean terminal) {
+        append(SESSION_CHANNEL + sessionId, eventName, payload, terminal);
+    }
+
+    private void append(String channel, String eventName, Object payload, boolean terminal) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트 직렬화 실패: " + eventName, e);
+        }
+
+        OutboxEvent event = outboxEventRepository.save(OutboxEvent.builder()
+                .channel(channel)
+                .eventName(eventName)
+                .payload(json)
+                .terminal(terminal)
+                .build());
+
+        eventPublisher.publishEvent(new Appended(event.getId()));
+    }
+
+    /**
+     * 재연결한 구독자가 놓친 이벤트 (Last-Event-ID 이후)
+     */
+    @Transactional(readOnly = true)
+    public List<OutboxEvent> findAfter(String channel, long lastEventId) {
+        return outboxEventRepository.findByChannelAndIdGreaterThanOrderByIdAsc(
+                channel, lastEventId, PageRequest.of(0, replayMaxEvents));
+    }
+
+    /**
+     * 재연결 보관 기간이 지난 이벤트 정리
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${outbox.purge-interval-ms:600000}")
+    public void purge() {
+        int deleted = outboxEventRepository.deleteCreatedBefore(LocalDateTime.now().minusMinutes(retentionMinutes));
+        if (deleted > 0) {
+            log.info("event=outbox_purged deleted={}", deleted);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.eating.service.outbox;
+
+import com.example.eating.controller.SseController;
+import com.example.eating.domain.outbox.OutboxEvent;
+import com.example.eating.repository.outbox.OutboxEventRepository;
+import com.example.eating.tracing.JobTraceRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 아웃박스 → SseController 배치 릴레이 (노드마다 자기 구독자에게 전달)
+ * - 커밋 직후 신호로 깨어나고, 신호를 놓쳐도 주기적으로 한 번 더 확인
+ * - 커서(id) 이후를 배치로 읽어 순서대로 전송, 전용 스레드 하나에서만 실행
+ * - IDENTITY 는 커밋 순서와 다를 수 있어 건너뛴 id 는 gap-timeout 동안 다시 확인
+ * - 최소 한 번 전달: 재시작/재연결로 놓친 이벤트는 구독 시 Last-Event-ID 로 재전송
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    /**
+     * 한 번에 추적할 빈 id 상한 (롤백이 몰려 큰 구멍이 생겨도 메모리 보호)
+     */
+    private static final int MAX_TRACKED_GAPS = 1000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final SseController sseController;
+    private final JobTraceRecorder jobTraceRecorder;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${outbox.gap-timeout-ms:10000}")
+    private long gapTimeoutMs;
+
+    private final ExecutorService relayExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "outbox-relay");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private volatile boolean started;
+
+    /**
+     * 아래 필드는 relay 스레드에서만 접근
+     */
+    private long cursor;
+    private final Map<Long, LocalDateTime> gaps = new LinkedHashMap<>();
+
+    /**
+     * 기동 이전 이벤트는 재연결 구독 시 Last-Event-ID 로 재전송되므로 현재 끝에서 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        relayExecutor.execute(() -> {
+            cursor = outboxEventRepository.findMaxId().orElse(0L);
+            started = true;
+            log.info("event=outbox_relay_started cursor={}", cursor);
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAppended(EventOutbox.Appended appended) {
+        nudge();
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay-interval-ms:1000}")
+    public void nudge() {
+        if (started && scheduled.compareAndSet(false, true)) {
+            relayExecutor.execute(() -> {
+                scheduled.set(false);
+                relay();
+            });
+        }
+    }
+
+    private void relay() {
+        try {
+            recheckGaps();
+
+            List<OutboxEvent> batch;
+            do {
+                batch = outboxEventRepository.findByIdGreaterThanOrderByIdAsc(cursor, PageRequest.of(0, batchSize));
+                for (OutboxEvent event : batch) {
+                    trackGaps(event.getId());
+                    publish(event);
+                    cursor = event.getId();
+                }
+            } while (batch.size() == batchSize);
+        } catch (RuntimeException e) {
+            // 커서는 전송한 곳까지만 전진했으므로 다음 주기에 이어서
+            log.warn("event=outbox_relay_failed cursor={} error={}", cursor, e.getMessage());
+        }
+    }
+
+    private void trackGaps(long id) {
+        LocalDateTime now = LocalDateTime.now();
+        for (long missing = cursor + 1; missing < id && gaps.size() < MAX_TRACKED_GAPS; missing++) {
+            gaps.put(missing, now);
+        }
+    }
+
+    private void recheckGaps() {
+        if (gaps.isEmpty()) {
+            return;
+        }
+
+        // 롤백된 트랜잭션의 id 는 영영 채워지지 않으므로 일정 시간 후 포기
+        LocalDateTime deadline = LocalDateTime.now().minus(Duration.ofMillis(gapTimeoutMs));
+        Iterator<LocalDateTime> seenAt = gaps.values().iterator();
+        while (seenAt.hasNext()) {
+            if (seenAt.next().isBefore(deadline)) {
+                seenAt.remove();
+            }
+        }
+
+        if (gaps.isEmpty()) {
+            return;
+        }
+
+        for (OutboxEvent late : outboxEventRepository.findByIdInOrderByIdAsc(gaps.keySet())) {
+            gaps.remove(late.getId());
+            meterRegistry.counter("outbox.relay.late").increment();
+            publish(late);
+        }
+    }
+
+    private void publish(OutboxEvent event) {
+        String channel = event.getChannel();
+        String eventId = String.valueOf(event.getId());
+
+        if (channel.startsWith(EventOutbox.JOB_CHANNEL)) {
+            String jobId = channel.substring(EventOutbox.JOB_CHANNEL.length());
+            sseController.sendToJob(jobId, event.getEventName(), event.getPayload(), eventId);
+            if ("progress".equals(event.getEventName())) {
+                jobTraceRecorder.onDelivered(jobId, Duration.between(event.getCreatedAt(), LocalDateTime.now()));
+            }
+            if (event.isTerminal()) {
+                sseController.completeJob(jobId);
+            }
+        } else if (channel.startsWith(EventOutbox.SESSION_CHANNEL)) {
+            String sessionId = channel.substring(EventOutbox.SESSION_CHANNEL.length());
+            sseController.sendToSession(sessionId, event.getEventName(), event.getPayload(), eventId);
+            if (event.isTerminal()) {
+                sseController.completeSession(sessionId);
+            }
+        } else {
+            log.warn("event=outbox_unknown_channel id={} channel={}", event.getId(), channel);
+        }
+
+        meterRegistry.counter("outbox.relay.published", "event", event.getEventName()).increment();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        relayExecutor.shutdown();
+    }
+}
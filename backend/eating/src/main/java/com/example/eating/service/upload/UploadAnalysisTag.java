@@ -0,0 +1,50 @@
+package com.example.eating.service.upload;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 업로드 후 자동 분석할 객체에 presign 시점에 붙이는 S3 메타데이터 (x-amz-meta-*)
+ * - 서명에 포함되므로 클라이언트가 값을 바꾸면 S3 가 업로드를 거부
+ * - 이벤트 처리 시 HEAD 로 읽으므로 인스턴스 간 공유 상태가 필요 없음
+ * - 개인정보는 남기지 않음 (사용자는 id 로만 식별하고 이메일은 처리 시 DB 에서 조회)
+ * - contentSha256 은 체크섬을 서명에 넣어 올린 경우만 (내용이 해시와 같다는 것이 S3 에서 보장됨)
+ */
+public record UploadAnalysisTag(String jobId, Long userId, String contentSha256) {
+
+    static final String JOB_ID = "analysis-job-id";
+    static final String USER_ID = "analysis-user-id";
+    static final String CONTENT_SHA256 = "analysis-content-sha256";
+
+    public static UploadAnalysisTag of(Long userId, String jobId) {
+        return new UploadAnalysisTag(jobId, userId, null);
+    }
+
+    public UploadAnalysisTag withContentSha256(String contentSha256) {
+        return new UploadAnalysisTag(jobId, userId, contentSha256);
+    }
+
+    public Map<String, String> toMetadata() {
+        Map<String, String> metadata = new HashMap<>();
+        metadata.put(JOB_ID, jobId);
+        metadata.put(USER_ID, String.valueOf(userId));
+        if (contentSha256 != null) {
+            metadata.put(CONTENT_SHA256, contentSha256);
+        }
+        return metadata;
+    }
+
+    public static Optional<UploadAnalysisTag> fromMetadata(Map<String, String> metadata) {
+        String jobId = metadata.get(JOB_ID);
+        String userId = metadata.get(USER_ID);
+        if (jobId == null || userId == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new UploadAnalysisTag(jobId, Long.valueOf(userId), metadata.get(CONTENT_SHA256)));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+}
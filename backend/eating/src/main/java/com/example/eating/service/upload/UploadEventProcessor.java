@@ -0,0 +1,262 @@
+package com.example.eating.service.upload;
+
+import com.example.eating.auth.AuthPrincipal;
+import com.example.eating.domain.media.PendingUploadEvent;
+import com.example.eating.repository.UserRepository;
+import com.example.eating.repository.media.PendingUploadEventRepository;
+import com.example.eating.service.PresignedUrlService;
+import com.example.eating.service.RecipeJobService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드 완료 이벤트 → 레시피 분석 자동 시작
+ * - 이벤트 수신 API 는 pending_upload_event 에 기록하고 큐에 넣은 뒤 응답 (S3/MinIO 알림은 빠른 2xx 를 기대)
+ *   기록하지 못하면 503 → 보낸 쪽이 재시도, 큐가 가득 차거나 재시작으로 큐를 잃어도 행이 남아 다시 처리
+ * - 처리(무시 포함)하면 행 삭제, 예외면 attempts 를 올리고 retry-delay 뒤 다시 처리
+ * - 워커가 HEAD 로 presign 시 붙인 메타데이터를 읽어 요청한 사용자로 분석 시작
+ * - 메타데이터가 없는 객체(분석 요청 없이 올린 사진 등)는 무시
+ * - 같은 이벤트가 중복 전달돼도 jobId 가 이미 등록돼 있으면 건너뜀
+ * - 체크섬을 서명해 올린 분석 업로드는 내용 해시 인덱스에 기록 (다음 같은 내용은 중복 제거)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UploadEventProcessor {
+
+    private final S3Client s3Client;
+    private final PresignedUrlService presignedUrlService;
+    private final RecipeJobService recipeJobService;
+    private final UserRepository userRepository;
+    private final PendingUploadEventRepository pendingUploadEventRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${aws.s3.bucket}")
+    private String bucket;
+
+    @Value("${upload.events.queue-capacity:1000}")
+    private int queueCapacity;
+
+    /**
+     * 큐에 넣은 행은 이 시간 동안 다시 꺼내지 않음 (실패 시 attempts 배수로 대기)
+     */
+    @Value("${upload.events.retry-delay-seconds:60}")
+    private long retryDelaySeconds;
+
+    @Value("${upload.events.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${upload.events.sweep-batch-size:100}")
+    private int sweepBatchSize;
+
+    @Value("${upload.events.drain-timeout-ms:10000}")
+    private long drainTimeoutMs;
+
+    private BlockingQueue<String> queue;
+
+    /**
+     * 큐에 넣었지만 아직 처리가 끝나지 않은 수 (drain 이 take 직후의 알림을 놓치지 않도록 큐에 넣기 전에 셈)
+     */
+    private final AtomicInteger unfinished = new AtomicInteger();
+
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "upload-event-worker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PostConstruct
+    void start() {
+        queue = new LinkedBlockingQueue<>(queueCapacity);
+        meterRegistry.gaugeCollectionSize("upload.events.queued", List.of(), queue);
+        worker.submit(this::consume);
+    }
+
+    /**
+     * DB 에 기록하지 못하면 false (수신 API 가 503 으로 응답해 보낸 쪽이 재시도)
+     * - 이미 기록된 키(중복 알림)는 true
+     * - 큐가 가득 차면 행만 남기고 true (sweep 이 retry-delay 뒤 처리)
+     */
+    public boolean offer(String key) {
+        try {
+            pendingUploadEventRepository.save(PendingUploadEvent.builder()
+                    .s3Key(key)
+                    .availableAt(LocalDateTime.now().plusSeconds(retryDelaySeconds))
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            log.debug("event=upload_event_already_pending key={}", key);
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("event=upload_event_rejected key={} error={}", key, e.getMessage());
+            return false;
+        }
+
+        if (!enqueue(key)) {
+            log.warn("event=upload_event_deferred key={} queued={}", key, queue.size());
+        }
+        return true;
+    }
+
+    private boolean enqueue(String key) {
+        unfinished.incrementAndGet();
+        if (queue.offer(key)) {
+            return true;
+        }
+        unfinished.decrementAndGet();
+        return false;
+    }
+
+    /**
+     * 큐를 거치지 못했거나 실패/재시작으로 남은 행을 다시 큐로
+     * - claim 으로 availableAt 을 미뤄 다른 인스턴스와 같은 행을 동시에 꺼내지 않음
+     */
+    @Scheduled(fixedDelayString = "${upload.events.sweep-interval-ms:10000}")
+    public void sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        List<PendingUploadEvent> due = pendingUploadEventRepository.findByAvailableAtBeforeAndAttemptsLessThanOrderByIdAsc(
+                now, maxAttempts, PageRequest.of(0, sweepBatchSize));
+
+        for (PendingUploadEvent event : due) {
+            if (queue.remainingCapacity() == 0) {
+                return;
+            }
+            if (pendingUploadEventRepository.claim(event.getId(), event.getAvailableAt(),
+                    now.plusSeconds(retryDelaySeconds)) == 1) {
+                enqueue(event.getS3Key());
+                meterRegistry.counter("upload.events.swept").increment();
+            }
+        }
+    }
+
+    private void consume() {
+        while (!Thread.currentThread().isInterrupted()) {
+            String key;
+            try {
+                key = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            try {
+                process(key);
+                pendingUploadEventRepository.deleteByKey(key);
+            } catch (RuntimeException e) {
+                meterRegistry.counter("upload.events.processed", "result", "error").increment();
+                log.warn("event=upload_event_failed key={} error={}", key, e.getMessage());
+                recordFailure(key);
+            } finally {
+                unfinished.decrementAndGet();
+            }
+        }
+    }
+
+    private void recordFailure(String key) {
+        try {
+            // 한 번 실패할 때마다 대기 시간을 retry-delay 만큼 늘림 (max-attempts 에 닿으면 행만 남김)
+            PendingUploadEvent event = pendingUploadEventRepository.findByS3Key(key).orElse(null);
+            int attempts = event == null ? 1 : event.getAttempts() + 1;
+            pendingUploadEventRepository.recordFailure(key, LocalDateTime.now().plusSeconds(retryDelaySeconds * attempts));
+            if (attempts >= maxAttempts) {
+                log.warn("event=upload_event_gave_up key={} attempts={}", key, attempts);
+            }
+        } catch (DataAccessException e) {
+            // 행이 그대로 남아 있으므로 availableAt 이 지나면 다시 처리됨
+            log.warn("event=upload_event_failure_not_recorded key={} error={}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 종료 전에 큐에 남은 알림을 deadline 까지 처리
+     * - 처리하지 못한 것은 행으로 남아 다음 기동 후 sweep 이 처리
+     *
+     * @return 처리하지 못하고 남은 수
+     */
+    public int drain(long deadlineMillis) {
+        while (unfinished.get() > 0 && System.currentTimeMillis() < deadlineMillis) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return unfinished.get();
+    }
+
+    void process(String key) {
+        HeadObjectResponse head;
+        try {
+            head = s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build());
+        } catch (NoSuchKeyException e) {
+            log.warn("event=upload_event_missing_object key={}", key);
+            return;
+        }
+
+        UploadAnalysisTag tag = UploadAnalysisTag.fromMetadata(head.metadata()).orElse(null);
+        if (tag == null) {
+            meterRegistry.counter("upload.events.processed", "result", "ignored").increment();
+            return;
+        }
+
+        AuthPrincipal principal = userRepository.findById(tag.userId())
+                .map(user -> new AuthPrincipal(user.getId(), user.getEmail()))
+                .orElse(null);
+        if (principal == null) {
+            meterRegistry.counter("upload.events.processed", "result", "ignored").increment();
+            log.warn("event=upload_event_unknown_user key={} jobId={} userId={}", key, tag.jobId(), tag.userId());
+            return;
+        }
+
+        if (tag.contentSha256() != null) {
+            presignedUrlService.recordContent(tag.contentSha256(), key, head.contentType());
+        }
+
+        try {
+            boolean started = recipeJobService.startAnalyzeForUpload(
+                    principal, tag.jobId(), presignedUrlService.fileUrl(key)).isPresent();
+
+            meterRegistry.counter("upload.events.processed", "result", started ? "started" : "duplicate").increment();
+            log.info("event=upload_analysis_triggered key={} jobId={} userId={} started={}",
+                    key, tag.jobId(), tag.userId(), started);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 같은 이벤트로 먼저 등록
+            meterRegistry.counter("upload.events.processed", "result", "duplicate").increment();
+        }
+    }
+
+    /**
+     * 웹 서버 graceful shutdown 이후 (새 알림이 더 오지 않음) 큐를 drain-timeout 까지 비우고 종료
+     * - 남은 것 / 처리 중이던 것은 행이 남아 있어 다음 기동 후 sweep 이 처리
+     * - GracefulDrain 에서 하지 않는 이유: fast-startup 프로필에서 지연 생성되는 빈이라 의존하면 기동 시 생성됨
+     */
+    @PreDestroy
+    void shutdown() {
+        int left = drain(System.currentTimeMillis() + drainTimeoutMs);
+        if (left > 0) {
+            log.warn("event=upload_events_left_pending count={}", left);
+        }
+        worker.shutdownNow();
+    }
+}
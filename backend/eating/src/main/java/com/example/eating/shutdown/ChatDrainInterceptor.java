@@ -0,0 +1,34 @@
+package com.example.eating.shutdown;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * /chat/** 진행 중 호출 수 추적, 종료 중이면 새 호출은 503
+ */
+@RequiredArgsConstructor
+public class ChatDrainInterceptor implements HandlerInterceptor {
+
+    private static final String ENTERED_ATTRIBUTE = ChatDrainInterceptor.class.getName() + ".entered";
+
+    private final DrainState drainState;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!drainState.tryEnterChat()) {
+            throw new ServiceDrainingException(drainState.jitteredRetry());
+        }
+        request.setAttribute(ENTERED_ATTRIBUTE, Boolean.TRUE);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(ENTERED_ATTRIBUTE) != null) {
+            request.removeAttribute(ENTERED_ATTRIBUTE);
+            drainState.exitChat();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.eating.shutdown;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 종료(drain) 상태 + 진행 중인 채팅 호출 수
+ * - 재연결 힌트는 구독자마다 무작위로 흩어 새 노드에 한꺼번에 몰리지 않게 함
+ */
+@Component
+@RequiredArgsConstructor
+public class DrainState {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${drain.reconnect-min-ms:1000}")
+    private long reconnectMinMs;
+
+    @Value("${drain.reconnect-max-ms:15000}")
+    private long reconnectMaxMs;
+
+    private volatile boolean draining;
+
+    private final AtomicInteger inFlightChats = new AtomicInteger();
+
+    @PostConstruct
+    void registerGauge() {
+        meterRegistry.gauge("chat.in_flight", inFlightChats);
+    }
+
+    public boolean isDraining() {
+        return draining;
+    }
+
+    void startDraining() {
+        draining = true;
+    }
+
+    /**
+     * 종료 중이면 false (새 채팅 호출을 받지 않음)
+     */
+    public boolean tryEnterChat() {
+        if (draining) {
+            return false;
+        }
+        inFlightChats.incrementAndGet();
+        if (draining) {
+            inFlightChats.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    public void exitChat() {
+        inFlightChats.decrementAndGet();
+    }
+
+    int inFlightChats() {
+        return inFlightChats.get();
+    }
+
+    public Duration jitteredRetry() {
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(reconnectMinMs, reconnectMaxMs + 1));
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.eating.shutdown;
+
+import com.example.eating.controller.SseController;
+import com.example.eating.service.chat.ChatSessionTouchBuffer;
+import com.example.eating.service.outbox.OutboxRelay;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재배포 시 종료 순서
+ * 1. 새 SSE 구독 / 채팅 호출 거절 (503 + Retry-After)
+ * 2. 열린 SSE 에 reconnect 이벤트 (구독자마다 다른 retry) 후 종료
+ *    → 브라우저가 흩어진 시점에 Last-Event-ID 와 함께 새 노드로 재연결
+ * 3. 진행 중인 채팅(FastAPI 블로킹 호출)을 deadline 까지 대기
+ * 4. write-behind 버퍼 / 아웃박스 반영
+ * - 웹 서버 graceful shutdown 보다 먼저 실행 (끝나지 않는 SSE 요청이 graceful 대기를 붙잡지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GracefulDrain implements SmartLifecycle {
+
+    private final DrainState drainState;
+    private final SseController sseController;
+    private final ChatSessionTouchBuffer touchBuffer;
+    private final OutboxRelay outboxRelay;
+
+    @Value("${drain.chat-deadline-ms:20000}")
+    private long chatDeadlineMs;
+
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        long start = System.currentTimeMillis();
+        drainState.startDraining();
+
+        int closed = sseController.drain(drainState::jitteredRetry);
+        log.info("event=drain_started sseClosed={} inFlightChats={}", closed, drainState.inFlightChats());
+
+        long deadline = start + chatDeadlineMs;
+        while (drainState.inFlightChats() > 0 && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        if (drainState.inFlightChats() > 0) {
+            log.warn("event=drain_deadline_exceeded inFlightChats={}", drainState.inFlightChats());
+        }
+
+        touchBuffer.flush();
+        outboxRelay.nudge();
+
+        running = false;
+        log.info("event=drain_finished tookMs={}", System.currentTimeMillis() - start);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 가장 먼저 멈춤 (웹 서버 graceful shutdown 은 DEFAULT_PHASE - 1024)
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.eating.shutdown;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+
+/**
+ * 종료 중인 노드: 503 + Retry-After (다른 노드로 다시 시도)
+ */
+public class ServiceDrainingException extends ResponseStatusException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceDrainingException(Duration retryAfter) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, "서버가 재시작 중입니다. 잠시 후 다시 시도해주세요.");
+        this.retryAfterSeconds = Math.max(1, (long) Math.ceil(retryAfter.toMillis() / 1000.0));
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        return headers;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.eating.sql;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Spring Data repository 호출 추적
+ * - 지금 실행 중인 repository 메서드를 SQL 의 출처로 기록
+ * - 호출이 slow-threshold 를 넘으면 그 안에서 실행된 SQL 과 함께 slow_query 로그
+ * - repository 밖에서 나온 SQL 은 지연 로딩(lazy-load)
+ */
+@Slf4j
+public class RepositoryCallTracker implements MethodInterceptor {
+
+    static final String LAZY_LOAD = "lazy-load";
+
+    private static final ThreadLocal<Deque<Call>> CALLS = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private final long slowThresholdNanos;
+
+    private static final class Call {
+        private final String method;
+        private final List<String> statements = new ArrayList<>();
+
+        private Call(String method) {
+            this.method = method;
+        }
+    }
+
+    public RepositoryCallTracker(long slowThresholdMs) {
+        this.slowThresholdNanos = slowThresholdMs * 1_000_000;
+    }
+
+    static String currentOrigin() {
+        Call call = CALLS.get().peek();
+        return call == null ? LAZY_LOAD : call.method;
+    }
+
+    static void recordStatement(String sql) {
+        Call call = CALLS.get().peek();
+        if (call != null) {
+            call.statements.add(sql);
+        }
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Deque<Call> calls = CALLS.get();
+        Call call = new Call(invocation.getMethod().getDeclaringClass().getSimpleName()
+                + "." + invocation.getMethod().getName());
+        calls.push(call);
+
+        long start = System.nanoTime();
+        try {
+            return invocation.proceed();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            calls.pop();
+            if (calls.isEmpty()) {
+                CALLS.remove();
+            }
+
+            if (elapsed >= slowThresholdNanos && !call.statements.isEmpty()) {
+                log.warn("event=slow_query repository={} tookMs={} statements={} sql={}",
+                        call.method, elapsed / 1_000_000, call.statements.size(), call.statements);
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.eating.sql;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * 모든 Spring Data repository 프록시에 RepositoryCallTracker 를 붙임
+ * (repository 생성 전인 factory bean 초기화 직전에 customizer 등록)
+ */
+public class RepositoryInspectionPostProcessor implements BeanPostProcessor {
+
+    private final RepositoryCallTracker tracker;
+
+    public RepositoryInspectionPostProcessor(RepositoryCallTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory ->
+                    factory.addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) ->
+                            proxyFactory.addAdvice(tracker)));
+        }
+        return bean;
+    }
+}
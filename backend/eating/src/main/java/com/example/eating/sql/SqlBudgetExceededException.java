@@ -0,0 +1,11 @@
+package com.example.eating.sql;
+
+/**
+ * 엔드포인트별 쿼리 예산 초과 (sql-inspect.strict=true 일 때만, 테스트용)
+ */
+public class SqlBudgetExceededException extends IllegalStateException {
+
+    public SqlBudgetExceededException(String endpoint, int budget, int actual) {
+        super("쿼리 예산 초과: " + endpoint + " budget=" + budget + " actual=" + actual);
+    }
+}
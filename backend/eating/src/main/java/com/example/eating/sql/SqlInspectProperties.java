@@ -0,0 +1,34 @@
+package com.example.eating.sql;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "sql-inspect")
+public class SqlInspectProperties {
+
+    /**
+     * 요청당 문장 수가 이 값을 넘으면 경고
+     */
+    private int requestWarnThreshold = 30;
+
+    /**
+     * 같은 문장이 이 횟수 이상 반복되면 N+1 경고
+     */
+    private int repeatThreshold = 5;
+
+    /**
+     * 예산 초과 시 예외 (테스트에서 켬)
+     */
+    private boolean strict = false;
+
+    /**
+     * "GET /chat/session/{sessionId}" -> 허용 문장 수
+     */
+    private Map<String, Integer> budgets = new HashMap<>();
+}
@@ -0,0 +1,82 @@
+package com.example.eating.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 요청당 SQL 수 집계
+ * - 임계치 초과 / 같은 문장 반복(N+1 후보) 경고
+ * - 엔드포인트별 예산 초과 시 경고, strict 면 예외
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SqlInspectionFilter extends OncePerRequestFilter {
+
+    private final SqlInspectProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        SqlRequestStats stats = SqlRequestStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlRequestStats.end();
+        }
+
+        inspect(endpoint(request), stats);
+    }
+
+    private void inspect(String endpoint, SqlRequestStats stats) {
+        int total = stats.getTotal();
+
+        DistributionSummary.builder("http.server.sql_statements")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .record(total);
+
+        if (total > properties.getRequestWarnThreshold()) {
+            log.warn("event=sql_request_heavy endpoint={} statements={}", endpoint, total);
+        }
+
+        for (Map.Entry<String, SqlRequestStats.Statement> entry : stats.repeated(properties.getRepeatThreshold()).entrySet()) {
+            SqlRequestStats.Statement statement = entry.getValue();
+            meterRegistry.counter("http.server.sql_repeated", "endpoint", endpoint).increment();
+            log.warn("event=sql_n_plus_one endpoint={} origin={} count={} sql={}",
+                    endpoint, statement.origin(), statement.count(), statement.sql());
+        }
+
+        Integer budget = properties.getBudgets().get(endpoint);
+        if (budget != null && total > budget) {
+            log.warn("event=sql_budget_exceeded endpoint={} budget={} statements={}", endpoint, budget, total);
+            if (properties.isStrict()) {
+                throw new SqlBudgetExceededException(endpoint, budget, total);
+            }
+        }
+    }
+
+    /**
+     * "GET /chat/session/{sessionId}" (매핑 패턴 기준, 경로 변수 값은 제외)
+     */
+    private String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : "UNMAPPED");
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.eating.sql;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * HTTP 요청 하나에서 실행된 SQL 집계 (요청 스레드 ThreadLocal)
+ * - 같은 문장(파라미터는 ? 로 동일)이 반복되면 N+1 후보
+ */
+public class SqlRequestStats {
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private int total;
+
+    /**
+     * sql -> (횟수, 처음 실행한 repository 메서드)
+     */
+    private final Map<String, Statement> statements = new LinkedHashMap<>();
+
+    public record Statement(String sql, String origin, int count) {
+    }
+
+    static SqlRequestStats begin() {
+        SqlRequestStats stats = new SqlRequestStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    void record(String sql, String origin) {
+        total++;
+        statements.merge(sql, new Statement(sql, origin, 1),
+                (prev, ignored) -> new Statement(sql, prev.origin(), prev.count() + 1));
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * threshold 번 이상 반복된 문장
+     */
+    public Map<String, Statement> repeated(int threshold) {
+        Map<String, Statement> repeated = new LinkedHashMap<>();
+        statements.forEach((sql, statement) -> {
+            if (statement.count() >= threshold) {
+                repeated.put(sql, statement);
+            }
+        });
+        return repeated;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.eating.sql;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Hibernate 가 준비하는 모든 SQL 을 거치는 지점
+ * - 요청별 집계(SqlRequestStats), repository 호출별 기록(RepositoryCallTracker)
+ * - show_sql 대신 sample-rate 비율의 문장만 한 줄로 기록 (0 이면 끔)
+ */
+@Slf4j
+public class SqlStatementInspector implements StatementInspector {
+
+    private final double sampleRate;
+
+    public SqlStatementInspector(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        String origin = RepositoryCallTracker.currentOrigin();
+
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            stats.record(sql, origin);
+        }
+        RepositoryCallTracker.recordStatement(sql);
+
+        if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            log.info("event=sql_sampled origin={} sql={}", origin, sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.eating.tracing;
+
+import io.micrometer.observation.Observation;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 작업 하나의 타임라인
+ * - stage는 progress 콜백의 step 값이 바뀔 때마다 닫히고 새로 열림
+ * - completed/failed 이후 콜백(재전송 등)은 무시
+ * - 작업/stage 마다 Observation (tracing bridge 가 span 으로 내보냄)
+ * - 콜백 스레드에서 바뀌는 값은 모두 이 객체의 락 안에서 읽고 씀
+ */
+@Getter
+public class JobTrace {
+
+    private final String jobId;
+    private final String traceId;
+    private final String spanId;
+    private final Instant createdAt;
+    private final Observation observation;
+
+    @Getter(AccessLevel.NONE)
+    private Instant dispatchedAt;
+    @Getter(AccessLevel.NONE)
+    private Instant firstProgressAt;
+    @Getter(AccessLevel.NONE)
+    private Instant finishedAt;
+    @Getter(AccessLevel.NONE)
+    private String finalStatus;
+
+    @Getter(AccessLevel.NONE)
+    private final List<StageSpan> stages = new ArrayList<>();
+
+    /**
+     * 콜백 수신 → SSE 전송 완료까지 지연
+     */
+    @Getter(AccessLevel.NONE)
+    private long deliveryCount;
+    @Getter(AccessLevel.NONE)
+    private long deliveryTotalNanos;
+    @Getter(AccessLevel.NONE)
+    private long deliveryMaxNanos;
+
+    public JobTrace(String jobId, String traceId, String spanId, Observation observation) {
+        this.jobId = jobId;
+        this.traceId = traceId;
+        this.spanId = spanId;
+        this.createdAt = Instant.now();
+        this.observation = observation;
+    }
+
+    synchronized void markDispatched() {
+        if (dispatchedAt == null) {
+            dispatchedAt = Instant.now();
+        }
+    }
+
+    /**
+     * 이번 콜백으로 닫힌 stage / 새로 열린 stage / 작업 종료 여부
+     * / 첫 콜백이면 전달(없으면 생성)부터 걸린 시간
+     */
+    record Progress(List<StageSpan> ended, StageSpan started, boolean finished, Duration timeToFirstProgress) {
+        static final Progress IGNORED = new Progress(List.of(), null, false, null);
+    }
+
+    synchronized Progress onProgress(String step, String status, Instant receivedAt) {
+        if (finishedAt != null) {
+            return Progress.IGNORED;
+        }
+        Duration timeToFirstProgress = null;
+        if (firstProgressAt == null) {
+            firstProgressAt = receivedAt;
+            timeToFirstProgress = timeToFirstProgress();
+        }
+
+        List<StageSpan> ended = new ArrayList<>(2);
+        StageSpan started = null;
+        StageSpan current = stages.isEmpty() ? null : stages.get(stages.size() - 1);
+
+        if (current == null || !Objects.equals(current.getStep(), step)) {
+            if (current != null) {
+                current.end(receivedAt);
+                ended.add(current);
+            }
+            started = new StageSpan(step, receivedAt);
+            stages.add(started);
+        }
+
+        boolean finished = "completed".equalsIgnoreCase(status) || "failed".equalsIgnoreCase(status);
+        if (finished) {
+            StageSpan last = stages.get(stages.size() - 1);
+            last.end(receivedAt);
+            ended.add(last);
+            finishedAt = receivedAt;
+            finalStatus = status.toLowerCase();
+        }
+
+        return new Progress(ended, started, finished, timeToFirstProgress);
+    }
+
+    synchronized void recordDelivery(long lagNanos) {
+        deliveryCount++;
+        deliveryTotalNanos += lagNanos;
+        deliveryMaxNanos = Math.max(deliveryMaxNanos, lagNanos);
+    }
+
+    public synchronized List<StageSpan> snapshotStages() {
+        return List.copyOf(stages);
+    }
+
+    public synchronized Duration timeToFirstProgress() {
+        Instant from = dispatchedAt != null ? dispatchedAt : createdAt;
+        return firstProgressAt == null ? null : Duration.between(from, firstProgressAt);
+    }
+
+    public synchronized Instant getDispatchedAt() {
+        return dispatchedAt;
+    }
+
+    public synchronized Instant getFirstProgressAt() {
+        return firstProgressAt;
+    }
+
+    public synchronized Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public synchronized String getFinalStatus() {
+        return finalStatus;
+    }
+
+    public synchronized long getDeliveryCount() {
+        return deliveryCount;
+    }
+
+    public synchronized long getDeliveryTotalNanos() {
+        return deliveryTotalNanos;
+    }
+
+    public synchronized long getDeliveryMaxNanos() {
+        return deliveryMaxNanos;
+    }
+
+    @Getter
+    public static class StageSpan {
+        private final String step;
+        private final Instant startedAt;
+        private volatile Instant endedAt;
+        private volatile Observation observation;
+
+        StageSpan(String step, Instant startedAt) {
+            this.step = step;
+            this.startedAt = startedAt;
+        }
+
+        void end(Instant at) {
+            this.endedAt = at;
+        }
+
+        void observe(Observation observation) {
+            this.observation = observation;
+        }
+
+        public Duration duration() {
+            return Duration.between(startedAt, endedAt != null ? endedAt : Instant.now());
+        }
+    }
+}
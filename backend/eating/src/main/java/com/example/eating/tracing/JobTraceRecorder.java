@@ -0,0 +1,154 @@
+package com.example.eating.tracing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.Tracer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 분석 작업 추적
+ * - /recipes/analyze 에서 작업 Observation(recipe.job) 을 열고, traceId/spanId 는 그 span 에서 가져옴
+ * - FastAPI 호출은 observationContext(jobId) 를 contextWrite 로 넘겨 작업 span 아래 http client span 으로 기록
+ *   → traceparent 헤더는 Boot 의 WebClient 계측이 넣음
+ * - progress 콜백을 step 단위 stage(recipe.job.stage) 로 기록, 이 노드에서 시작하지 않은 작업의 콜백은 무시
+ *   → FastAPI 가 돌려준 traceparent 로 이어진 콜백 요청 span 이 같은 trace 면 그 아래에 stage 를 염
+ * - 타이머는 Boot 의 meter handler 가, span 내보내기는 OTel bridge/exporter 가 처리
+ * - 첫 progress까지 시간, 콜백→SSE 전송 지연은 메트릭으로 남김
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobTraceRecorder {
+
+    private final MeterRegistry meterRegistry;
+    private final ObservationRegistry observationRegistry;
+    private final Tracer tracer;
+
+    private final Map<String, JobTrace> traces = new ConcurrentHashMap<>();
+
+    @Value("${job.trace.retention-minutes:60}")
+    private long retentionMinutes;
+
+    public JobTrace start(String jobId) {
+        Observation observation = Observation.createNotStarted("recipe.job", observationRegistry)
+                .contextualName("recipe-job")
+                .highCardinalityKeyValue("job.id", jobId)
+                .start();
+
+        TraceContext context;
+        try (Observation.Scope scope = observation.openScope()) {
+            Span span = tracer.currentSpan();
+            context = span != null ? span.context() : null;
+        }
+
+        JobTrace trace = new JobTrace(jobId,
+                context != null ? context.traceId() : null,
+                context != null ? context.spanId() : null,
+                observation);
+        traces.put(jobId, trace);
+        return trace;
+    }
+
+    public Optional<JobTrace> find(String jobId) {
+        return Optional.ofNullable(traces.get(jobId));
+    }
+
+    /**
+     * FastAPI 호출 Mono 에 contextWrite 로 넘기면 http client span 이 작업 span 아래에 생김
+     */
+    public Context observationContext(String jobId) {
+        return find(jobId)
+                .map(trace -> Context.of(ObservationThreadLocalAccessor.KEY, trace.getObservation()))
+                .orElseGet(Context::empty);
+    }
+
+    public void onDispatched(String jobId) {
+        find(jobId).ifPresent(JobTrace::markDispatched);
+    }
+
+    public void onProgress(String jobId, String step, String status, Instant receivedAt) {
+        JobTrace trace = traces.get(jobId);
+        if (trace == null) {
+            log.debug("event=job_trace_unknown jobId={}", jobId);
+            return;
+        }
+
+        JobTrace.Progress progress = trace.onProgress(step, status, receivedAt);
+
+        if (progress.timeToFirstProgress() != null) {
+            Timer.builder("recipe.job.first_progress")
+                    .register(meterRegistry)
+                    .record(progress.timeToFirstProgress());
+        }
+        if (progress.started() != null) {
+            progress.started().observe(Observation.createNotStarted("recipe.job.stage", observationRegistry)
+                    .parentObservation(stageParent(trace))
+                    .lowCardinalityKeyValue("step", step != null ? step : "unknown")
+                    .start());
+        }
+        progress.ended().stream()
+                .map(JobTrace.StageSpan::getObservation)
+                .filter(Objects::nonNull)
+                .forEach(Observation::stop);
+        if (progress.finished()) {
+            trace.getObservation()
+                    .lowCardinalityKeyValue("status", trace.getFinalStatus())
+                    .stop();
+            log.info("event=job_trace_finished jobId={} traceId={} status={} stages={}",
+                    jobId, trace.getTraceId(), trace.getFinalStatus(), trace.snapshotStages().size());
+        }
+    }
+
+    public void onDelivered(String jobId, Duration lag) {
+        find(jobId).ifPresent(trace -> trace.recordDelivery(lag.toNanos()));
+        Timer.builder("recipe.job.delivery_lag")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(lag);
+    }
+
+    /**
+     * 지금 처리 중인 콜백 요청의 span 이 작업과 같은 trace 면 그 요청 Observation, 아니면 작업 Observation
+     * - FastAPI 가 traceparent 를 돌려주지 않은 콜백은 새 trace 로 시작하므로 작업 span 에 붙임
+     */
+    private Observation stageParent(JobTrace trace) {
+        Observation current = observationRegistry.getCurrentObservation();
+        Span span = tracer.currentSpan();
+        if (current != null && span != null && span.context().traceId().equals(trace.getTraceId())) {
+            return current;
+        }
+        return trace.getObservation();
+    }
+
+    @Scheduled(fixedDelayString = "${job.trace.evict-interval-ms:60000}")
+    public void evictExpired() {
+        Instant before = Instant.now().minus(Duration.ofMinutes(retentionMinutes));
+        traces.values().removeIf(trace -> {
+            if (!trace.getCreatedAt().isBefore(before)) {
+                return false;
+            }
+            // 끝나지 않은 채 만료된 작업도 Observation 은 닫음
+            if (trace.getFinishedAt() == null) {
+                trace.getObservation().lowCardinalityKeyValue("status", "expired").stop();
+            }
+            return true;
+        });
+    }
+}
@@ -0,0 +1,136 @@
+-- 기준 스키마: ddl-auto: update 시절 Hibernate 가 만들던 것과 같은 구조
+-- - 기존 DB 는 spring.flyway.baseline-on-migrate 로 이 버전을 건너뛰고 V2 부터 적용
+-- - MySQL 8 과 테스트용 H2(MODE=MySQL) 양쪽에서 돌도록 테이블 옵션 없이 작성
+
+create table user (
+    id bigint not null auto_increment,
+    email varchar(64),
+    password varchar(128),
+    nickname varchar(32),
+    primary key (id),
+    constraint uk_user_email unique (email)
+);
+
+create table recipe (
+    id bigint not null auto_increment,
+    user_id bigint not null,
+    title varchar(255),
+    description varchar(1000),
+    servings varchar(255),
+    total_time varchar(255),
+    difficulty varchar(255),
+    created_at datetime(6),
+    primary key (id)
+);
+
+create table ingredient (
+    id bigint not null auto_increment,
+    recipe_id bigint not null,
+    name varchar(255),
+    amount varchar(255),
+    unit varchar(255),
+    note varchar(500),
+    primary key (id)
+);
+
+create table recipe_step (
+    id bigint not null auto_increment,
+    recipe_id bigint not null,
+    step_number integer not null,
+    instruction text,
+    timestamp double not null,
+    duration varchar(255),
+    details text,
+    tips text,
+    primary key (id)
+);
+
+create table recipe_tip (
+    id bigint not null auto_increment,
+    recipe_id bigint not null,
+    content varchar(255) not null,
+    primary key (id)
+);
+
+create table recipe_video (
+    id bigint not null auto_increment,
+    recipe_id bigint not null,
+    video_id varchar(255) not null,
+    title varchar(255),
+    duration integer,
+    url varchar(500),
+    primary key (id),
+    constraint uk_recipe_video_recipe unique (recipe_id)
+);
+
+create table recipe_job (
+    id bigint not null auto_increment,
+    job_id varchar(64) not null,
+    user_id bigint not null,
+    url varchar(500),
+    status enum ('QUEUED','PENDING','PROCESSING','COMPLETED','FAILED') not null,
+    progress integer,
+    step varchar(50),
+    message varchar(500),
+    created_at datetime(6) not null,
+    dispatched_at datetime(6),
+    started_at datetime(6),
+    finished_at datetime(6),
+    updated_at datetime(6) not null,
+    primary key (id),
+    constraint uk_recipe_job_job_id unique (job_id)
+);
+
+create table chat_session (
+    id bigint not null auto_increment,
+    session_id varchar(64) not null,
+    user_id bigint not null,
+    recipe_title varchar(255) not null,
+    current_step integer not null,
+    total_steps integer not null,
+    status enum ('ACTIVE','FINISHED','EXPIRED') not null,
+    created_at datetime(6) not null,
+    last_used_at datetime(6) not null,
+    primary key (id),
+    constraint uk_chat_session_session_id unique (session_id)
+);
+
+create table chat_session_completed_step (
+    chat_session_id bigint not null,
+    step_number integer
+);
+
+create table media_object (
+    id bigint not null auto_increment,
+    content_hash varchar(64) not null,
+    s3_key varchar(200) not null,
+    content_type varchar(100),
+    created_at datetime(6) not null,
+    primary key (id),
+    constraint uk_media_object_content_hash unique (content_hash)
+);
+
+create table outbox_event (
+    id bigint not null auto_increment,
+    channel varchar(100) not null,
+    event_name varchar(32) not null,
+    payload text not null,
+    terminal bit not null,
+    created_at datetime(6) not null,
+    primary key (id)
+);
+
+create index idx_recipe_job_user_status on recipe_job (user_id, status);
+create index idx_recipe_job_status_created on recipe_job (status, created_at);
+create index idx_chat_session_user on chat_session (user_id);
+create index idx_chat_session_status on chat_session (status);
+create index idx_outbox_event_channel on outbox_event (channel, id);
+create index idx_outbox_event_created on outbox_event (created_at);
+
+alter table recipe add constraint fk_recipe_user foreign key (user_id) references user (id);
+alter table ingredient add constraint fk_ingredient_recipe foreign key (recipe_id) references recipe (id);
+alter table recipe_step add constraint fk_recipe_step_recipe foreign key (recipe_id) references recipe (id);
+alter table recipe_tip add constraint fk_recipe_tip_recipe foreign key (recipe_id) references recipe (id);
+alter table recipe_video add constraint fk_recipe_video_recipe foreign key (recipe_id) references recipe (id);
+alter table chat_session_completed_step add constraint fk_chat_session_completed_step_session
+    foreign key (chat_session_id) references chat_session (id);
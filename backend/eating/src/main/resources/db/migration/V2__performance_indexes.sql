@@ -0,0 +1,25 @@
+-- 부하 시 필요한 인덱스 (엔티티 @Table(indexes) 와 같이 유지)
+-- - MySQL 8 의 보조 인덱스 추가/삭제는 기본이 INPLACE + LOCK=NONE 이라 쓰기를 막지 않음
+-- - FK 때문에 자동 생성된 (recipe_id) / (user_id) 인덱스는 아래 인덱스가 대신하면 MySQL 이 정리함
+
+-- 내 레시피 목록: findByUser_IdOrderByCreatedAtDesc (정렬까지 인덱스 순서로)
+create index idx_recipe_user_created on recipe (user_id, created_at);
+
+-- 레시피 상세: 단계/재료/팁 지연 로딩 (where recipe_id = ?)
+create index idx_recipe_step_recipe_step on recipe_step (recipe_id, step_number);
+create index idx_ingredient_recipe on ingredient (recipe_id);
+create index idx_recipe_tip_recipe on recipe_tip (recipe_id);
+
+-- 같은 영상으로 만든 레시피 조회
+create index idx_recipe_video_video on recipe_video (video_id);
+
+-- 세션 만료/보관: findByStatusAndLastUsedAtBefore
+-- InnoDB 보조 인덱스에는 PK 가 들어 있어 id 만 읽는 스캔은 인덱스만으로 끝남
+create index idx_chat_session_status_last_used on chat_session (status, last_used_at);
+
+-- 세션 목록: findByUserIdOrderByLastUsedAtDesc, findByUserIdAndStatus
+create index idx_chat_session_user_last_used on chat_session (user_id, last_used_at);
+
+-- 위 두 인덱스의 앞부분과 같아 중복
+drop index idx_chat_session_user on chat_session;
+drop index idx_chat_session_status on chat_session;
@@ -0,0 +1,28 @@
+-- 종료(FINISHED/EXPIRED) 후 보관 기간이 지난 세션을 옮겨 두는 테이블 (ChatSessionArchiver)
+-- - 운영 테이블 chat_session 은 진행 중/최근 세션만 남아 session_id 조회와 인덱스가 작게 유지됨
+-- - id 는 원래 값을 그대로 써서 같은 세션이 두 번 옮겨지지 않게 함
+-- - 파티셔닝은 MySQL 이 파티션 테이블의 FK 를 지원하지 않아(completed_step) 쓰지 않음
+
+create table chat_session_archive (
+    id bigint not null,
+    session_id varchar(64) not null,
+    user_id bigint not null,
+    recipe_title varchar(255) not null,
+    current_step integer not null,
+    total_steps integer not null,
+    status enum ('ACTIVE','FINISHED','EXPIRED') not null,
+    created_at datetime(6) not null,
+    last_used_at datetime(6) not null,
+    archived_at datetime(6) not null,
+    primary key (id),
+    constraint uk_chat_session_archive_session_id unique (session_id)
+);
+
+create index idx_chat_session_archive_user_last_used on chat_session_archive (user_id, last_used_at);
+
+create table chat_session_completed_step_archive (
+    chat_session_id bigint not null,
+    step_number integer
+);
+
+create index idx_chat_session_completed_step_archive_session on chat_session_completed_step_archive (chat_session_id);
@@ -0,0 +1,6 @@
+-- 작업을 접수한 인스턴스 (RecipeJobAdmission 의 메모리 대기열/실행 슬롯은 인스턴스마다 따로 있음)
+-- - 재시작 시 자기 인스턴스의 QUEUED 만 실패 처리하고, PENDING/PROCESSING 은 실행 슬롯으로 다시 셈
+-- - 이전 행은 null (어느 인스턴스 것인지 모름 → 오래된 QUEUED 정리 대상)
+alter table recipe_job add column node_id varchar(64);
+
+create index idx_recipe_job_node_status on recipe_job (node_id, status);
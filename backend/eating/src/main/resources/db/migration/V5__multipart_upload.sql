@@ -0,0 +1,12 @@
+-- 진행 중인 멀티파트 업로드의 소유자
+-- - parts/complete/abort 는 uploadId 를 시작한 사용자만 호출 가능
+-- - complete/abort 시 삭제 (중단되지 않은 업로드는 S3 수명주기 규칙이 정리)
+create table multipart_upload (
+    upload_id varchar(255) not null,
+    s3_key varchar(200) not null,
+    user_id bigint not null,
+    created_at datetime(6) not null,
+    primary key (upload_id)
+);
+
+create index idx_multipart_upload_user on multipart_upload (user_id);
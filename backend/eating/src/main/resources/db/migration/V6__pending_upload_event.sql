@@ -0,0 +1,14 @@
+-- 처리 전 업로드 완료 알림 (수신 API 는 이 행을 쓴 뒤에 2xx 응답)
+-- - 처리하면 삭제, 실패/재시작으로 남은 행은 available_at 이 지나면 다시 처리
+-- - s3_key 가 같으면 한 행 (중복 전달된 알림)
+create table pending_upload_event (
+    id bigint not null auto_increment,
+    s3_key varchar(200) not null,
+    attempts int not null,
+    available_at datetime(6) not null,
+    created_at datetime(6) not null,
+    primary key (id),
+    constraint uk_pending_upload_event_s3_key unique (s3_key)
+);
+
+create index idx_pending_upload_event_available on pending_upload_event (available_at);
@@ -0,0 +1,177 @@
+package com.example.eating.smoketest;
+
+import com.example.eating.loadtest.FakeFastApiServer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 빌드 결과물 스모크 테스트 (JVM jar / 네이티브 바이너리 공통)
+ * - 네이티브에서 리플렉션/리소스 힌트가 빠지면 깨지는 경로를 한 번씩 지남
+ *   (JSON DTO, JPA 엔티티 + 지연 로딩, WebClient → FastAPI, S3 presign, actuator)
+ * - DB 는 SPRING_DATASOURCE_* 환경변수 (빈 DB 면 Flyway 가 스키마 생성)
+ *
+ * ./gradlew jvmSmokeTest
+ * ./gradlew nativeSmokeTest -Pnative
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class EatingSmokeTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final HttpClient CLIENT = HttpClient.newHttpClient();
+    private static final String METRICS_SECRET = "smoke-metrics-secret";
+
+    private static FakeFastApiServer fastApi;
+    private static SmokeTarget target;
+    private static String token;
+
+    @BeforeAll
+    static void startApp() throws Exception {
+        fastApi = new FakeFastApiServer();
+        target = SmokeTarget.start(List.of(
+                "--spring.profiles.active=prod,fast-startup",
+                "--spring.datasource.hikari.minimum-idle=2",
+                "--fast.base-url=" + fastApi.baseUrl(),
+                // presign 은 로컬 서명만 하므로 실제 자격 증명이 필요 없음
+                "--aws.credentials.access-key=smoke",
+                "--aws.credentials.secret-key=smoke",
+                "--auth.token.secret=smoke-test-token-secret-0123456789abcdef",
+                "--metrics.scrape.secret=" + METRICS_SECRET
+        ));
+        fastApi.setSpringBaseUrl(target.baseUrl());
+    }
+
+    @AfterAll
+    static void stopApp() throws Exception {
+        if (target != null) {
+            target.close();
+        }
+        if (fastApi != null) {
+            fastApi.close();
+        }
+    }
+
+    @Test
+    @Order(1)
+    void actuatorEndpoints() throws Exception {
+        HttpResponse<String> anonymous = send(HttpRequest.newBuilder(URI.create(target.api() + "/actuator/prometheus")).GET());
+        assertThat(anonymous.statusCode()).isEqualTo(401);
+
+        HttpResponse<String> prometheus = send(HttpRequest.newBuilder(URI.create(target.api() + "/actuator/prometheus"))
+                .header("Authorization", "Bearer " + METRICS_SECRET)
+                .GET());
+
+        assertThat(prometheus.statusCode()).isEqualTo(200);
+        assertThat(prometheus.body()).contains("http_server_requests");
+    }
+
+    @Test
+    @Order(2)
+    void signupAndLogin() throws Exception {
+        String email = "smoke-" + UUID.randomUUID() + "@example.com";
+
+        HttpResponse<String> signup = post("/user/signup", null,
+                Map.of("email", email, "password", "password", "nickname", "smoke"));
+        assertThat(signup.statusCode()).isLessThan(300);
+
+        HttpResponse<String> login = post("/auth/login", null, Map.of("email", email, "password", "password"));
+        assertThat(login.statusCode()).isEqualTo(200);
+
+        token = OBJECT_MAPPER.readTree(login.body()).get("accessToken").asText();
+        assertThat(token).isNotBlank();
+    }
+
+    @Test
+    @Order(3)
+    void analyzeJobCompletesAndResultIsSaved() throws Exception {
+        HttpResponse<String> analyze = post("/recipes/analyze", token,
+                Map.of("url", "https://www.youtube.com/watch?v=dQw4w9WgXcQ"));
+        assertThat(analyze.statusCode()).isLessThan(300);
+        String jobId = OBJECT_MAPPER.readTree(analyze.body()).get("jobId").asText();
+
+        String status = null;
+        for (int i = 0; i < 60 && !"completed".equals(status); i++) {
+            Thread.sleep(500);
+            JsonNode body = OBJECT_MAPPER.readTree(get("/recipes/status/" + jobId, token).body());
+            status = body.path("status").asText();
+        }
+        assertThat(status).isEqualTo("completed");
+
+        HttpResponse<String> result = get("/recipes/result/" + jobId, token);
+        assertThat(result.statusCode()).isEqualTo(200);
+        assertThat(result.body()).contains("김치찌개");
+    }
+
+    @Test
+    @Order(4)
+    void chatSessionLifecycle() throws Exception {
+        Map<String, Object> recipe = Map.of(
+                "title", "김치찌개",
+                "steps", List.of(
+                        Map.of("step_number", 1, "instruction", "김치를 썬다"),
+                        Map.of("step_number", 2, "instruction", "돼지고기를 볶는다")));
+
+        HttpResponse<String> start = post("/chat/start", token, Map.of("recipe", recipe));
+        assertThat(start.statusCode()).isEqualTo(200);
+        String sessionId = OBJECT_MAPPER.readTree(start.body()).get("session_id").asText();
+
+        HttpResponse<String> message = post("/chat/message", token,
+                Map.of("session_id", sessionId, "step_number", 1, "message", "불은 어느 정도로 하나요?"));
+        assertThat(message.statusCode()).isEqualTo(200);
+
+        assertThat(post("/chat/session/" + sessionId + "/complete-step/1", token, Map.of()).statusCode()).isEqualTo(200);
+        assertThat(get("/chat/session/" + sessionId, token).statusCode()).isEqualTo(200);
+        assertThat(send(HttpRequest.newBuilder(URI.create(target.api() + "/chat/session/" + sessionId))
+                .header("Authorization", "Bearer " + token)
+                .DELETE()).statusCode()).isEqualTo(200);
+    }
+
+    @Test
+    @Order(5)
+    void presignedUploadUrl() throws Exception {
+        HttpResponse<String> response = post("/presigned-url", null,
+                Map.of("fileName", "smoke.jpg", "contentType", "image/jpeg"));
+
+        assertThat(response.statusCode()).isEqualTo(201);
+        assertThat(OBJECT_MAPPER.readTree(response.body()).get("uploadUrl").asText()).contains("X-Amz-Signature");
+    }
+
+    private static HttpResponse<String> get(String path, String token) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(target.api() + path)).GET();
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return send(request);
+    }
+
+    private static HttpResponse<String> post(String path, String token, Object body) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(target.api() + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(OBJECT_MAPPER.writeValueAsBytes(body)));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return send(request);
+    }
+
+    private static HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return CLIENT.send(request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
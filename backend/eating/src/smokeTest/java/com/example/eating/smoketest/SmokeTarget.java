@@ -0,0 +1,137 @@
+package com.example.eating.smoketest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스모크 테스트 대상 프로세스 (부트 jar 또는 네이티브 바이너리)
+ * - smoketest.command 를 빈 포트로 띄우고 /api/actuator/health 가 UP 이 될 때까지 대기
+ * - 기동 시간과 그 시점 RSS 를 함께 기록 (정밀 비교는 src/startup 벤치마크)
+ * - 앱 로그: build/reports/smoke/app.log
+ */
+final class SmokeTarget implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(Long.getLong("smoketest.startup-timeout-seconds", 120));
+
+    private final Process process;
+    private final int port;
+    private final long startupMs;
+    private final long rssKb;
+
+    private SmokeTarget(Process process, int port, long startupMs, long rssKb) {
+        this.process = process;
+        this.port = port;
+        this.startupMs = startupMs;
+        this.rssKb = rssKb;
+    }
+
+    static SmokeTarget start(List<String> arguments) throws IOException, InterruptedException {
+        String command = System.getProperty("smoketest.command");
+        if (command == null || command.isBlank()) {
+            throw new IllegalStateException("smoketest.command 가 필요합니다. (./gradlew jvmSmokeTest 또는 nativeSmokeTest -Pnative)");
+        }
+
+        int port = freePort();
+        List<String> commandLine = new ArrayList<>(Arrays.asList(command.trim().split("\\s+")));
+        commandLine.add("--server.port=" + port);
+        commandLine.addAll(arguments);
+
+        Path log = Path.of(System.getProperty("smoketest.log", "build/reports/smoke/app.log"));
+        Files.createDirectories(log.getParent());
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(commandLine)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest health = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + "/api/actuator/health"))
+                .timeout(Duration.ofSeconds(1))
+                .GET()
+                .build();
+        long deadline = start + STARTUP_TIMEOUT.toNanos();
+
+        while (true) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("앱이 기동 중 종료되었습니다. exit=" + process.exitValue() + " log=" + log);
+            }
+            if (System.nanoTime() > deadline) {
+                process.destroyForcibly();
+                throw new IllegalStateException("앱이 " + STARTUP_TIMEOUT + " 안에 준비되지 않았습니다. log=" + log);
+            }
+            try {
+                HttpResponse<String> response = client.send(health, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() == 200 && response.body().contains("\"UP\"")) {
+                    break;
+                }
+            } catch (IOException e) {
+                // 아직 포트가 열리지 않음
+            }
+            Thread.sleep(50);
+        }
+
+        long startupMs = (System.nanoTime() - start) / 1_000_000;
+        SmokeTarget target = new SmokeTarget(process, port, startupMs, readRssKb(process.pid()));
+        System.out.printf("smoke target ready: command=%s startupMs=%d rssMb=%d%n",
+                command, target.startupMs, target.rssKb / 1024);
+        return target;
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + port;
+    }
+
+    String api() {
+        return baseUrl() + "/api";
+    }
+
+    long startupMs() {
+        return startupMs;
+    }
+
+    long rssKb() {
+        return rssKb;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+    }
+
+    /**
+     * /proc 이 없는 환경(macOS 등)에서는 0
+     */
+    private static long readRssKb(long pid) {
+        try {
+            return Files.readAllLines(Path.of("/proc", String.valueOf(pid), "status")).stream()
+                    .filter(line -> line.startsWith("VmRSS:"))
+                    .map(line -> line.replaceAll("\\D", ""))
+                    .mapToLong(Long::parseLong)
+                    .findFirst()
+                    .orElse(0);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+#!/usr/bin/env bash
+# 기동 시간(프로세스 시작 → /api/actuator/health UP)과 그 시점 RSS 측정
+#
+#   bash src/startup/startup-benchmark.sh <boot jar> <output dir> [native binary]
+#
+# 변형별로 STARTUP_BENCH_RUNS 번(기본 5) 띄워 평균/최소/최대를 남김
+#   baseline      : prod
+#   fast-startup  : prod,fast-startup (validate, 지연 빈, Thymeleaf 제외)
+#   aot           : + -Dspring.aot.enabled=true   (jar 를 -PfastStartup 으로 빌드했을 때만)
+#   aot-cds       : + AppCDS 아카이브              (위와 같음, 학습 실행 포함)
+#   native        : GraalVM 네이티브 바이너리       (세 번째 인자가 있을 때만)
+#
+# DB/FastAPI 접속 정보는 평소처럼 환경변수(SPRING_DATASOURCE_URL_KTB 등)로 넘김
+# 첫 실행만 Flyway 마이그레이션이 돌지 않도록 미리 마이그레이션된 DB 를 쓸 것
+set -euo pipefail
+
+JAR="${1:?boot jar path}"
+OUT_DIR="${2:?output dir}"
+NATIVE_BINARY="${3:-}"
+RUNS="${STARTUP_BENCH_RUNS:-5}"
+PORT="${STARTUP_BENCH_PORT:-18080}"
+TIMEOUT_SEC="${STARTUP_BENCH_TIMEOUT_SEC:-120}"
+HEALTH_URL="http://127.0.0.1:${PORT}/api/actuator/health"
+
+mkdir -p "$OUT_DIR"
+WORK_DIR="$(mktemp -d)"
+trap 'rm -rf "$WORK_DIR"' EXIT
+
+# CDS 는 학습/실행 클래스패스가 같아야 하므로 풀어둔 레이아웃으로 실행
+java -Djarmode=tools -jar "$JAR" extract --destination "$WORK_DIR/app" > /dev/null
+APP_JAR="$WORK_DIR/app/$(basename "$JAR")"
+
+HAS_AOT=false
+# grep -q 는 찾자마자 끝나 unzip 이 SIGPIPE 로 실패 → pipefail 때문에 항상 false 가 되므로 끝까지 읽음
+if unzip -l "$JAR" | grep '__ApplicationContextInitializer' > /dev/null; then
+    HAS_AOT=true
+fi
+
+now_ms() {
+    date +%s%3N
+}
+
+# 한 번 띄워 "health UP 까지 걸린 ms, 그 시점 RSS(kB)" 출력 후 종료
+# 인자: 실행할 명령 전체 (포트는 --server.port 로 덧붙임)
+measure() {
+    local start pid elapsed rss
+    start=$(now_ms)
+    "$@" --server.port="$PORT" > "$WORK_DIR/last.log" 2>&1 &
+    pid=$!
+
+    while true; do
+        if curl -fs "$HEALTH_URL" 2>/dev/null | grep -q '"UP"'; then
+            elapsed=$(( $(now_ms) - start ))
+            rss=$(awk '/^VmRSS:/ {print $2}' "/proc/$pid/status")
+            break
+        fi
+        if ! kill -0 "$pid" 2>/dev/null || (( $(now_ms) - start > TIMEOUT_SEC * 1000 )); then
+            kill "$pid" 2>/dev/null || true
+            echo "startup failed, see log:" >&2
+            tail -n 50 "$WORK_DIR/last.log" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    echo "$elapsed $rss"
+}
+
+RESULTS=()
+
+# 인자: 변형 이름, 실행할 명령 전체
+run_variant() {
+    local name="$1"
+    shift
+    local samples=() sum=0 min=0 max=0 rssSum=0 ms rss
+    for ((i = 1; i <= RUNS; i++)); do
+        read -r ms rss < <(measure "$@") || true
+        if [[ -z "${ms:-}" ]]; then
+            exit 1
+        fi
+        samples+=("$ms")
+        sum=$((sum + ms))
+        rssSum=$((rssSum + rss))
+        if ((min == 0 || ms < min)); then min=$ms; fi
+        if ((ms > max)); then max=$ms; fi
+    done
+    local avg=$((sum / RUNS))
+    local avgRssMb=$((rssSum / RUNS / 1024))
+    printf '%-14s avg=%6dms min=%6dms max=%6dms rss=%5dMB\n' "$name" "$avg" "$min" "$max" "$avgRssMb"
+    RESULTS+=("{\"variant\":\"$name\",\"runs\":$RUNS,\"avgMs\":$avg,\"minMs\":$min,\"maxMs\":$max,\"avgRssMb\":$avgRssMb,\"samplesMs\":[$(IFS=,; echo "${samples[*]}")]}")
+}
+
+run_variant baseline java -jar "$APP_JAR" --spring.profiles.active=prod
+run_variant fast-startup java -jar "$APP_JAR" --spring.profiles.active=prod,fast-startup
+
+if [[ "$HAS_AOT" == true ]]; then
+    run_variant aot java -Dspring.aot.enabled=true -jar "$APP_JAR" --spring.profiles.active=prod,fast-startup
+
+    java -XX:ArchiveClassesAtExit="$WORK_DIR/app.jsa" -Dspring.context.exit=onRefresh -Dspring.aot.enabled=true \
+        -jar "$APP_JAR" --spring.profiles.active=prod,fast-startup > "$WORK_DIR/cds-training.log" 2>&1
+    run_variant aot-cds java -XX:SharedArchiveFile="$WORK_DIR/app.jsa" -Dspring.aot.enabled=true \
+        -jar "$APP_JAR" --spring.profiles.active=prod,fast-startup
+else
+    echo "AOT classes not found in $JAR; build with -PfastStartup to measure aot / aot-cds" >&2
+fi
+
+if [[ -n "$NATIVE_BINARY" ]]; then
+    run_variant native "$NATIVE_BINARY" --spring.profiles.active=prod,fast-startup
+fi
+
+{
+    echo "{"
+    echo "  \"jdk\": \"$(java -version 2>&1 | head -n 1 | sed 's/"/\\"/g')\","
+    echo "  \"cpus\": $(nproc),"
+    echo "  \"results\": ["
+    for ((i = 0; i < ${#RESULTS[@]}; i++)); do
+        sep=","
+        if ((i == ${#RESULTS[@]} - 1)); then sep=""; fi
+        echo "    ${RESULTS[$i]}$sep"
+    done
+    echo "  ]"
+    echo "}"
+} > "$OUT_DIR/results.json"
+
+echo "results: $OUT_DIR/results.json"
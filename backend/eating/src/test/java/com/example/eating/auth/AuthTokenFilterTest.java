@@ -0,0 +1,68 @@
+package com.example.eating.auth;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 토큰 위치
+ * - Authorization: Bearer 헤더는 모든 경로
+ * - access_token 쿼리 파라미터는 SSE 구독(GET /sse/**)만 (EventSource 는 헤더를 못 붙임)
+ */
+class AuthTokenFilterTest {
+
+    private static final AuthPrincipal PRINCIPAL = new AuthPrincipal(1L, "cook@example.com");
+
+    private final AuthTokenSigner authTokenSigner = mock(AuthTokenSigner.class);
+    private final AuthTokenFilter filter = new AuthTokenFilter(authTokenSigner);
+
+    @BeforeEach
+    void setUp() {
+        when(authTokenSigner.verify(anyString())).thenReturn(Optional.empty());
+        when(authTokenSigner.verify("valid")).thenReturn(Optional.of(PRINCIPAL));
+    }
+
+    @Test
+    void bearerHeaderAuthenticatesAnyPath() throws Exception {
+        MockHttpServletRequest request = request("POST", "/api/chat/message");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer valid");
+
+        assertThat(filter(request)).isEqualTo(PRINCIPAL);
+    }
+
+    @Test
+    void queryTokenAuthenticatesSseSubscribeOnly() throws Exception {
+        MockHttpServletRequest sse = request("GET", "/api/sse/jobs/a");
+        sse.setParameter("access_token", "valid");
+        assertThat(filter(sse)).isEqualTo(PRINCIPAL);
+
+        MockHttpServletRequest other = request("GET", "/api/recipes/jobs");
+        other.setParameter("access_token", "valid");
+        assertThat(filter(other)).isNull();
+
+        MockHttpServletRequest invalid = request("GET", "/api/sse/jobs/a");
+        invalid.setParameter("access_token", "forged");
+        assertThat(filter(invalid)).isNull();
+    }
+
+    private Object filter(MockHttpServletRequest request) throws Exception {
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return request.getAttribute(AuthPrincipal.REQUEST_ATTRIBUTE);
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setContextPath("/api");
+        return request;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.eating.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.env.Environment;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * fast-startup 프로필의 startup.lazy-beans
+ * - 적힌 빈이 모두 존재하고, 기동이 끝난 뒤에도 만들어지지 않았는지
+ *   (의존하는 빈이 즉시 생성되면 지연이 풀리므로 목록이 실제로 효과가 있는지 확인)
+ */
+@SpringBootTest
+@ActiveProfiles({"h2", "fast-startup"})
+class LazyBeansPostProcessorTest {
+
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
+    @Autowired
+    private Environment environment;
+
+    @Test
+    void listedBeansAreNotCreatedAtStartup() {
+        String[] beanNames = environment.getProperty("startup.lazy-beans", String[].class, new String[0]);
+
+        assertThat(beanNames).isNotEmpty();
+        Arrays.stream(beanNames).map(String::trim).forEach(name -> {
+            assertThat(beanFactory.containsBeanDefinition(name)).as(name).isTrue();
+            assertThat(beanFactory.containsSingleton(name)).as(name).isFalse();
+        });
+    }
+}
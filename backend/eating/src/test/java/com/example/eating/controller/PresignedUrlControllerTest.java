@@ -0,0 +1,121 @@
+package com.example.eating.controller;
+
+import com.example.eating.auth.AuthPrincipal;
+import com.example.eating.auth.AuthPrincipalArgumentResolver;
+import com.example.eating.domain.media.MultipartUpload;
+import com.example.eating.repository.media.MediaObjectRepository;
+import com.example.eating.repository.media.MultipartUploadRepository;
+import com.example.eating.service.PresignedUploadSlotPool;
+import com.example.eating.service.PresignedUrlService;
+import com.example.eating.service.RecipeJobService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 멀티파트 parts/complete/abort 소유권
+ * - 다른 사용자의 uploadId 는 403, S3 호출 없음
+ * - 로그인하지 않으면 401, 모르는 uploadId / 다른 키는 404
+ */
+class PresignedUrlControllerTest {
+
+    private static final String KEY = "recipes/5d0c7f1e";
+    private static final String UPLOAD_ID = "upload-1";
+
+    private static final AuthPrincipal OWNER = new AuthPrincipal(1L, "owner@example.com");
+    private static final AuthPrincipal OTHER = new AuthPrincipal(2L, "other@example.com");
+
+    private final S3Client s3Client = mock(S3Client.class);
+    private final S3Presigner s3Presigner = mock(S3Presigner.class);
+    private final MultipartUploadRepository multipartUploadRepository = mock(MultipartUploadRepository.class);
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        PresignedUrlService presignedUrlService = new PresignedUrlService(s3Presigner, s3Client,
+                mock(PresignedUploadSlotPool.class), mock(MediaObjectRepository.class),
+                multipartUploadRepository, mock(RecipeJobService.class));
+        ReflectionTestUtils.setField(presignedUrlService, "bucket", "test-bucket");
+        ReflectionTestUtils.setField(presignedUrlService, "endpoint", "");
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new PresignedUrlController(presignedUrlService))
+                .setCustomArgumentResolvers(new AuthPrincipalArgumentResolver())
+                .build();
+
+        when(multipartUploadRepository.findById(UPLOAD_ID)).thenReturn(Optional.of(
+                MultipartUpload.builder().uploadId(UPLOAD_ID).s3Key(KEY).userId(OWNER.userId()).build()));
+    }
+
+    @Test
+    void anotherUsersUploadIdIsRejected() throws Exception {
+        mockMvc.perform(as(OTHER, post("/presigned-url/multipart/parts"))
+                        .content(body("\"partNumbers\":[1]")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(as(OTHER, post("/presigned-url/multipart/complete"))
+                        .content(body("\"parts\":[{\"partNumber\":1,\"etag\":\"e\"}]")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(as(OTHER, post("/presigned-url/multipart/abort"))
+                        .content(body(null)))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(s3Client, s3Presigner);
+        verify(multipartUploadRepository, never()).delete(any());
+    }
+
+    @Test
+    void ownerCanAbort() throws Exception {
+        mockMvc.perform(as(OWNER, post("/presigned-url/multipart/abort"))
+                        .content(body(null)))
+                .andExpect(status().isNoContent());
+
+        verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(multipartUploadRepository).delete(any(MultipartUpload.class));
+    }
+
+    @Test
+    void anonymousOrUnknownUploadIsRejected() throws Exception {
+        mockMvc.perform(post("/presigned-url/multipart/abort")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(null)))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(as(OWNER, post("/presigned-url/multipart/complete"))
+                        .content("{\"key\":\"recipes/other\",\"uploadId\":\"" + UPLOAD_ID
+                                + "\",\"parts\":[{\"partNumber\":1,\"etag\":\"e\"}]}"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(as(OWNER, post("/presigned-url/multipart/abort"))
+                        .content("{\"key\":\"" + KEY + "\",\"uploadId\":\"upload-unknown\"}"))
+                .andExpect(status().isNotFound());
+
+        verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+        verify(s3Client, never()).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    }
+
+    private static MockHttpServletRequestBuilder as(AuthPrincipal principal, MockHttpServletRequestBuilder request) {
+        return request.requestAttr(AuthPrincipal.REQUEST_ATTRIBUTE, principal)
+                .contentType(MediaType.APPLICATION_JSON);
+    }
+
+    private static String body(String extra) {
+        return "{\"key\":\"" + KEY + "\",\"uploadId\":\"" + UPLOAD_ID + "\"" + (extra == null ? "" : "," + extra) + "}";
+    }
+}
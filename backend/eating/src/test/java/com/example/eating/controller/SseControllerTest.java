@@ -0,0 +1,161 @@
+package com.example.eating.controller;
+
+import com.example.eating.auth.AuthPrincipal;
+import com.example.eating.auth.AuthPrincipalArgumentResolver;
+import com.example.eating.domain.outbox.OutboxEvent;
+import com.example.eating.service.chat.ChatSessionStore;
+import com.example.eating.service.job.RecipeJobRegistry;
+import com.example.eating.service.outbox.EventOutbox;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * SSE 구독 시 아웃박스 재전송
+ * - Last-Event-ID 가 숫자면 그 이후만, 없거나 숫자가 아니면 채널 처음부터
+ * - 아웃박스를 거치지 않는 이벤트는 id 없이 보내 다음 재연결의 Last-Event-ID 를 바꾸지 않음
+ * - drain: 열린 구독에 reconnect(retry) 를 보내고 닫은 뒤, 새 구독은 503 + Retry-After
+ * - 작업/세션 소유자만 구독 (다른 사용자 403, 없는 채널 404, 비로그인 401), 거절되면 재전송하지 않음
+ */
+class SseControllerTest {
+
+    private static final AuthPrincipal OWNER = new AuthPrincipal(1L, "owner@example.com");
+
+    private final EventOutbox eventOutbox = mock(EventOutbox.class);
+    private final RecipeJobRegistry recipeJobRegistry = mock(RecipeJobRegistry.class);
+    private final ChatSessionStore chatSessionStore = mock(ChatSessionStore.class);
+
+    private SseController sseController;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        sseController = new SseController(new SimpleMeterRegistry(), eventOutbox, recipeJobRegistry, chatSessionStore);
+        mockMvc = MockMvcBuilders.standaloneSetup(sseController)
+                .setCustomArgumentResolvers(new AuthPrincipalArgumentResolver())
+                .defaultRequest(get("/").requestAttr(AuthPrincipal.REQUEST_ATTRIBUTE, OWNER))
+                .build();
+        when(eventOutbox.findAfter(anyString(), anyLong())).thenReturn(List.of());
+    }
+
+    @Test
+    void firstSubscribeAfterJobFinishedGetsTheTerminalEvent() throws Exception {
+        when(eventOutbox.findAfter("job:a", 0L)).thenReturn(List.of(
+                event(3L, "progress", "{\"status\":\"processing\"}", false),
+                event(4L, "completed", "{\"status\":\"completed\"}", true)));
+
+        String body = subscribe("/sse/jobs/a", null);
+
+        assertThat(body).contains("event:connected", "id:3", "event:completed", "id:4");
+        assertThat(body.indexOf("id:3")).isLessThan(body.indexOf("id:4"));
+    }
+
+    @Test
+    void numericLastEventIdReplaysOnlyWhatWasMissed() throws Exception {
+        subscribe("/sse/jobs/a", "5");
+
+        verify(eventOutbox).findAfter("job:a", 5L);
+    }
+
+    @Test
+    void nonNumericLastEventIdReplaysFromStart() throws Exception {
+        subscribe("/sse/sessions/s", "3f1c2b9e-queue-event");
+
+        verify(eventOutbox).findAfter("session:s", 0L);
+    }
+
+    @Test
+    void eventsOutsideTheOutboxCarryNoId() throws Exception {
+        MvcResult result = mockMvc.perform(get("/sse/jobs/a")).andReturn();
+
+        sseController.sendToJob("a", "queued", "{\"queuePosition\":2}");
+        sseController.sendToJob("a", "progress", "{}", "7");
+
+        String body = result.getResponse().getContentAsString();
+        String queued = body.substring(body.indexOf("event:queued"), body.indexOf("event:progress"));
+        assertThat(queued).doesNotContain("id:");
+        assertThat(body.substring(body.indexOf("event:progress"))).contains("id:7");
+    }
+
+    @Test
+    void drainSendsReconnectAndRejectsNewSubscribers() throws Exception {
+        MvcResult job = mockMvc.perform(get("/sse/jobs/a")).andReturn();
+        MvcResult session = mockMvc.perform(get("/sse/sessions/s")).andReturn();
+
+        assertThat(sseController.drain(() -> Duration.ofMillis(1500))).isEqualTo(2);
+
+        for (MvcResult result : List.of(job, session)) {
+            assertThat(result.getResponse().getContentAsString()).contains("event:reconnect", "retry:1500");
+            assertThat(result.getRequest().getAsyncContext()).isNotNull();
+            mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+        }
+
+        mockMvc.perform(get("/sse/jobs/b"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"));
+    }
+
+    @Test
+    void otherUsersChannelIsNotReplayed() throws Exception {
+        when(recipeJobRegistry.getOwnedJob(1L, "theirs")).thenThrow(new IllegalStateException("작업 접근 권한이 없습니다."));
+        when(recipeJobRegistry.getOwnedJob(1L, "missing")).thenThrow(new IllegalArgumentException("작업이 존재하지 않습니다."));
+        when(chatSessionStore.getOwnedSession(1L, "theirs")).thenThrow(new IllegalStateException("세션 접근 권한이 없습니다."));
+
+        mockMvc.perform(get("/sse/jobs/theirs")).andExpect(status().isForbidden());
+        mockMvc.perform(get("/sse/jobs/missing")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/sse/sessions/theirs")).andExpect(status().isForbidden());
+
+        verifyNoInteractions(eventOutbox);
+    }
+
+    @Test
+    void anonymousSubscribeIsRejected() throws Exception {
+        MockMvc anonymous = MockMvcBuilders.standaloneSetup(sseController)
+                .setCustomArgumentResolvers(new AuthPrincipalArgumentResolver())
+                .build();
+
+        anonymous.perform(get("/sse/jobs/a")).andExpect(status().isUnauthorized());
+        anonymous.perform(get("/sse/sessions/s")).andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(eventOutbox, recipeJobRegistry, chatSessionStore);
+    }
+
+    private String subscribe(String path, String lastEventId) throws Exception {
+        var request = get(path);
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        return mockMvc.perform(request).andReturn().getResponse().getContentAsString();
+    }
+
+    private static OutboxEvent event(Long id, String eventName, String payload, boolean terminal) {
+        OutboxEvent event = OutboxEvent.builder()
+                .channel("job:a")
+                .eventName(eventName)
+                .payload(payload)
+                .terminal(terminal)
+                .build();
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.eating.datasource;
+
+import com.example.eating.auth.AuthPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 임베디드 H2 두 개(primary / replica)로 라우팅 확인
+ */
+class ReplicationRoutingDataSourceTest {
+
+    private final DriverManagerDataSource primary = h2("primary");
+    private final DriverManagerDataSource replica = h2("replica");
+
+    private final ReplicaLagMonitor lagMonitor =
+            new ReplicaLagMonitor(new JdbcTemplate(replica), "", Duration.ofSeconds(5));
+    private final ReadYourWritesTracker readYourWrites =
+            new ReadYourWritesTracker(Duration.ofSeconds(2), lagMonitor);
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        ReplicationRoutingDataSource routing = new ReplicationRoutingDataSource(readYourWrites, lagMonitor);
+        routing.setTargetDataSources(Map.of(
+                DataSourceRole.PRIMARY, primary,
+                DataSourceRole.REPLICA, replica
+        ));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        actAs(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplica() {
+        assertThat(servedBy(readOnly)).isEqualTo("replica");
+        assertThat(servedBy(readWrite)).isEqualTo("primary");
+    }
+
+    @Test
+    void readsRightAfterOwnWriteGoToPrimary() {
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE db_role SET touched = touched + 1"));
+
+        assertThat(servedBy(readOnly)).isEqualTo("primary");
+
+        actAs(2L);
+        assertThat(servedBy(readOnly)).isEqualTo("replica");
+    }
+
+    @Test
+    void laggingReplicaIsBypassed() {
+        lagMonitor.update(Duration.ofSeconds(10));
+        assertThat(servedBy(readOnly)).isEqualTo("primary");
+
+        lagMonitor.update(null);
+        assertThat(servedBy(readOnly)).isEqualTo("primary");
+
+        lagMonitor.update(Duration.ofMillis(100));
+        assertThat(servedBy(readOnly)).isEqualTo("replica");
+    }
+
+    private String servedBy(TransactionTemplate transactionTemplate) {
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM db_role", String.class));
+    }
+
+    private static void actAs(Long userId) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(AuthPrincipal.REQUEST_ATTRIBUTE, new AuthPrincipal(userId, "cook" + userId + "@example.com"));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private static DriverManagerDataSource h2(String role) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + role + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE db_role (name VARCHAR(16), touched INT)");
+        jdbcTemplate.update("INSERT INTO db_role VALUES (?, 0)", role);
+        return dataSource;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.eating.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.handler.timeout.ReadTimeoutException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+
+import java.net.ConnectException;
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * FastAPI 응답 타임아웃만 fastapi.client.timeouts 로 세는지 (연결 오류/정상 응답은 제외)
+ */
+class FastApiTimeoutFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void responseTimeoutIsCountedPerEndpoint() {
+        WebClient client = client(Mono.error(requestError(ReadTimeoutException.INSTANCE)));
+
+        assertThatThrownBy(() -> client.get().uri("/api/status/{jobId}", "job-1").retrieve().toBodilessEntity().block())
+                .isInstanceOf(WebClientRequestException.class);
+
+        assertThat(meterRegistry.get("fastapi.client.timeouts").tag("endpoint", "/api/status/{jobId}")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void otherOutcomesAreNotCounted() {
+        client(Mono.just(ClientResponse.create(HttpStatus.OK).build()))
+                .get().uri("/api/status/{jobId}", "job-1").retrieve().toBodilessEntity().block();
+        assertThatThrownBy(() -> client(Mono.error(requestError(new ConnectException("refused"))))
+                .get().uri("/api/status/{jobId}", "job-1").retrieve().toBodilessEntity().block())
+                .isInstanceOf(WebClientRequestException.class);
+
+        assertThat(meterRegistry.find("fastapi.client.timeouts").counter()).isNull();
+    }
+
+    /**
+     * 커넥터가 던지는 형태 그대로 (원인을 WebClientRequestException 으로 감쌈)
+     */
+    private static WebClientRequestException requestError(Throwable cause) {
+        return new WebClientRequestException(cause, HttpMethod.GET, URI.create("http://fastapi/api/status/job-1"),
+                new HttpHeaders());
+    }
+
+    private WebClient client(Mono<ClientResponse> outcome) {
+        return WebClient.builder()
+                .baseUrl("http://fastapi")
+                .filter(new FastApiTimeoutFilter(meterRegistry))
+                .exchangeFunction(request -> outcome)
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.eating.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * /actuator/prometheus 수집 인증
+ * - 공유 값이 맞아야 통과, 값이 비어 있으면 모두 거부
+ * - health 등 다른 경로는 건드리지 않음
+ */
+class MetricsScrapeAuthFilterTest {
+
+    private MetricsScrapeAuthFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new MetricsScrapeAuthFilter();
+        ReflectionTestUtils.setField(filter, "secret", "scrape-secret");
+    }
+
+    @Test
+    void scrapeNeedsTheSharedSecret() throws Exception {
+        assertThat(status("/api/actuator/prometheus", null)).isEqualTo(401);
+        assertThat(status("/api/actuator/prometheus", "Bearer wrong")).isEqualTo(401);
+        assertThat(status("/api/actuator/prometheus", "Bearer scrape-secret")).isEqualTo(200);
+    }
+
+    @Test
+    void blankSecretRejectsEveryScrape() throws Exception {
+        ReflectionTestUtils.setField(filter, "secret", "");
+
+        assertThat(status("/api/actuator/prometheus", "Bearer ")).isEqualTo(401);
+    }
+
+    @Test
+    void otherPathsAreNotGuarded() throws Exception {
+        assertThat(status("/api/actuator/health", null)).isEqualTo(200);
+        assertThat(status("/api/recipes", null)).isEqualTo(200);
+    }
+
+    private int status(String uri, String authorization) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setContextPath("/api");
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response.getStatus();
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.eating.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 채팅 호출 제한
+ * - 사용자 버킷은 엔드포인트와 상관없이 하나
+ * - 남의 sessionId 로 호출해도 세션 주인의 버킷은 줄지 않음
+ * - 세션 한도에 걸린 호출은 사용자 버킷을, 사용자 한도에 걸린 호출은 세션 버킷을 쓰지 않음
+ */
+class ChatRateLimiterTest {
+
+    private static final Long OWNER = 1L;
+    private static final Long OTHER = 2L;
+
+    private ChatRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new ChatRateLimiter(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(limiter, "userCapacity", 3.0);
+        ReflectionTestUtils.setField(limiter, "userRefillPerMinute", 0.001);
+        ReflectionTestUtils.setField(limiter, "sessionCapacity", 2.0);
+        ReflectionTestUtils.setField(limiter, "sessionRefillPerMinute", 0.001);
+    }
+
+    @Test
+    void endpointsShareOneUserBudget() {
+        limiter.check("start", OWNER, null);
+        limiter.check("status", OWNER, "s1");
+        limiter.check("history", OWNER, "s2");
+
+        assertThatThrownBy(() -> limiter.check("end", OWNER, "s3"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(limiter.getThrottledByEndpoint()).containsEntry("end", 1L);
+        assertThatThrownBy(() -> limiter.getThrottledByEndpoint().put("end", 0L))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void hotSessionDoesNotSpendTheUserBudget() {
+        limiter.check("message", OWNER, "s1");
+        limiter.check("message", OWNER, "s1");
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> limiter.check("message", OWNER, "s1"))
+                    .isInstanceOf(TooManyRequestsException.class);
+        }
+
+        // 사용자 버킷에는 s1 의 성공 2번만 빠짐
+        limiter.check("message", OWNER, "s2");
+        assertThatThrownBy(() -> limiter.check("message", OWNER, "s2"))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void userRejectionReturnsTheSessionToken() {
+        limiter.check("start", OWNER, null);
+        limiter.check("start", OWNER, null);
+        limiter.check("start", OWNER, null);
+
+        assertThatThrownBy(() -> limiter.check("message", OWNER, "s1"))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        TokenBucket sessionBucket = ((Map<String, TokenBucket>)
+                ReflectionTestUtils.getField(limiter, "sessionBuckets")).get(OWNER + ":s1");
+        assertThat(sessionBucket.tryConsume()).isTrue();
+        assertThat(sessionBucket.tryConsume()).isTrue();
+        assertThat(sessionBucket.tryConsume()).isFalse();
+    }
+
+    @Test
+    void foreignSessionIdDoesNotDrainTheOwnersBudget() {
+        limiter.check("message", OTHER, "s1");
+        limiter.check("message", OTHER, "s1");
+        assertThatThrownBy(() -> limiter.check("message", OTHER, "s1"))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        limiter.check("message", OWNER, "s1");
+        limiter.check("message", OWNER, "s1");
+        assertThatThrownBy(() -> limiter.check("message", OWNER, "s1"))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.eating.service;
+
+import com.example.eating.auth.AuthPrincipal;
+import com.example.eating.domain.media.MediaObject;
+import com.example.eating.dto.request.s3.PresignedUrlRequest;
+import com.example.eating.dto.response.s3.PresignedUrlResponse;
+import com.example.eating.repository.media.MediaObjectRepository;
+import com.example.eating.repository.media.MultipartUploadRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 내용 해시(contentSha256) 기반 중복 업로드 방지
+ * - 인덱스 적중: 인덱스에 기록된 s3Key 로 응답 (분석 업로드로 고유 키에 올라간 내용도)
+ * - HEAD 적중: 해시 키에 이미 있으면 인덱스에 기록하고 응답
+ * - 새 내용: 체크섬을 서명에 넣은 업로드 URL (분석 요청은 고유 키 + 메타데이터에 해시)
+ */
+class PresignedUrlServiceDedupTest {
+
+    private static final String BUCKET = "test-bucket";
+    private static final String HASH = "ab".repeat(32);
+    private static final String CONTENT_KEY = "recipes/sha256/" + HASH;
+    private static final AuthPrincipal COOK = new AuthPrincipal(7L, "cook@example.com");
+
+    private final S3Client s3Client = mock(S3Client.class);
+    private final MediaObjectRepository mediaObjectRepository = mock(MediaObjectRepository.class);
+    private final RecipeJobService recipeJobService = mock(RecipeJobService.class);
+
+    private S3Presigner s3Presigner;
+    private PresignedUrlService presignedUrlService;
+
+    @BeforeEach
+    void setUp() {
+        s3Presigner = S3Presigner.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test")))
+                .build();
+
+        presignedUrlService = new PresignedUrlService(s3Presigner, s3Client, mock(PresignedUploadSlotPool.class),
+                mediaObjectRepository, mock(MultipartUploadRepository.class), recipeJobService);
+        ReflectionTestUtils.setField(presignedUrlService, "bucket", BUCKET);
+        ReflectionTestUtils.setField(presignedUrlService, "region", "ap-northeast-2");
+        ReflectionTestUtils.setField(presignedUrlService, "endpoint", "");
+        ReflectionTestUtils.setField(presignedUrlService, "presignExpiryMinutes", 5L);
+        ReflectionTestUtils.setField(presignedUrlService, "dedupEnabled", true);
+
+        when(mediaObjectRepository.findByContentHash(HASH)).thenReturn(Optional.empty());
+        when(recipeJobService.reserveUploadAnalysis(COOK)).thenReturn("job-1");
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3Presigner.close();
+    }
+
+    @Test
+    void indexHitReturnsTheStoredKeyWithoutHead() {
+        // 먼저 올라간 분석 업로드는 해시 키가 아닌 고유 키에 있음
+        when(mediaObjectRepository.findByContentHash(HASH)).thenReturn(Optional.of(MediaObject.builder()
+                .contentHash(HASH)
+                .s3Key("recipes/3f1c-upload")
+                .contentType("video/mp4")
+                .build()));
+
+        PresignedUrlResponse response = presignedUrlService.createPresignedUrl(COOK, analyzeRequest(HASH.toUpperCase()));
+
+        assertThat(response.isDuplicate()).isTrue();
+        assertThat(response.getUploadUrl()).isNull();
+        assertThat(response.getFileUrl()).endsWith("/recipes/3f1c-upload");
+        assertThat(response.getAnalysisJobId()).isEqualTo("job-1");
+        verify(recipeJobService).startAnalyzeForUpload(COOK, "job-1", response.getFileUrl());
+        verifyNoInteractions(s3Client);
+    }
+
+    @Test
+    void headHitIndexesTheContentKey() {
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(HeadObjectResponse.builder().build());
+
+        PresignedUrlResponse response = presignedUrlService.createPresignedUrl(null, request(HASH));
+
+        assertThat(response.isDuplicate()).isTrue();
+        assertThat(response.getFileUrl()).endsWith("/" + CONTENT_KEY);
+        verify(s3Client).headObject(argThat((HeadObjectRequest head) -> head.key().equals(CONTENT_KEY)));
+        verify(mediaObjectRepository).save(argThat(media ->
+                media.getContentHash().equals(HASH) && media.getS3Key().equals(CONTENT_KEY)));
+    }
+
+    @Test
+    void newContentIsPresignedWithChecksumOnTheContentKey() {
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenThrow(NoSuchKeyException.builder().build());
+
+        PresignedUrlResponse response = presignedUrlService.createPresignedUrl(null, request(HASH));
+
+        assertThat(response.isDuplicate()).isFalse();
+        assertThat(response.getUploadUrl()).contains("/" + CONTENT_KEY);
+        assertThat(response.getFileUrl()).endsWith("/" + CONTENT_KEY);
+        assertThat(response.getUploadHeaders())
+                .containsEntry("x-amz-checksum-sha256", Base64.getEncoder().encodeToString(HexFormat.of().parseHex(HASH)));
+        // 인덱스는 실제로 올라간 뒤(HEAD 또는 업로드 이벤트)에만 기록
+        verify(mediaObjectRepository, never()).save(any());
+    }
+
+    @Test
+    void newAnalysisUploadUsesUniqueKeyAndCarriesTheHash() {
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenThrow(NoSuchKeyException.builder().build());
+
+        PresignedUrlResponse response = presignedUrlService.createPresignedUrl(COOK, analyzeRequest(HASH));
+
+        assertThat(response.getFileUrl()).contains("/recipes/").doesNotContain("sha256/");
+        assertThat(response.getAnalysisJobId()).isEqualTo("job-1");
+        assertThat(response.getUploadHeaders())
+                .containsKey("x-amz-checksum-sha256")
+                .containsEntry("x-amz-meta-analysis-content-sha256", HASH)
+                .containsEntry("x-amz-meta-analysis-user-id", "7");
+        verify(recipeJobService, never()).startAnalyzeForUpload(any(), any(), any());
+    }
+
+    @Test
+    void malformedHashIsRejected() {
+        assertThatThrownBy(() -> presignedUrlService.createPresignedUrl(null, request("not-a-hash")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static PresignedUrlRequest request(String contentSha256) {
+        return new PresignedUrlRequest("kimchi.mp4", "video/mp4", contentSha256);
+    }
+
+    private static PresignedUrlRequest analyzeRequest(String contentSha256) {
+        PresignedUrlRequest request = request(contentSha256);
+        ReflectionTestUtils.setField(request, "analyze", true);
+        return request;
+    }
+}
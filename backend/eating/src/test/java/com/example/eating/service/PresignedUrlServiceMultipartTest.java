@@ -0,0 +1,283 @@
+package com.example.eating.service;
+
+import com.example.eating.auth.AuthPrincipal;
+import com.example.eating.domain.media.MultipartUpload;
+import com.example.eating.dto.request.s3.BatchPresignedUrlRequest;
+import com.example.eating.dto.request.s3.MultipartCompleteRequest;
+import com.example.eating.dto.request.s3.MultipartUploadRequest;
+import com.example.eating.dto.request.s3.PresignedUrlRequest;
+import com.example.eating.dto.response.s3.MultipartUploadResponse;
+import com.example.eating.dto.response.s3.PresignedUrlResponse;
+import com.example.eating.repository.media.MediaObjectRepository;
+import com.example.eating.repository.media.MultipartUploadRepository;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 멀티파트 / 일괄 presign 을 S3 호환 로컬 대역 서버에 대해 확인
+ * - presigned URL 로 part 를 병렬 PUT → complete 후 객체가 part 순서대로 합쳐졌는지
+ */
+class PresignedUrlServiceMultipartTest {
+
+    private static final String BUCKET = "test-bucket";
+
+    private static final AuthPrincipal OWNER = new AuthPrincipal(1L, "owner@example.com");
+
+    private FakeS3 fakeS3;
+    private PresignedUrlService presignedUrlService;
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final Map<String, MultipartUpload> multipartUploads = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        fakeS3 = new FakeS3();
+
+        StaticCredentialsProvider credentials =
+                StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test"));
+        S3Configuration pathStyle = S3Configuration.builder().pathStyleAccessEnabled(true).build();
+
+        S3Client s3Client = S3Client.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(credentials)
+                .endpointOverride(URI.create(fakeS3.endpoint()))
+                .serviceConfiguration(pathStyle)
+                .build();
+        S3Presigner s3Presigner = S3Presigner.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(credentials)
+                .endpointOverride(URI.create(fakeS3.endpoint()))
+                .serviceConfiguration(pathStyle)
+                .build();
+
+        PresignedUploadSlotPool slotPool = new PresignedUploadSlotPool(s3Presigner, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(slotPool, "bucket", BUCKET);
+        ReflectionTestUtils.setField(slotPool, "presignExpiryMinutes", 5L);
+        ReflectionTestUtils.setField(slotPool, "enabled", true);
+        ReflectionTestUtils.setField(slotPool, "contentTypes", "image/jpeg");
+        ReflectionTestUtils.setField(slotPool, "sizePerType", 2);
+        ReflectionTestUtils.setField(slotPool, "slotExpiryMinutes", 15L);
+        slotPool.init();
+
+        MultipartUploadRepository multipartUploadRepository = mock(MultipartUploadRepository.class);
+        when(multipartUploadRepository.save(any(MultipartUpload.class))).thenAnswer(invocation -> {
+            MultipartUpload upload = invocation.getArgument(0);
+            multipartUploads.put(upload.getUploadId(), upload);
+            return upload;
+        });
+        when(multipartUploadRepository.findById(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(multipartUploads.get(invocation.<String>getArgument(0))));
+        doAnswer(invocation -> multipartUploads.remove(invocation.<MultipartUpload>getArgument(0).getUploadId()))
+                .when(multipartUploadRepository).delete(any(MultipartUpload.class));
+
+        presignedUrlService = new PresignedUrlService(s3Presigner, s3Client, slotPool,
+                mock(MediaObjectRepository.class), multipartUploadRepository, mock(RecipeJobService.class));
+        ReflectionTestUtils.setField(presignedUrlService, "bucket", BUCKET);
+        ReflectionTestUtils.setField(presignedUrlService, "region", "ap-northeast-2");
+        ReflectionTestUtils.setField(presignedUrlService, "endpoint", fakeS3.endpoint());
+        ReflectionTestUtils.setField(presignedUrlService, "presignExpiryMinutes", 5L);
+        ReflectionTestUtils.setField(presignedUrlService, "partExpiryMinutes", 60L);
+        ReflectionTestUtils.setField(presignedUrlService, "batchMaxFiles", 20);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fakeS3.stop();
+    }
+
+    @Test
+    void partsUploadedInParallelAreAssembledOnComplete() {
+        MultipartUploadResponse upload = presignedUrlService.initiateMultipart(OWNER,
+                new MultipartUploadRequest("kimchi.mp4", "video/mp4", 3));
+
+        assertThat(upload.getKey()).startsWith("recipes/");
+        assertThat(upload.getParts()).hasSize(3);
+
+        List<String> chunks = List.of("part-one|", "part-two|", "part-three");
+        List<CompletableFuture<MultipartCompleteRequest.Part>> puts = upload.getParts().stream()
+                .map(part -> httpClient.sendAsync(
+                                HttpRequest.newBuilder(URI.create(part.getUploadUrl()))
+                                        .PUT(HttpRequest.BodyPublishers.ofString(chunks.get(part.getPartNumber() - 1)))
+                                        .build(),
+                                HttpResponse.BodyHandlers.discarding())
+                        .thenApply(response -> new MultipartCompleteRequest.Part(
+                                part.getPartNumber(), response.headers().firstValue("ETag").orElseThrow())))
+                .toList();
+
+        // 완료 순서와 상관없이 part 번호 순으로 합쳐져야 함
+        List<MultipartCompleteRequest.Part> parts = new ArrayList<>(puts.stream().map(CompletableFuture::join).toList());
+        Collections.reverse(parts);
+
+        MultipartUploadResponse completed = presignedUrlService.completeMultipart(OWNER,
+                new MultipartCompleteRequest(upload.getKey(), upload.getUploadId(), parts));
+
+        assertThat(fakeS3.object(upload.getKey())).isEqualTo("part-one|part-two|part-three");
+        assertThat(completed.getFileUrl()).isEqualTo(fakeS3.endpoint() + "/" + BUCKET + "/" + upload.getKey());
+        assertThat(fakeS3.pendingUploads()).isZero();
+        assertThat(multipartUploads).isEmpty();
+    }
+
+    @Test
+    void abortDiscardsUploadedParts() throws Exception {
+        MultipartUploadResponse upload = presignedUrlService.initiateMultipart(OWNER,
+                new MultipartUploadRequest("kimchi.mp4", "video/mp4", 2));
+
+        httpClient.send(HttpRequest.newBuilder(URI.create(upload.getParts().get(0).getUploadUrl()))
+                        .PUT(HttpRequest.BodyPublishers.ofString("part-one"))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+
+        presignedUrlService.abortMultipart(OWNER, new MultipartCompleteRequest(upload.getKey(), upload.getUploadId(), null));
+
+        assertThat(fakeS3.pendingUploads()).isZero();
+        assertThat(multipartUploads).isEmpty();
+        assertThat(fakeS3.object(upload.getKey())).isNull();
+    }
+
+    @Test
+    void batchPresignIssuesOneKeyPerFileWithinLimit() {
+        List<PresignedUrlResponse> urls = presignedUrlService.createPresignedUrls(null, new BatchPresignedUrlRequest(
+                IntStream.range(0, 3).mapToObj(i -> new PresignedUrlRequest("photo" + i + ".jpg", "image/jpeg")).toList()));
+
+        assertThat(urls).hasSize(3);
+        assertThat(urls).extracting(PresignedUrlResponse::getFileUrl).doesNotHaveDuplicates();
+
+        assertThatThrownBy(() -> presignedUrlService.createPresignedUrls(null, new BatchPresignedUrlRequest(
+                IntStream.range(0, 21).mapToObj(i -> new PresignedUrlRequest("photo" + i + ".jpg", "image/jpeg")).toList())))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * 멀티파트 API 만 흉내내는 path-style S3 대역
+     */
+    private static final class FakeS3 {
+
+        private static final Pattern PART_NUMBER = Pattern.compile("<PartNumber>(\\d+)</PartNumber>");
+
+        private final HttpServer server;
+        private final Map<String, SortedMap<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+        private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+
+        private FakeS3() throws IOException {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/", this::handle);
+            server.start();
+        }
+
+        String endpoint() {
+            return "http://127.0.0.1:" + server.getAddress().getPort();
+        }
+
+        String object(String key) {
+            byte[] bytes = objects.get(key);
+            return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        int pendingUploads() {
+            return uploads.size();
+        }
+
+        void stop() {
+            server.stop(0);
+        }
+
+        private void handle(HttpExchange exchange) throws IOException {
+            String key = exchange.getRequestURI().getPath().substring(("/" + BUCKET + "/").length());
+            Map<String, String> query = query(exchange.getRequestURI().getRawQuery());
+            byte[] body = exchange.getRequestBody().readAllBytes();
+
+            switch (exchange.getRequestMethod()) {
+                case "POST" -> {
+                    if (query.containsKey("uploads")) {
+                        String uploadId = UUID.randomUUID().toString();
+                        uploads.put(uploadId, new TreeMap<>());
+                        xml(exchange, "<InitiateMultipartUploadResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">"
+                                + "<Bucket>" + BUCKET + "</Bucket><Key>" + key + "</Key>"
+                                + "<UploadId>" + uploadId + "</UploadId></InitiateMultipartUploadResult>");
+                    } else {
+                        SortedMap<Integer, byte[]> parts = uploads.remove(query.get("uploadId"));
+                        ByteArrayOutputStream object = new ByteArrayOutputStream();
+                        Matcher matcher = PART_NUMBER.matcher(new String(body, StandardCharsets.UTF_8));
+                        while (matcher.find()) {
+                            object.write(parts.get(Integer.parseInt(matcher.group(1))));
+                        }
+                        objects.put(key, object.toByteArray());
+                        xml(exchange, "<CompleteMultipartUploadResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">"
+                                + "<Bucket>" + BUCKET + "</Bucket><Key>" + key + "</Key>"
+                                + "<ETag>\"complete\"</ETag></CompleteMultipartUploadResult>");
+                    }
+                }
+                case "PUT" -> {
+                    int partNumber = Integer.parseInt(query.get("partNumber"));
+                    uploads.get(query.get("uploadId")).put(partNumber, body);
+                    exchange.getResponseHeaders().add("ETag", "\"etag-" + partNumber + "\"");
+                    exchange.sendResponseHeaders(200, -1);
+                    exchange.close();
+                }
+                case "DELETE" -> {
+                    uploads.remove(query.get("uploadId"));
+                    exchange.sendResponseHeaders(204, -1);
+                    exchange.close();
+                }
+                default -> {
+                    exchange.sendResponseHeaders(405, -1);
+                    exchange.close();
+                }
+            }
+        }
+
+        private static Map<String, String> query(String rawQuery) {
+            Map<String, String> query = new HashMap<>();
+            if (rawQuery == null) {
+                return query;
+            }
+            for (String pair : rawQuery.split("&")) {
+                int eq = pair.indexOf('=');
+                query.put(eq < 0 ? pair : pair.substring(0, eq), eq < 0 ? "" : pair.substring(eq + 1));
+            }
+            return query;
+        }
+
+        private static void xml(HttpExchange exchange, String body) throws IOException {
+            byte[] bytes = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + body).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/xml");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (var out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+}
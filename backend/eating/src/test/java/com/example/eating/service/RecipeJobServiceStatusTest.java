@@ -0,0 +1,138 @@
+package com.example.eating.service;
+
+import com.example.eating.auth.AuthPrincipal;
+import com.example.eating.domain.job.RecipeJob;
+import com.example.eating.domain.job.RecipeJobStatus;
+import com.example.eating.dto.response.job.RecipeJobStatusResponse;
+import com.example.eating.service.job.RecipeJobAdmission;
+import com.example.eating.service.job.RecipeJobRegistry;
+import com.example.eating.service.job.RecipeJobStateCache;
+import com.example.eating.tracing.JobTraceRecorder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * /recipes/status 폴링 경로
+ * - 캐시 적중: DB/FastAPI 를 거치지 않음
+ * - 실행 중인데 콜백이 끊긴 작업: FastAPI 폴백 결과를 짧게 재사용 (연속 폴링은 한 번만 호출)
+ * - 종료된 작업: DB 기록으로 응답하고 FastAPI 를 부르지 않음
+ * - FastAPI 가 빈 응답이면 503
+ */
+class RecipeJobServiceStatusTest {
+
+    private static final AuthPrincipal COOK = new AuthPrincipal(7L, "cook@example.com");
+
+    private final RecipeJobRegistry recipeJobRegistry = mock(RecipeJobRegistry.class);
+    private final AtomicInteger fastApiCalls = new AtomicInteger();
+
+    private RecipeJobStateCache jobStateCache;
+    private String fastApiBody;
+
+    @BeforeEach
+    void setUp() {
+        jobStateCache = new RecipeJobStateCache();
+        ReflectionTestUtils.setField(jobStateCache, "staleSeconds", 60L);
+        ReflectionTestUtils.setField(jobStateCache, "fallbackTtlSeconds", 5L);
+        fastApiBody = "{\"status\":\"processing\",\"progress\":40}";
+    }
+
+    @Test
+    void cacheHitAnswersWithoutDbOrFastApi() {
+        jobStateCache.register("job-1", COOK.email(), "pending");
+
+        RecipeJobStatusResponse response = service().getStatus(COOK, "job-1");
+
+        assertThat(response.getStatus()).isEqualTo("pending");
+        verify(recipeJobRegistry, never()).getOwnedJob(COOK.userId(), "job-1");
+        assertThat(fastApiCalls).hasValue(0);
+    }
+
+    @Test
+    void runningJobWithoutCallbacksFallsBackOnceWithinTtl() {
+        ownedJob("job-1", RecipeJobStatus.PROCESSING);
+        RecipeJobService service = service();
+
+        assertThat(service.getStatus(COOK, "job-1").getProgress()).isEqualTo(40);
+        assertThat(service.getStatus(COOK, "job-1").getProgress()).isEqualTo(40);
+
+        assertThat(fastApiCalls).hasValue(1);
+    }
+
+    @Test
+    void finishedJobIsAnsweredFromTheDb() {
+        RecipeJob job = ownedJob("job-1", RecipeJobStatus.PROCESSING);
+        job.applyProgress("completed", 100, "done", null);
+
+        assertThat(service().getStatus(COOK, "job-1").getStatus()).isEqualTo("completed");
+        assertThat(fastApiCalls).hasValue(0);
+    }
+
+    @Test
+    void terminalFallbackIsCachedForLaterPolls() {
+        ownedJob("job-1", RecipeJobStatus.PROCESSING);
+        fastApiBody = "{\"status\":\"completed\",\"progress\":100}";
+        RecipeJobService service = service();
+
+        service.getStatus(COOK, "job-1");
+        assertThat(service.getStatus(COOK, "job-1").getStatus()).isEqualTo("completed");
+
+        assertThat(fastApiCalls).hasValue(1);
+    }
+
+    @Test
+    void emptyFastApiBodyIsUpstreamUnavailable() {
+        ownedJob("job-1", RecipeJobStatus.PROCESSING);
+        fastApiBody = null;
+
+        assertThatThrownBy(() -> service().getStatus(COOK, "job-1"))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+    }
+
+    private RecipeJob ownedJob(String jobId, RecipeJobStatus status) {
+        RecipeJob job = RecipeJob.builder().jobId(jobId).userId(COOK.userId()).status(status).build();
+        when(recipeJobRegistry.getOwnedJob(COOK.userId(), jobId)).thenReturn(job);
+        return job;
+    }
+
+    private RecipeJobService service() {
+        WebClient fastApiClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    fastApiCalls.incrementAndGet();
+                    if (fastApiBody == null) {
+                        return Mono.just(ClientResponse.create(HttpStatus.OK).build());
+                    }
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(fastApiBody)
+                            .build());
+                })
+                .build();
+
+        JobTraceRecorder jobTraceRecorder = mock(JobTraceRecorder.class);
+        when(jobTraceRecorder.observationContext(anyString())).thenReturn(Context.empty());
+
+        return new RecipeJobService(fastApiClient, mock(RecipeService.class), jobStateCache, recipeJobRegistry,
+                mock(RecipeJobAdmission.class), new SimpleMeterRegistry(), jobTraceRecorder);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.eating.service.auth;
+
+import com.example.eating.ratelimit.TooManyRequestsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로그인 실패 제한
+ * - email / IP 각각 max-failures 번 실패하면 lockout
+ * - 성공하면 email 실패 수 초기화, window 가 지나면 다시 셈
+ */
+class LoginThrottleTest {
+
+    private LoginThrottle throttle;
+
+    @BeforeEach
+    void setUp() {
+        throttle = new LoginThrottle();
+        ReflectionTestUtils.setField(throttle, "maxFailuresPerEmail", 3);
+        ReflectionTestUtils.setField(throttle, "maxFailuresPerIp", 5);
+        ReflectionTestUtils.setField(throttle, "windowSeconds", 300L);
+        ReflectionTestUtils.setField(throttle, "lockoutSeconds", 300L);
+        ReflectionTestUtils.setField(throttle, "maxEntries", 100);
+    }
+
+    @Test
+    void emailIsLockedAfterMaxFailures() {
+        fail("cook@example.com", "10.0.0.1", 2);
+        assertThatCode(() -> throttle.check("cook@example.com", "10.0.0.1")).doesNotThrowAnyException();
+
+        fail("cook@example.com", "10.0.0.2", 1);
+
+        // IP 가 달라도 같은 email 은 잠김
+        assertThatThrownBy(() -> throttle.check("cook@example.com", "10.0.0.3"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThatCode(() -> throttle.check("other@example.com", "10.0.0.3")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void ipIsLockedAcrossEmails() {
+        for (int i = 0; i < 5; i++) {
+            throttle.recordFailure("user" + i + "@example.com", "10.0.0.1");
+        }
+
+        assertThatThrownBy(() -> throttle.check("new@example.com", "10.0.0.1"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThatCode(() -> throttle.check("new@example.com", "10.0.0.2")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void successResetsEmailFailures() {
+        fail("cook@example.com", "10.0.0.1", 2);
+        throttle.recordSuccess("cook@example.com");
+        fail("cook@example.com", "10.0.0.1", 2);
+
+        assertThatCode(() -> throttle.check("cook@example.com", "10.0.0.1")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void failuresOutsideWindowAreNotCounted() {
+        ReflectionTestUtils.setField(throttle, "windowSeconds", 0L);
+
+        fail("cook@example.com", "10.0.0.1", 10);
+
+        assertThatCode(() -> throttle.check("cook@example.com", "10.0.0.1")).doesNotThrowAnyException();
+    }
+
+    private void fail(String email, String ip, int times) {
+        for (int i = 0; i < times; i++) {
+            throttle.recordFailure(email, ip);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.eating.service.auth;
+
+import com.example.eating.ratelimit.TooManyRequestsException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 비밀번호 해시
+ * - BCrypt 비교 / 기존 평문 비교와 재해시 판단
+ * - 없는 계정(저장 값 null)도 해시 스레드를 거쳐 false
+ * - 해시 스레드와 대기열이 모두 차면 429
+ */
+class PasswordHasherTest {
+
+    private PasswordHasher hasher;
+
+    @BeforeEach
+    void setUp() {
+        hasher = hasher(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hasher.shutdown();
+    }
+
+    @Test
+    void hashedPasswordMatchesOnlyTheOriginal() {
+        String hash = hasher.hash("secret-pw");
+
+        assertThat(hash).startsWith("$2").isNotEqualTo("secret-pw");
+        assertThat(hasher.matches("secret-pw", hash)).isTrue();
+        assertThat(hasher.matches("other-pw", hash)).isFalse();
+        assertThat(hasher.needsRehash(hash)).isFalse();
+    }
+
+    @Test
+    void legacyPlainPasswordMatchesAndNeedsRehash() {
+        assertThat(hasher.matches("secret-pw", "secret-pw")).isTrue();
+        assertThat(hasher.matches("other-pw", "secret-pw")).isFalse();
+        assertThat(hasher.needsRehash("secret-pw")).isTrue();
+    }
+
+    @Test
+    void costChangeNeedsRehash() {
+        PasswordHasher stronger = hasher(5);
+        try {
+            assertThat(stronger.needsRehash(hasher.hash("secret-pw"))).isTrue();
+        } finally {
+            stronger.shutdown();
+        }
+    }
+
+    @Test
+    void missingStoredPasswordStillRunsAHash() {
+        ThreadPoolExecutor executor = executor(hasher);
+        long before = executor.getTaskCount();
+
+        assertThat(hasher.matches("secret-pw", null)).isFalse();
+
+        assertThat(executor.getTaskCount()).isEqualTo(before + 1);
+    }
+
+    @Test
+    void fullQueueIsRejectedWith429() {
+        ThreadPoolExecutor executor = executor(hasher);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            // 스레드 1개 + 대기열 1칸을 모두 채움
+            executor.execute(() -> awaitQuietly(release));
+            executor.execute(() -> awaitQuietly(release));
+
+            assertThatThrownBy(() -> hasher.hash("secret-pw")).isInstanceOf(TooManyRequestsException.class);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private static PasswordHasher hasher(int strength) {
+        PasswordHasher hasher = new PasswordHasher();
+        ReflectionTestUtils.setField(hasher, "strength", strength);
+        ReflectionTestUtils.setField(hasher, "threads", 1);
+        ReflectionTestUtils.setField(hasher, "queueCapacity", 1);
+        ReflectionTestUtils.setField(hasher, "timeoutMs", 3000L);
+        hasher.init();
+        return hasher;
+    }
+
+    private static ThreadPoolExecutor executor(PasswordHasher hasher) {
+        return (ThreadPoolExecutor) ReflectionTestUtils.getField(hasher, "executor");
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.eating.service.auth;
+
+import com.example.eating.service.auth.VerifiedCredentialCache.VerifiedUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검증된 자격 증명 캐시
+ * - 같은 (email, 비밀번호) 만 적중, invalidate / ttl 만료 후에는 미적중
+ * - max-entries 가 차면 더 넣지 않음
+ */
+class VerifiedCredentialCacheTest {
+
+    private static final VerifiedUser COOK = new VerifiedUser(7L, "cook@example.com", "cook");
+
+    private VerifiedCredentialCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = cache(300L, 10);
+    }
+
+    @Test
+    void sameCredentialsHit() {
+        cache.put("secret-pw", COOK);
+
+        assertThat(cache.find("cook@example.com", "secret-pw")).contains(COOK);
+        assertThat(cache.find("cook@example.com", "other-pw")).isEmpty();
+        assertThat(cache.find("other@example.com", "secret-pw")).isEmpty();
+    }
+
+    @Test
+    void invalidateRemovesEntry() {
+        cache.put("secret-pw", COOK);
+
+        cache.invalidate("cook@example.com");
+
+        assertThat(cache.find("cook@example.com", "secret-pw")).isEmpty();
+    }
+
+    @Test
+    void expiredEntryMisses() {
+        VerifiedCredentialCache expiring = cache(0L, 10);
+        expiring.put("secret-pw", COOK);
+
+        assertThat(expiring.find("cook@example.com", "secret-pw")).isEmpty();
+    }
+
+    @Test
+    void fullCacheSkipsNewEntries() {
+        VerifiedCredentialCache small = cache(300L, 1);
+        small.put("secret-pw", COOK);
+        small.put("other-pw", new VerifiedUser(8L, "other@example.com", "other"));
+
+        assertThat(small.find("cook@example.com", "secret-pw")).contains(COOK);
+        assertThat(small.find("other@example.com", "other-pw")).isEmpty();
+    }
+
+    private static VerifiedCredentialCache cache(long ttlSeconds, int maxEntries) {
+        VerifiedCredentialCache cache = new VerifiedCredentialCache();
+        ReflectionTestUtils.setField(cache, "ttlSeconds", ttlSeconds);
+        ReflectionTestUtils.setField(cache, "maxEntries", maxEntries);
+        cache.init();
+        return cache;
+    }
+}
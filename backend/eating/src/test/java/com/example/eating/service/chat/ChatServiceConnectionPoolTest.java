@@ -0,0 +1,160 @@
+package com.example.eating.service.chat;
+
+import com.example.eating.auth.AuthPrincipal;
+import com.example.eating.domain.User;
+import com.example.eating.domain.chat.ChatSession;
+import com.example.eating.dto.request.chat.ChatRequest;
+import com.example.eating.dto.response.chat.ChatResponse;
+import com.example.eating.repository.UserRepository;
+import com.example.eating.repository.chat.ChatSessionRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 커넥션 풀 2개로 채팅 20개가 동시에 FastAPI 호출 중일 수 있는지
+ * - FastAPI 대역은 20개 요청이 모두 도착할 때까지 응답을 보류
+ * - 호출 동안 커넥션을 잡고 있으면 2개만 도착하고 나머지는 커넥션 대기 타임아웃
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.hikari.maximum-pool-size=" + ChatServiceConnectionPoolTest.POOL_SIZE,
+        "spring.datasource.hikari.connection-timeout=1000",
+        // 활성 커넥션 0 확인 중에 아웃박스 주기 확인이 끼어들지 않도록
+        "outbox.relay-interval-ms=600000"
+})
+@ActiveProfiles("h2")
+class ChatServiceConnectionPoolTest {
+
+    static final int POOL_SIZE = 2;
+    private static final int IN_FLIGHT = 20;
+
+    private static final CountDownLatch ARRIVED = new CountDownLatch(IN_FLIGHT);
+    private static final CountDownLatch RELEASE = new CountDownLatch(1);
+    private static final HttpServer FAST_API = startFastApi();
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ChatSessionRepository chatSessionRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @DynamicPropertySource
+    static void fastApiProperties(DynamicPropertyRegistry registry) {
+        registry.add("fast.base-url", () -> "http://127.0.0.1:" + FAST_API.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopFastApi() {
+        RELEASE.countDown();
+        FAST_API.stop(0);
+    }
+
+    @Test
+    void inFlightChatsDoNotHoldConnections() throws Exception {
+        User user = userRepository.save(User.builder()
+                .email("pool@example.com")
+                .password("password")
+                .nickname("pool")
+                .build());
+        AuthPrincipal principal = new AuthPrincipal(user.getId(), user.getEmail());
+
+        List<String> sessionIds = IntStream.range(0, IN_FLIGHT)
+                .mapToObj(i -> chatSessionRepository.save(ChatSession.builder()
+                        .sessionId(UUID.randomUUID().toString())
+                        .userId(user.getId())
+                        .recipeTitle("김치찌개")
+                        .totalSteps(5)
+                        .build()).getSessionId())
+                .toList();
+
+        try (ExecutorService chats = Executors.newFixedThreadPool(IN_FLIGHT)) {
+            List<Future<ChatResponse>> replies = sessionIds.stream()
+                    .map(sessionId -> chats.submit(() -> chatService.sendMessage(principal, message(sessionId))))
+                    .toList();
+
+            // 풀 크기보다 훨씬 많은 채팅이 동시에 LLM 응답 대기 중
+            assertThat(ARRIVED.await(10, TimeUnit.SECONDS))
+                    .as("in-flight chats with pool size %d", POOL_SIZE)
+                    .isTrue();
+
+            // 그 사이에도 커넥션은 비어 있고, 다른 요청이 바로 사용할 수 있음
+            assertThat(((HikariDataSource) dataSource).getHikariPoolMXBean().getActiveConnections()).isZero();
+            assertThat(chatService.getSessionStatus(principal, sessionIds.get(0)).getCurrent_step()).isEqualTo(1);
+
+            RELEASE.countDown();
+
+            for (Future<ChatResponse> reply : replies) {
+                assertThat(reply.get(10, TimeUnit.SECONDS).getReply()).isEqualTo("불은 중불로 맞춰주세요.");
+            }
+        }
+    }
+
+    private ChatRequest message(String sessionId) {
+        return objectMapper.convertValue(Map.of(
+                "session_id", sessionId,
+                "step_number", 1,
+                "message", "불 세기는요?"
+        ), ChatRequest.class);
+    }
+
+    private static HttpServer startFastApi() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+            server.createContext("/api/chat/message", ChatServiceConnectionPoolTest::reply);
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void reply(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        ARRIVED.countDown();
+        try {
+            RELEASE.await(15, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        byte[] body = """
+                {"reply": "불은 중불로 맞춰주세요.", "step_info": {}, "session_status": {"current_step": 2}}
+                """.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (var out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.eating.service.chat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 보관 이동 (Flyway 마이그레이션으로 만든 스키마 기준, V3 보관 테이블 포함)
+ * - 보관 기간이 지난 FINISHED/EXPIRED 세션만 완료 단계와 함께 옮겨지고
+ *   진행 중(ACTIVE)이거나 최근에 끝난 세션은 남는지
+ * - batch-size=2 로 여러 batch 에 걸쳐 옮겨지는 경우까지
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:chat-archive;MODE=MySQL;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "chat.archive.retention-days=7",
+        "chat.archive.batch-size=2",
+        "chat.archive.batch-pause-ms=0"
+})
+@ActiveProfiles("h2")
+class ChatSessionArchiverTest {
+
+    @Autowired
+    private ChatSessionArchiver archiver;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM chat_session_completed_step");
+        jdbcTemplate.update("DELETE FROM chat_session");
+        jdbcTemplate.update("DELETE FROM chat_session_completed_step_archive");
+        jdbcTemplate.update("DELETE FROM chat_session_archive");
+    }
+
+    @Test
+    void oldFinishedAndExpiredSessionsMoveWithTheirSteps() {
+        LocalDateTime old = LocalDateTime.now().minusDays(30);
+        LocalDateTime recent = LocalDateTime.now().minusHours(1);
+
+        insertSession(1L, "FINISHED", old, 1, 2, 3);
+        insertSession(2L, "FINISHED", old.plusMinutes(1), 1);
+        insertSession(3L, "FINISHED", old.plusMinutes(2));
+        insertSession(4L, "EXPIRED", old, 1, 2);
+        insertSession(5L, "ACTIVE", old, 1);
+        insertSession(6L, "FINISHED", recent, 1);
+        insertSession(7L, "EXPIRED", recent);
+
+        archiver.archive();
+
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM chat_session ORDER BY id", Long.class))
+                .containsExactly(5L, 6L, 7L);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM chat_session_archive ORDER BY id", Long.class))
+                .containsExactly(1L, 2L, 3L, 4L);
+
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT DISTINCT chat_session_id FROM chat_session_completed_step ORDER BY chat_session_id", Long.class))
+                .containsExactly(5L, 6L);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT step_number FROM chat_session_completed_step_archive WHERE chat_session_id = 1 ORDER BY step_number",
+                Integer.class))
+                .containsExactly(1, 2, 3);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM chat_session_completed_step_archive", Integer.class))
+                .isEqualTo(6);
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT status FROM chat_session_archive WHERE id = 4", String.class))
+                .isEqualTo("EXPIRED");
+    }
+
+    @Test
+    void nothingToArchiveLeavesTablesAlone() {
+        insertSession(1L, "ACTIVE", LocalDateTime.now().minusDays(30), 1);
+        insertSession(2L, "FINISHED", LocalDateTime.now(), 1);
+
+        archiver.archive();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM chat_session", Integer.class)).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM chat_session_archive", Integer.class)).isZero();
+    }
+
+    private void insertSession(Long id, String status, LocalDateTime lastUsedAt, int... completedSteps) {
+        jdbcTemplate.update(
+                "INSERT INTO chat_session " +
+                "(id, session_id, user_id, recipe_title, current_step, total_steps, status, created_at, last_used_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                id, UUID.randomUUID().toString(), 1L, "김치찌개", completedSteps.length, 5, status,
+                Timestamp.valueOf(lastUsedAt.minusHours(1)), Timestamp.valueOf(lastUsedAt));
+
+        for (int step : completedSteps) {
+            jdbcTemplate.update(
+                    "INSERT INTO chat_session_completed_step (chat_session_id, step_number) VALUES (?, ?)", id, step);
+        }
+    }
+}
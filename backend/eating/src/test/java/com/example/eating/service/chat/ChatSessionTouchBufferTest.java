@@ -0,0 +1,145 @@
+package com.example.eating.service.chat;
+
+import com.example.eating.domain.chat.ChatSession;
+import com.example.eating.repository.chat.ChatSessionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * last_used_at / current_step write-behind (Flyway 스키마, H2)
+ * - 세션별 마지막 값만 batch-size 단위로 나눠 반영
+ * - DB 에 이미 더 최신 last_used_at 이 있으면 덮지 않음 (last_used_at <= ? 조건)
+ * - 종료 시(@PreDestroy) 남은 값을 반영
+ * - 엔티티 dirty flush 가 버퍼가 쓴 last_used_at 을 옛 값으로 되돌리지 않음
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:chat-touch;MODE=MySQL;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "chat.touch-buffer.batch-size=2",
+        "chat.touch-buffer.flush-interval-ms=3600000"
+})
+@ActiveProfiles("h2")
+class ChatSessionTouchBufferTest {
+
+    private static final LocalDateTime OLD = LocalDateTime.now().minusHours(1).withNano(0);
+
+    @Autowired
+    private ChatSessionTouchBuffer touchBuffer;
+
+    @Autowired
+    private ChatSessionRepository chatSessionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void cleanUp() {
+        touchBuffer.flush();
+        jdbcTemplate.update("DELETE FROM chat_session_completed_step");
+        jdbcTemplate.update("DELETE FROM chat_session");
+    }
+
+    @Test
+    void flushWritesTheLatestValuePerSessionInBatches() {
+        insertSession("s1", OLD);
+        insertSession("s2", OLD);
+        insertSession("s3", OLD);
+        double flushedBefore = flushedCount();
+
+        touchBuffer.touch("s1", 2);
+        touchBuffer.touch("s1", 3);
+        touchBuffer.touch("s2", null);
+        touchBuffer.touch("s3", 4);
+        touchBuffer.flush();
+
+        assertThat(flushedCount() - flushedBefore).isEqualTo(3);
+        assertThat(currentStep("s1")).isEqualTo(3);
+        assertThat(currentStep("s2")).isEqualTo(1);
+        assertThat(currentStep("s3")).isEqualTo(4);
+        assertThat(lastUsedAt("s2")).isAfter(OLD);
+        assertThat(touchBuffer.pendingStep("s1")).isEmpty();
+    }
+
+    @Test
+    void newerRowIsNotOverwritten() {
+        LocalDateTime future = LocalDateTime.now().plusHours(1).withNano(0);
+        insertSession("s1", future);
+
+        touchBuffer.touch("s1", 5);
+        touchBuffer.flush();
+
+        assertThat(lastUsedAt("s1")).isEqualTo(future);
+        assertThat(currentStep("s1")).isEqualTo(1);
+    }
+
+    @Test
+    void shutdownFlushesPendingTouches() {
+        insertSession("s1", OLD);
+        touchBuffer.touch("s1", 2);
+
+        touchBuffer.flushOnShutdown();
+
+        assertThat(currentStep("s1")).isEqualTo(2);
+    }
+
+    @Test
+    void entityUpdateKeepsTheFlushedLastUsedAt() {
+        insertSession("s1", OLD);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            ChatSession session = chatSessionRepository.findBySessionId("s1").orElseThrow();
+
+            // 엔티티를 읽은 뒤 버퍼가 더 최신 값을 씀
+            touchBuffer.touch("s1", null);
+            touchBuffer.flush();
+
+            session.setCurrentStep(3);
+        });
+
+        assertThat(currentStep("s1")).isEqualTo(3);
+        assertThat(lastUsedAt("s1")).isAfter(OLD);
+    }
+
+    private double flushedCount() {
+        var counter = meterRegistry.find("chat.touch_buffer.flushed").counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private void insertSession(String sessionId, LocalDateTime lastUsedAt) {
+        jdbcTemplate.update(
+                "INSERT INTO chat_session " +
+                "(session_id, user_id, recipe_title, current_step, total_steps, status, created_at, last_used_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                sessionId, 1L, "김치찌개", 1, 5, "ACTIVE",
+                Timestamp.valueOf(lastUsedAt.minusHours(1)), Timestamp.valueOf(lastUsedAt));
+    }
+
+    private int currentStep(String sessionId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT current_step FROM chat_session WHERE session_id = ?", Integer.class, sessionId);
+    }
+
+    private LocalDateTime lastUsedAt(String sessionId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT last_used_at FROM chat_session WHERE session_id = ?", Timestamp.class, sessionId)
+                .toLocalDateTime();
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.eating.service.job;
+
+import com.example.eating.controller.SseController;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 분석 작업 입장 제어
+ * - 사용자 단위 라운드로빈: 한 사용자가 몰아 넣어도 다른 사용자 작업이 번갈아 전달됨
+ * - 대기 순번이 실제 전달 순서와 같고, 전달 후 남은 작업에 다시 알려지는지
+ * - 콜백이 끊겨 오래 점유된 슬롯은 회수되어 다음 작업이 전달되는지
+ */
+class RecipeJobAdmissionTest {
+
+    private final RecipeJobDispatcher dispatcher = mock(RecipeJobDispatcher.class);
+    private final RecipeJobRegistry registry = mock(RecipeJobRegistry.class);
+    private final SseController sseController = mock(SseController.class);
+
+    private RecipeJobAdmission admission;
+
+    @BeforeEach
+    void setUp() {
+        admission = new RecipeJobAdmission(dispatcher, registry, mock(RecipeJobStateCache.class), sseController);
+        ReflectionTestUtils.setField(admission, "maxConcurrent", 0);
+        ReflectionTestUtils.setField(admission, "userMaxQueued", 3);
+        ReflectionTestUtils.setField(admission, "slotTimeoutMinutes", 15L);
+        ReflectionTestUtils.setField(admission, "queuedMaxAgeMinutes", 60L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        admission.shutdown();
+    }
+
+    @Test
+    void positionsFollowTheRoundRobinOrder() {
+        assertThat(admission.submit("a", "a1", "url")).isEqualTo(1);
+        admission.submit("a", "a2", "url");
+        admission.submit("a", "a3", "url");
+        assertThat(admission.submit("b", "b1", "url")).isEqualTo(2);
+        admission.submit("c", "c1", "url");
+        admission.submit("c", "c2", "url");
+
+        // a1 b1 c1 a2 c2 a3
+        assertThat(List.of("a1", "b1", "c1", "a2", "c2", "a3"))
+                .extracting(admission::getQueuePosition)
+                .containsExactly(1L, 2L, 3L, 4L, 5L, 6L);
+        assertThat(admission.getQueuePosition("unknown")).isZero();
+    }
+
+    @Test
+    void dispatchAlternatesBetweenUsers() throws Exception {
+        admission.submit("a", "a1", "url");
+        admission.submit("a", "a2", "url");
+        admission.submit("a", "a3", "url");
+        admission.submit("b", "b1", "url");
+        admission.submit("b", "b2", "url");
+        awaitDispatchIdle();
+
+        ReflectionTestUtils.setField(admission, "maxConcurrent", 3);
+        ReflectionTestUtils.invokeMethod(admission, "drain");
+
+        ArgumentCaptor<PendingRecipeJob> dispatched = ArgumentCaptor.forClass(PendingRecipeJob.class);
+        verify(dispatcher, times(3)).dispatch(dispatched.capture());
+        assertThat(dispatched.getAllValues()).extracting(PendingRecipeJob::jobId).containsExactly("a1", "b1", "a2");
+
+        // 남은 b2, a3 에 새 순번 전송
+        verify(sseController, atLeastOnce()).sendToJob("b2", "queued", Map.of("jobId", "b2", "status", "queued", "queuePosition", 1L));
+        verify(sseController, atLeastOnce()).sendToJob("a3", "queued", Map.of("jobId", "a3", "status", "queued", "queuePosition", 2L));
+    }
+
+    @Test
+    void dispatchOrderMatchesRepeatedPolling() {
+        assertThat(RecipeJobAdmission.dispatchOrder(List.of(
+                List.of("a1", "a2", "a3"), List.of("b1"), List.of("c1", "c2"))))
+                .containsExactly("a1", "b1", "c1", "a2", "c2", "a3");
+        assertThat(RecipeJobAdmission.dispatchOrder(List.of())).isEmpty();
+    }
+
+    @Test
+    void stuckSlotIsReapedAndTheNextJobDispatched() {
+        ReflectionTestUtils.setField(admission, "maxConcurrent", 1);
+        admission.submit("a", "a1", "url");
+        verify(dispatcher, timeout(2000)).dispatch(argThat(job -> job.jobId().equals("a1")));
+        admission.submit("b", "b1", "url");
+        assertThat(admission.getQueuePosition("b1")).isEqualTo(1);
+
+        // 슬롯 제한 시간을 지난 것으로 간주
+        ReflectionTestUtils.setField(admission, "slotTimeoutMinutes", -1L);
+        admission.reapStuckSlots();
+
+        verify(dispatcher, timeout(2000)).dispatch(argThat(job -> job.jobId().equals("b1")));
+    }
+
+    /**
+     * submit 이 예약한 drain 이 끝날 때까지 대기 (전달 스레드는 하나)
+     */
+    private void awaitDispatchIdle() throws Exception {
+        ((ExecutorService) ReflectionTestUtils.getField(admission, "dispatchExecutor")).submit(() -> { }).get();
+    }
+}
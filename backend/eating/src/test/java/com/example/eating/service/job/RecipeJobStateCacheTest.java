@@ -0,0 +1,79 @@
+package com.example.eating.service.job;
+
+import com.example.eating.dto.request.sse.JobProgressRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 작업 상태 캐시
+ * - 종료된 작업은 늦게 오거나 중복된 progress 콜백으로 되돌아가지 않음
+ * - 진행 중 폴백 결과는 fallback-ttl-seconds 동안만, 종료 폴백은 진행 중 엔트리를 대신함
+ */
+class RecipeJobStateCacheTest {
+
+    private RecipeJobStateCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new RecipeJobStateCache();
+        ReflectionTestUtils.setField(cache, "staleSeconds", 60L);
+        ReflectionTestUtils.setField(cache, "fallbackTtlSeconds", 5L);
+        cache.register("job-1", "cook@example.com", "queued");
+    }
+
+    @Test
+    void lateProgressAfterTerminalIsIgnored() {
+        cache.update("job-1", progress("processing", 50));
+        cache.update("job-1", progress("completed", 100));
+        cache.update("job-1", progress("processing", 80));
+
+        RecipeJobState state = cache.find("job-1").orElseThrow();
+        assertThat(state.getStatus()).isEqualTo("completed");
+        assertThat(state.getProgress()).isEqualTo(100);
+    }
+
+    @Test
+    void activeFallbackIsReusedOnlyWithinItsTtl() {
+        LocalDateTime now = LocalDateTime.now();
+        cache.update("job-2", progress("processing", 10));
+        ReflectionTestUtils.setField(cache, "staleSeconds", 0L);
+
+        cache.cacheFallback(fallback("job-2", "processing", now));
+        assertThat(cache.findFresh("job-2")).map(RecipeJobState::getStatus).contains("processing");
+
+        cache.cacheFallback(fallback("job-2", "processing", now.minusSeconds(6)));
+        assertThat(cache.findFresh("job-2")).isEmpty();
+    }
+
+    @Test
+    void terminalFallbackReplacesAStaleActiveEntry() {
+        cache.update("job-1", progress("processing", 50));
+        ReflectionTestUtils.setField(cache, "staleSeconds", 0L);
+
+        cache.cacheFallback(fallback("job-1", "completed", LocalDateTime.now().minusMinutes(1)));
+
+        assertThat(cache.findFresh("job-1")).map(RecipeJobState::getStatus).contains("completed");
+    }
+
+    private static JobProgressRequest progress(String status, int progress) {
+        JobProgressRequest request = new JobProgressRequest();
+        ReflectionTestUtils.setField(request, "status", status);
+        ReflectionTestUtils.setField(request, "progress", progress);
+        return request;
+    }
+
+    private static RecipeJobState fallback(String jobId, String status, LocalDateTime at) {
+        return RecipeJobState.builder()
+                .jobId(jobId)
+                .email("cook@example.com")
+                .status(status)
+                .createdAt(at)
+                .updatedAt(at)
+                .build();
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.eating.service.outbox;
+
+import com.example.eating.controller.SseController;
+import com.example.eating.domain.outbox.OutboxEvent;
+import com.example.eating.repository.outbox.OutboxEventRepository;
+import com.example.eating.tracing.JobTraceRecorder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 아웃박스 릴레이
+ * - 커서 이후 이벤트를 순서대로 전달하고, 마지막(terminal) 이벤트 뒤에 구독을 닫는지
+ * - 커밋이 늦은 id(빈 번호)는 gap-timeout 안에 나타나면 늦게라도 전달하고, 지나면 포기하는지
+ */
+class OutboxRelayTest {
+
+    private final OutboxEventRepository repository = mock(OutboxEventRepository.class);
+    private final SseController sseController = mock(SseController.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new OutboxRelay(repository, sseController, mock(JobTraceRecorder.class), meterRegistry);
+        ReflectionTestUtils.setField(relay, "batchSize", 100);
+        ReflectionTestUtils.setField(relay, "gapTimeoutMs", 60_000L);
+
+        when(repository.findMaxId()).thenReturn(Optional.of(10L));
+        when(repository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class))).thenReturn(List.of());
+        when(repository.findByIdInOrderByIdAsc(anyCollection())).thenReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        relay.shutdown();
+    }
+
+    @Test
+    void eventsAfterCursorAreSentInOrderAndTerminalCompletes() {
+        when(repository.findByIdGreaterThanOrderByIdAsc(eq(10L), any(Pageable.class))).thenReturn(List.of(
+                event(11L, "job:a", "progress", false),
+                event(12L, "session:s", "ended", true),
+                event(13L, "job:a", "completed", true)));
+
+        start();
+        relay.nudge();
+
+        verify(sseController, timeout(2000)).completeJob("a");
+
+        InOrder ordered = inOrder(sseController);
+        ordered.verify(sseController).sendToJob("a", "progress", "{}", "11");
+        ordered.verify(sseController).sendToSession("s", "ended", "{}", "12");
+        ordered.verify(sseController).completeSession("s");
+        ordered.verify(sseController).sendToJob("a", "completed", "{}", "13");
+        ordered.verify(sseController).completeJob("a");
+    }
+
+    @Test
+    void lateCommittedIdInsideGapIsStillDelivered() {
+        when(repository.findByIdGreaterThanOrderByIdAsc(eq(10L), any(Pageable.class))).thenReturn(List.of(
+                event(11L, "job:a", "progress", false),
+                event(13L, "job:a", "progress", false)));
+
+        start();
+        relay.nudge();
+        verify(sseController, timeout(2000)).sendToJob("a", "progress", "{}", "13");
+
+        // 12 를 쓴 트랜잭션이 나중에 커밋됨
+        when(repository.findByIdInOrderByIdAsc(containsOnly(12L)))
+                .thenReturn(List.of(event(12L, "job:a", "progress", false)));
+        relay.nudge();
+
+        verify(sseController, timeout(2000)).sendToJob("a", "progress", "{}", "12");
+    }
+
+    @Test
+    void gapIsAbandonedAfterTimeout() throws InterruptedException {
+        ReflectionTestUtils.setField(relay, "gapTimeoutMs", 1L);
+        when(repository.findByIdGreaterThanOrderByIdAsc(eq(10L), any(Pageable.class))).thenReturn(List.of(
+                event(11L, "job:a", "progress", false),
+                event(13L, "job:a", "progress", false)));
+
+        start();
+        relay.nudge();
+        verify(sseController, timeout(2000)).sendToJob("a", "progress", "{}", "13");
+
+        Thread.sleep(20);
+        relay.nudge();
+        // 다음 배치 조회가 끝날 때까지 대기 (커서 13 이후)
+        verify(repository, timeout(2000)).findByIdGreaterThanOrderByIdAsc(eq(13L), any(Pageable.class));
+
+        verify(repository, never()).findByIdInOrderByIdAsc(anyCollection());
+    }
+
+    /**
+     * start 는 relay 스레드에서 커서를 잡은 뒤에야 nudge 를 받음
+     */
+    private void start() {
+        relay.start();
+        long deadline = System.nanoTime() + 2_000_000_000L;
+        while (!Boolean.TRUE.equals(ReflectionTestUtils.getField(relay, "started"))) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("릴레이가 시작되지 않았습니다.");
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private static OutboxEvent event(Long id, String channel, String eventName, boolean terminal) {
+        OutboxEvent event = OutboxEvent.builder()
+                .channel(channel)
+                .eventName(eventName)
+                .payload("{}")
+                .terminal(terminal)
+                .build();
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+
+    private static Collection<Long> containsOnly(Long id) {
+        return argThat(ids -> ids != null && ids.size() == 1 && ids.contains(id));
+    }
+}
@@ -0,0 +1,235 @@
+package com.example.eating.service.upload;
+
+import com.example.eating.auth.AuthPrincipal;
+import com.example.eating.controller.InternalUploadEventController;
+import com.example.eating.domain.User;
+import com.example.eating.domain.media.PendingUploadEvent;
+import com.example.eating.dto.request.s3.S3EventNotification;
+import com.example.eating.repository.UserRepository;
+import com.example.eating.repository.media.PendingUploadEventRepository;
+import com.example.eating.service.PresignedUrlService;
+import com.example.eating.service.RecipeJobService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 업로드 완료 알림 → HEAD 로 presign 메타데이터 확인 → 업로드한 사용자로 분석 시작
+ * - 응답 전에 pending_upload_event 에 기록, 기록하지 못하면 503
+ * - 처리하면 행 삭제, 실패하면 행을 남겨 나중에 다시 처리
+ * - 큐에 없는 행(큐 넘침/재시작)은 sweep 이 다시 큐로, 종료 시에는 큐를 비운 뒤 멈춤
+ */
+class UploadEventProcessorTest {
+
+    private static final String BUCKET = "test-bucket";
+    private static final String SECRET = "upload-events-secret";
+    private static final String KEY = "recipes/3f1c-upload";
+    private static final String HASH = "a".repeat(64);
+
+    private final S3Client s3Client = mock(S3Client.class);
+    private final PresignedUrlService presignedUrlService = mock(PresignedUrlService.class);
+    private final RecipeJobService recipeJobService = mock(RecipeJobService.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final PendingUploadEventRepository pendingUploadEventRepository = mock(PendingUploadEventRepository.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private UploadEventProcessor processor;
+    private InternalUploadEventController controller;
+
+    @BeforeEach
+    void setUp() {
+        processor = new UploadEventProcessor(
+                s3Client, presignedUrlService, recipeJobService, userRepository, pendingUploadEventRepository,
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(processor, "bucket", BUCKET);
+        ReflectionTestUtils.setField(processor, "queueCapacity", 10);
+        ReflectionTestUtils.setField(processor, "retryDelaySeconds", 60L);
+        ReflectionTestUtils.setField(processor, "maxAttempts", 5);
+        ReflectionTestUtils.setField(processor, "sweepBatchSize", 100);
+        ReflectionTestUtils.setField(processor, "drainTimeoutMs", 2000L);
+        processor.start();
+
+        controller = new InternalUploadEventController(processor);
+        ReflectionTestUtils.setField(controller, "bucket", BUCKET);
+        ReflectionTestUtils.setField(controller, "secret", SECRET);
+
+        when(presignedUrlService.fileUrl(anyString())).thenAnswer(invocation -> "https://files/" + invocation.getArgument(0));
+
+        User user = User.builder().email("cook@example.com").password("hash").nickname("cook").build();
+        ReflectionTestUtils.setField(user, "id", 7L);
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user));
+    }
+
+    @AfterEach
+    void tearDown() {
+        processor.shutdown();
+    }
+
+    @Test
+    void uploadEventStartsAnalysisForTheUploader() throws Exception {
+        headReturns(new UploadAnalysisTag("job-1", 7L, HASH).toMetadata());
+
+        assertThat(controller.onEvents("Bearer " + SECRET, event(KEY)).getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        verify(recipeJobService, timeout(2000)).startAnalyzeForUpload(
+                new AuthPrincipal(7L, "cook@example.com"), "job-1", "https://files/" + KEY);
+        verify(presignedUrlService).recordContent(HASH, KEY, "video/mp4");
+
+        InOrder ordered = inOrder(pendingUploadEventRepository, recipeJobService);
+        ordered.verify(pendingUploadEventRepository).save(any(PendingUploadEvent.class));
+        ordered.verify(recipeJobService).startAnalyzeForUpload(any(), anyString(), anyString());
+        ordered.verify(pendingUploadEventRepository, timeout(2000)).deleteByKey(KEY);
+    }
+
+    @Test
+    void eventThatCannotBeRecordedIsRejectedWith503() throws Exception {
+        when(pendingUploadEventRepository.save(any(PendingUploadEvent.class)))
+                .thenThrow(new QueryTimeoutException("db down"));
+
+        assertThat(controller.onEvents("Bearer " + SECRET, event(KEY)).getStatusCode())
+                .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+
+        verifyNoInteractions(s3Client);
+    }
+
+    @Test
+    void duplicateEventIsAcceptedWithoutQueueingAgain() throws Exception {
+        when(pendingUploadEventRepository.save(any(PendingUploadEvent.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_pending_upload_event_s3_key"));
+
+        assertThat(controller.onEvents("Bearer " + SECRET, event(KEY)).getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        assertThat(processor.drain(System.currentTimeMillis() + 2000)).isZero();
+        verifyNoInteractions(s3Client);
+    }
+
+    @Test
+    void failedEventStaysPendingForRetry() throws Exception {
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenThrow(new IllegalStateException("s3 down"));
+
+        assertThat(controller.onEvents("Bearer " + SECRET, event(KEY)).getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        verify(pendingUploadEventRepository, timeout(2000)).recordFailure(eq(KEY), any(LocalDateTime.class));
+        verify(pendingUploadEventRepository, never()).deleteByKey(anyString());
+    }
+
+    @Test
+    void sweepRequeuesClaimedRows() {
+        headReturns(new UploadAnalysisTag("job-1", 7L, null).toMetadata());
+        PendingUploadEvent mine = pending("recipes/left-over");
+        PendingUploadEvent taken = pending("recipes/taken-by-other-node");
+        when(pendingUploadEventRepository.findByAvailableAtBeforeAndAttemptsLessThanOrderByIdAsc(
+                any(LocalDateTime.class), eq(5), any(Pageable.class))).thenReturn(List.of(mine, taken));
+        when(pendingUploadEventRepository.claim(eq(1L), any(), any())).thenReturn(1);
+        when(pendingUploadEventRepository.claim(eq(2L), any(), any())).thenReturn(0);
+
+        processor.sweep();
+
+        verify(recipeJobService, timeout(2000)).startAnalyzeForUpload(any(), eq("job-1"), eq("https://files/recipes/left-over"));
+        verify(pendingUploadEventRepository, timeout(2000)).deleteByKey("recipes/left-over");
+        assertThat(processor.drain(System.currentTimeMillis() + 2000)).isZero();
+        verify(recipeJobService, never()).startAnalyzeForUpload(any(), anyString(), eq("https://files/recipes/taken-by-other-node"));
+    }
+
+    @Test
+    void shutdownFinishesQueuedEventsFirst() throws Exception {
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenAnswer(invocation -> {
+            Thread.sleep(200);
+            return HeadObjectResponse.builder().metadata(Map.of()).build();
+        });
+
+        controller.onEvents("Bearer " + SECRET, event(KEY));
+        processor.shutdown();
+
+        verify(pendingUploadEventRepository).deleteByKey(KEY);
+    }
+
+    @Test
+    void metadataCarriesNoEmail() {
+        assertThat(UploadAnalysisTag.of(7L, "job-1").toMetadata())
+                .containsOnlyKeys(UploadAnalysisTag.JOB_ID, UploadAnalysisTag.USER_ID)
+                .doesNotContainValue("cook@example.com");
+    }
+
+    @Test
+    void objectWithoutAnalysisTagIsIgnored() {
+        headReturns(Map.of());
+
+        processor.process(KEY);
+
+        verify(recipeJobService, never()).startAnalyzeForUpload(any(), anyString(), anyString());
+    }
+
+    @Test
+    void unknownUserIsIgnored() {
+        headReturns(UploadAnalysisTag.of(99L, "job-1").toMetadata());
+
+        processor.process(KEY);
+
+        verify(recipeJobService, never()).startAnalyzeForUpload(any(), anyString(), anyString());
+    }
+
+    @Test
+    void senderWithoutSecretIsRejected() throws Exception {
+        assertThat(controller.onEvents(null, event(KEY)).getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(controller.onEvents("Bearer wrong", event(KEY)).getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+
+        ReflectionTestUtils.setField(controller, "secret", "");
+        assertThat(controller.onEvents("Bearer ", event(KEY)).getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+
+        verifyNoInteractions(s3Client);
+    }
+
+    private PendingUploadEvent pending(String key) {
+        PendingUploadEvent event = PendingUploadEvent.builder()
+                .s3Key(key)
+                .availableAt(LocalDateTime.now().minusSeconds(1))
+                .build();
+        ReflectionTestUtils.setField(event, "id", key.contains("taken") ? 2L : 1L);
+        return event;
+    }
+
+    private void headReturns(Map<String, String> metadata) {
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(HeadObjectResponse.builder()
+                .contentType("video/mp4")
+                .metadata(metadata)
+                .build());
+    }
+
+    private S3EventNotification event(String key) throws Exception {
+        return objectMapper.readValue("""
+                {"Records": [{
+                    "eventName": "ObjectCreated:Put",
+                    "s3": {"bucket": {"name": "%s"}, "object": {"key": "%s", "size": 1024}}
+                }]}
+                """.formatted(BUCKET, key), S3EventNotification.class);
+    }
+}
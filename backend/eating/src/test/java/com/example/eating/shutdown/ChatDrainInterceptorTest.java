@@ -0,0 +1,64 @@
+package com.example.eating.shutdown;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * /chat/** 진행 중 호출 수
+ * - 들어온 호출만 완료 시 빼고, 종료 중이면 503 + Retry-After
+ */
+class ChatDrainInterceptorTest {
+
+    private DrainState drainState;
+    private ChatDrainInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        drainState = new DrainState(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(drainState, "reconnectMinMs", 2500L);
+        ReflectionTestUtils.setField(drainState, "reconnectMaxMs", 2500L);
+        interceptor = new ChatDrainInterceptor(drainState);
+    }
+
+    @Test
+    void countsChatUntilCompletion() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/chat/next");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(interceptor.preHandle(request, response, new Object())).isTrue();
+        assertThat(drainState.inFlightChats()).isEqualTo(1);
+
+        interceptor.afterCompletion(request, response, new Object(), null);
+        assertThat(drainState.inFlightChats()).isZero();
+
+        // 같은 요청에 대해 두 번 불려도 한 번만 뺌
+        interceptor.afterCompletion(request, response, new Object(), null);
+        assertThat(drainState.inFlightChats()).isZero();
+    }
+
+    @Test
+    void rejectsNewChatWhileDraining() {
+        drainState.startDraining();
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/chat/next");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThatThrownBy(() -> interceptor.preHandle(request, response, new Object()))
+                .isInstanceOfSatisfying(ServiceDrainingException.class, e -> {
+                    assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+                    assertThat(e.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+                });
+
+        // 거절된 호출은 세지 않았으므로 완료 시에도 빼지 않음
+        interceptor.afterCompletion(request, response, new Object(), null);
+        assertThat(drainState.inFlightChats()).isZero();
+    }
+}
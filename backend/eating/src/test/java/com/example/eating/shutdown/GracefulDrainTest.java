@@ -0,0 +1,96 @@
+package com.example.eating.shutdown;
+
+import com.example.eating.controller.SseController;
+import com.example.eating.service.chat.ChatSessionTouchBuffer;
+import com.example.eating.service.outbox.OutboxRelay;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 종료 순서
+ * - 새 채팅을 막고 SSE 를 먼저 닫은 뒤, 진행 중인 채팅이 끝날 때까지 기다렸다가 버퍼/아웃박스 반영
+ * - 채팅이 deadline 안에 끝나지 않아도 반영은 하고 종료
+ */
+class GracefulDrainTest {
+
+    private final SseController sseController = mock(SseController.class);
+    private final ChatSessionTouchBuffer touchBuffer = mock(ChatSessionTouchBuffer.class);
+    private final OutboxRelay outboxRelay = mock(OutboxRelay.class);
+
+    private DrainState drainState;
+    private GracefulDrain gracefulDrain;
+
+    @BeforeEach
+    void setUp() {
+        drainState = new DrainState(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(drainState, "reconnectMinMs", 1000L);
+        ReflectionTestUtils.setField(drainState, "reconnectMaxMs", 2000L);
+
+        gracefulDrain = new GracefulDrain(drainState, sseController, touchBuffer, outboxRelay);
+        ReflectionTestUtils.setField(gracefulDrain, "chatDeadlineMs", 5000L);
+        gracefulDrain.start();
+    }
+
+    @Test
+    void stopWaitsForInFlightChatThenFlushes() throws Exception {
+        assertThat(drainState.tryEnterChat()).isTrue();
+
+        CompletableFuture<Void> stopping = CompletableFuture.runAsync(gracefulDrain::stop);
+
+        // 새 채팅은 곧바로 거절되지만 진행 중인 채팅이 끝날 때까지 종료가 끝나지 않음
+        waitUntilDraining();
+        assertThat(drainState.tryEnterChat()).isFalse();
+        Thread.sleep(200);
+        assertThat(stopping).isNotDone();
+
+        drainState.exitChat();
+        stopping.get(2, TimeUnit.SECONDS);
+
+        assertThat(gracefulDrain.isRunning()).isFalse();
+        InOrder ordered = inOrder(sseController, touchBuffer, outboxRelay);
+        ordered.verify(sseController).drain(any());
+        ordered.verify(touchBuffer).flush();
+        ordered.verify(outboxRelay).nudge();
+    }
+
+    @Test
+    void stopGivesUpOnChatsAfterDeadline() throws Exception {
+        ReflectionTestUtils.setField(gracefulDrain, "chatDeadlineMs", 100L);
+        assertThat(drainState.tryEnterChat()).isTrue();
+
+        CompletableFuture.runAsync(gracefulDrain::stop).get(2, TimeUnit.SECONDS);
+
+        assertThat(drainState.inFlightChats()).isEqualTo(1);
+        InOrder ordered = inOrder(touchBuffer, outboxRelay);
+        ordered.verify(touchBuffer).flush();
+        ordered.verify(outboxRelay).nudge();
+    }
+
+    @Test
+    void retryHintStaysInsideConfiguredRange() {
+        for (int i = 0; i < 100; i++) {
+            assertThat(drainState.jitteredRetry().toMillis()).isBetween(1000L, 2000L);
+        }
+    }
+
+    private void waitUntilDraining() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (!drainState.isDraining()) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("drain 이 시작되지 않았습니다.");
+            }
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.example.eating.sql;
+
+import com.example.eating.domain.Recipe;
+import com.example.eating.domain.User;
+import com.example.eating.domain.chat.ChatSession;
+import com.example.eating.domain.chat.ChatSessionStatus;
+import com.example.eating.domain.job.RecipeJobStatus;
+import com.example.eating.repository.RecipeRepository;
+import com.example.eating.repository.UserRepository;
+import com.example.eating.repository.chat.ChatSessionRepository;
+import com.example.eating.repository.job.RecipeJobRepository;
+import com.example.eating.repository.media.MediaObjectRepository;
+import com.example.eating.repository.outbox.OutboxEventRepository;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * repository 쿼리 실행 계획 (Flyway 마이그레이션으로 만든 스키마 기준)
+ * - 쿼리를 실행해 Hibernate 가 만든 SQL 을 SqlRequestStats 로 잡고, 같은 SQL 에 EXPLAIN 을 붙여 확인
+ * - 모든 테이블 접근이 인덱스를 타고 (tableScan 없음), 기대한 인덱스 중 하나를 쓰는지
+ * - H2(MODE=MySQL) 플래너 기준이라 MySQL 의 선택과 다를 수 있음 → 인덱스가 "쓸 수 있는" 모양인지를 고정하는 용도
+ * - RecipeRepository.findById(@EntityGraph) 는 bag 여러 개를 함께 fetch 할 수 없어 실행되지 않으므로 제외
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-plan;MODE=MySQL;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=none"
+})
+@ActiveProfiles("h2")
+class RepositoryQueryPlanTest {
+
+    /**
+     * H2 계획의 접근 경로 주석: PUBLIC.IDX_xxx: 조건 / PUBLIC.TABLE.tableScan
+     */
+    private static final Pattern ACCESS_PATH = Pattern.compile("/\\* PUBLIC\\.([\\w.]+)");
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private RecipeJobRepository recipeJobRepository;
+
+    @Autowired
+    private ChatSessionRepository chatSessionRepository;
+
+    @Autowired
+    private MediaObjectRepository mediaObjectRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void userQueries() {
+        assertUsesIndex(() -> userRepository.findByEmail("plan@example.com"), "UK_USER_EMAIL");
+    }
+
+    @Test
+    void recipeQueries() {
+        // 같은 DB 에 다른 테스트가 남긴 레시피가 있으면 recipe_video(1:1) 조회가 뒤따름
+        assertUsesIndex(() -> recipeRepository.findByUser_IdOrderByCreatedAtDesc(1L),
+                "IDX_RECIPE_USER_CREATED", "FK_RECIPE_USER", "UK_RECIPE_VIDEO_RECIPE");
+    }
+
+    @Test
+    void recipeDetailLazyLoads() {
+        User user = saveUser();
+        Long recipeId = recipeRepository.save(new Recipe(user)).getId();
+
+        assertUsesIndex(() -> {
+                    Recipe recipe = recipeRepository.getReferenceById(recipeId);
+                    Hibernate.initialize(recipe.getSteps());
+                    Hibernate.initialize(recipe.getIngredients());
+                    Hibernate.initialize(recipe.getTips());
+                },
+                "PRIMARY_KEY", "UK_RECIPE_VIDEO_RECIPE",
+                "IDX_RECIPE_STEP_RECIPE_STEP", "FK_RECIPE_STEP_RECIPE",
+                "IDX_INGREDIENT_RECIPE", "FK_INGREDIENT_RECIPE",
+                "IDX_RECIPE_TIP_RECIPE", "FK_RECIPE_TIP_RECIPE");
+    }
+
+    @Test
+    void recipeJobQueries() {
+        List<RecipeJobStatus> active = List.of(RecipeJobStatus.QUEUED, RecipeJobStatus.PENDING, RecipeJobStatus.PROCESSING);
+
+        assertUsesIndex(() -> recipeJobRepository.findByJobId("job"), "UK_RECIPE_JOB_JOB_ID");
+        assertUsesIndex(() -> recipeJobRepository.findByUserIdAndStatusInOrderByCreatedAtAsc(1L, active),
+                "IDX_RECIPE_JOB_USER_STATUS");
+        assertUsesIndex(() -> recipeJobRepository.countByUserIdAndStatusIn(1L, active), "IDX_RECIPE_JOB_USER_STATUS");
+        assertUsesIndex(() -> recipeJobRepository.findByNodeIdAndStatusIn("node-1", active), "IDX_RECIPE_JOB_NODE_STATUS");
+        assertUsesIndex(() -> recipeJobRepository.findByStatusAndCreatedAtBefore(
+                RecipeJobStatus.QUEUED, LocalDateTime.now().minusHours(1)), "IDX_RECIPE_JOB_STATUS_CREATED");
+    }
+
+    @Test
+    void chatSessionQueries() {
+        assertUsesIndex(() -> chatSessionRepository.findBySessionId("session"), "UK_CHAT_SESSION_SESSION_ID");
+        // user_id / status 둘 다 선두 컬럼인 인덱스가 있어 플래너가 어느 쪽을 골라도 됨
+        assertUsesIndex(() -> chatSessionRepository.findByUserIdAndStatus(1L, ChatSessionStatus.ACTIVE),
+                "IDX_CHAT_SESSION_USER_LAST_USED", "IDX_CHAT_SESSION_STATUS_LAST_USED");
+        assertUsesIndex(() -> chatSessionRepository.findByUserIdOrderByLastUsedAtDesc(1L),
+                "IDX_CHAT_SESSION_USER_LAST_USED");
+        assertUsesIndex(() -> chatSessionRepository.findByStatusAndLastUsedAtBefore(
+                        ChatSessionStatus.ACTIVE, LocalDateTime.now().minusHours(1)),
+                "IDX_CHAT_SESSION_STATUS_LAST_USED");
+    }
+
+    @Test
+    void chatSessionCompletedStepsLazyLoad() {
+        String sessionId = chatSessionRepository.save(ChatSession.builder()
+                .sessionId(UUID.randomUUID().toString())
+                .userId(saveUser().getId())
+                .recipeTitle("김치찌개")
+                .totalSteps(5)
+                .build()).getSessionId();
+
+        assertUsesIndex(() -> chatSessionRepository.findBySessionId(sessionId)
+                        .ifPresent(session -> Hibernate.initialize(session.getCompletedSteps())),
+                "UK_CHAT_SESSION_SESSION_ID", "FK_CHAT_SESSION_COMPLETED_STEP_SESSION");
+    }
+
+    @Test
+    void mediaObjectQueries() {
+        assertUsesIndex(() -> mediaObjectRepository.findByContentHash("0".repeat(64)), "UK_MEDIA_OBJECT_CONTENT_HASH");
+    }
+
+    @Test
+    void outboxQueries() {
+        assertUsesIndex(() -> outboxEventRepository.findByIdGreaterThanOrderByIdAsc(0L, PageRequest.of(0, 100)),
+                "PRIMARY_KEY");
+        assertUsesIndex(() -> outboxEventRepository.findByIdInOrderByIdAsc(List.of(1L, 2L)), "PRIMARY_KEY");
+        assertUsesIndex(() -> outboxEventRepository.findByChannelAndIdGreaterThanOrderByIdAsc(
+                "job:plan", 0L, PageRequest.of(0, 100)), "IDX_OUTBOX_EVENT_CHANNEL");
+        assertUsesIndex(() -> outboxEventRepository.findMaxId());
+        assertUsesIndex(() -> outboxEventRepository.deleteCreatedBefore(LocalDateTime.now().minusDays(1)),
+                "IDX_OUTBOX_EVENT_CREATED");
+    }
+
+    /**
+     * query 가 실행한 모든 SQL 이 풀스캔 없이, 각각 expectedIndexes 중 하나(접두어 일치)를 쓰는지
+     * - expectedIndexes 가 비어 있으면 풀스캔 여부만 확인
+     */
+    private void assertUsesIndex(Runnable query, String... expectedIndexes) {
+        List<String> statements = capture(query);
+        assertThat(statements).isNotEmpty();
+
+        for (String sql : statements) {
+            String plan = explain(sql);
+            List<String> accessPaths = accessPaths(plan);
+
+            // MIN/MAX 를 인덱스 끝에서 바로 읽는 경우 (H2 는 tableScan + direct lookup 으로 표시)
+            if (!plan.contains("direct lookup")) {
+                assertThat(accessPaths).as(plan).noneMatch(path -> path.endsWith(".tableScan"));
+            }
+            if (expectedIndexes.length > 0) {
+                assertThat(accessPaths).as(plan)
+                        .anyMatch(path -> Arrays.stream(expectedIndexes).anyMatch(path::startsWith));
+            }
+        }
+    }
+
+    private List<String> capture(Runnable query) {
+        SqlRequestStats stats = SqlRequestStats.begin();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                query.run();
+                status.setRollbackOnly();
+            });
+        } finally {
+            SqlRequestStats.end();
+        }
+        return List.copyOf(stats.repeated(1).keySet());
+    }
+
+    /**
+     * 바인딩 값은 계획에 영향이 없으므로 모두 null
+     */
+    private String explain(String sql) {
+        return jdbcTemplate.execute("EXPLAIN " + sql, (PreparedStatement ps) -> {
+            int parameterCount = ps.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameterCount; i++) {
+                ps.setNull(i, Types.NULL);
+            }
+
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    plan.append(rs.getString(1)).append('\n');
+                }
+            }
+            return plan.toString();
+        });
+    }
+
+    private static List<String> accessPaths(String plan) {
+        List<String> paths = new ArrayList<>();
+        Matcher matcher = ACCESS_PATH.matcher(plan);
+        while (matcher.find()) {
+            paths.add(matcher.group(1).toUpperCase().replace(".TABLESCAN", ".tableScan"));
+        }
+        return paths;
+    }
+
+    private User saveUser() {
+        return userRepository.save(User.builder()
+                .email("plan-" + UUID.randomUUID() + "@example.com")
+                .password("password")
+                .nickname("plan")
+                .build());
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.eating.sql;
+
+import com.example.eating.auth.AuthTokenSigner;
+import com.example.eating.domain.User;
+import com.example.eating.domain.chat.ChatSession;
+import com.example.eating.repository.UserRepository;
+import com.example.eating.repository.chat.ChatSessionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 엔드포인트별 쿼리 예산 (strict 모드에서 초과 시 요청이 예외로 실패)
+ * - properties 는 .properties 형식으로 파싱되므로 키 안의 공백은 이스케이프
+ */
+@SpringBootTest(properties = {
+        "sql-inspect.strict=true",
+        "sql-inspect.budgets[GET\\ /chat/session/{sessionId}]=1",
+        "sql-inspect.budgets[GET\\ /recipes/jobs]=1"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+class SqlInspectionFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ChatSessionRepository chatSessionRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private AuthTokenSigner authTokenSigner;
+
+    @Test
+    void withinBudgetIsRecorded() throws Exception {
+        User user = saveUser("budget-ok@example.com");
+
+        mockMvc.perform(get("/recipes/jobs").header("Authorization", bearer(user)))
+                .andExpect(status().isOk());
+
+        assertThat(meterRegistry.get("http.server.sql_statements")
+                .tag("endpoint", "GET /recipes/jobs")
+                .summary()
+                .max()).isEqualTo(1.0);
+    }
+
+    @Test
+    void overBudgetFailsTheRequest() {
+        User user = saveUser("budget-over@example.com");
+        ChatSession session = chatSessionRepository.save(ChatSession.builder()
+                .sessionId(UUID.randomUUID().toString())
+                .userId(user.getId())
+                .recipeTitle("김치찌개")
+                .totalSteps(5)
+                .build());
+
+        // 세션 조회 + completedSteps 지연 로딩 = 2
+        assertThatThrownBy(() -> mockMvc.perform(get("/chat/session/{sessionId}", session.getSessionId())
+                .header("Authorization", bearer(user))))
+                .hasMessageContaining("GET /chat/session/{sessionId}")
+                .hasMessageContaining("actual=2");
+    }
+
+    private String bearer(User user) {
+        return "Bearer " + authTokenSigner.issue(user.getId(), user.getEmail());
+    }
+
+    private User saveUser(String email) {
+        return userRepository.save(User.builder()
+                .email(email)
+                .password("password")
+                .nickname("budget")
+                .build());
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.eating.tracing;
+
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.handler.DefaultTracingObservationHandler;
+import io.micrometer.tracing.test.simple.SimpleSpan;
+import io.micrometer.tracing.test.simple.SimpleTracer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 작업 추적
+ * - traceId/spanId 는 작업 Observation 의 span 에서 가져옴
+ * - observationContext 로 넘긴 FastAPI 호출은 작업 span 의 자식 span
+ * - 같은 trace 로 이어진 콜백 요청 안에서는 stage 를 그 요청 아래에, 다른 trace 면 작업 아래에 염
+ * - 같은 종료 콜백이 여러 번 와도 stage / 작업 / 첫 progress 는 한 번만 기록
+ * - 이 노드에서 시작하지 않은 jobId 콜백은 무시
+ */
+class JobTraceRecorderTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SimpleTracer tracer;
+    private ObservationRegistry observationRegistry;
+    private JobTraceRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tracer = new SimpleTracer();
+        observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig()
+                .observationHandler(new DefaultMeterObservationHandler(meterRegistry))
+                .observationHandler(new DefaultTracingObservationHandler(tracer));
+        recorder = new JobTraceRecorder(meterRegistry, observationRegistry, tracer);
+    }
+
+    @Test
+    void idsComeFromTheJobSpan() {
+        JobTrace trace = recorder.start("job-1");
+
+        SimpleSpan jobSpan = tracer.getSpans().getLast();
+        assertThat(trace.getTraceId()).isNotBlank().isEqualTo(jobSpan.context().traceId());
+        assertThat(trace.getSpanId()).isNotBlank().isEqualTo(jobSpan.context().spanId());
+    }
+
+    @Test
+    void fastApiCallIsAChildOfTheJobSpan() {
+        JobTrace trace = recorder.start("job-1");
+        WebClient client = WebClient.builder()
+                .observationRegistry(observationRegistry)
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.OK).build()))
+                .build();
+
+        client.get().uri("http://fastapi/api/status/{jobId}", "job-1")
+                .retrieve()
+                .toBodilessEntity()
+                .contextWrite(recorder.observationContext("job-1"))
+                .block();
+
+        SimpleSpan clientSpan = tracer.getSpans().getLast();
+        assertThat(clientSpan.getSpanId()).isNotEqualTo(trace.getSpanId());
+        assertThat(clientSpan.getTraceId()).isEqualTo(trace.getTraceId());
+        assertThat(clientSpan.getParentId()).isEqualTo(trace.getSpanId());
+    }
+
+    @Test
+    void stageOpensUnderTheCallbackRequestOfTheSameTrace() {
+        JobTrace trace = recorder.start("job-1");
+
+        // FastAPI 가 돌려준 traceparent 로 이어진 콜백 요청
+        Observation callback = Observation.createNotStarted("http.server.requests", observationRegistry)
+                .parentObservation(trace.getObservation())
+                .start();
+        callback.scoped(() -> recorder.onProgress("job-1", "download", "processing", Instant.now()));
+        callback.stop();
+
+        // traceparent 없이 온 콜백 (새 trace)
+        Observation detached = Observation.start("http.server.requests", observationRegistry);
+        detached.scoped(() -> recorder.onProgress("job-1", "parsing", "processing", Instant.now()));
+        detached.stop();
+
+        var stages = trace.snapshotStages();
+        assertThat(stages.get(0).getObservation().getContextView().getParentObservation()).isSameAs(callback);
+        assertThat(stages.get(1).getObservation().getContextView().getParentObservation())
+                .isSameAs(trace.getObservation());
+    }
+
+    @Test
+    void repeatedTerminalCallbackIsRecordedOnce() {
+        recorder.start("job-1");
+        Instant now = Instant.now();
+
+        recorder.onProgress("job-1", "download", "processing", now);
+        recorder.onProgress("job-1", "parsing", "processing", now.plusMillis(10));
+        recorder.onProgress("job-1", "parsing", "completed", now.plusMillis(20));
+        recorder.onProgress("job-1", "parsing", "completed", now.plusMillis(30));
+
+        assertThat(meterRegistry.get("recipe.job.stage").tag("step", "download").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("recipe.job.stage").tag("step", "parsing").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("recipe.job").tag("status", "completed").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("recipe.job.first_progress").timer().count()).isEqualTo(1);
+        assertThat(recorder.find("job-1").orElseThrow().snapshotStages()).hasSize(2);
+    }
+
+    @Test
+    void unknownJobIsIgnored() {
+        recorder.onProgress("unknown", "download", "completed", Instant.now());
+
+        assertThat(recorder.find("unknown")).isEmpty();
+        assertThat(recorder.observationContext("unknown").isEmpty()).isTrue();
+        assertThat(meterRegistry.find("recipe.job.stage").timer()).isNull();
+    }
+}
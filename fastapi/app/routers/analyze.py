@@ -17,7 +17,7 @@ from datetime import datetime, timedelta
 from pathlib import Path
 from typing import Any, Dict, Optional
 
-from fastapi import APIRouter, BackgroundTasks, HTTPException
+from fastapi import APIRouter, BackgroundTasks, Header, HTTPException
 
 from app.config import DATA_DIR, JOB_EXPIRE_HOURS, MAX_JOBS
 from app.exceptions import (
@@ -66,11 +66,13 @@ class JobManager:
         self,
         job_id: str,
         url: str,
-        video_id: str
+        video_id: str,
+        traceparent: Optional[str] = None
     ) -> Dict[str, Any]:
         """새 작업을 생성합니다."""
         job = {
             "job_id": job_id,
+            "traceparent": traceparent,
             "status": "pending",
             "progress": 0,
             "message": "대기 중...",
@@ -464,7 +466,8 @@ async def process_video(job_id: str, url: str) -> None:
 @router.post("/analyze", response_model=AnalyzeResponse)
 async def analyze_video(
     request: AnalyzeRequest,
-    background_tasks: BackgroundTasks
+    background_tasks: BackgroundTasks,
+    traceparent: Optional[str] = Header(default=None)
 ) -> AnalyzeResponse:
     """
     YouTube URL을 받아 분석을 시작합니다.
@@ -491,9 +494,9 @@ async def analyze_video(
             detail="유효하지 않은 YouTube URL입니다."
         )
 
-    job_id = str(uuid.uuid4())
+    job_id = request.job_id or str(uuid.uuid4())
 
-    job_manager.create_job(job_id, url, video_id)
+    job_manager.create_job(job_id, url, video_id, traceparent)
     logger.info(f"새 작업 생성: {job_id[:8]}, video_id={video_id}")
 
     background_tasks.add_task(process_video, job_id, url)
@@ -626,11 +629,18 @@ async def push_progress_to_spring(
         "message": message
     }
 
+    # Spring에서 받은 trace context를 그대로 돌려줌
+    job = job_manager.get_job(job_id)
+    headers = {}
+    if job and job.get("traceparent"):
+        headers["traceparent"] = job["traceparent"]
+
     try:
         async with httpx.AsyncClient(timeout=WEBHOOK_TIMEOUT) as client:
             await client.post(
                 f"{SPRING_BASE}{PROGRESS_WEBHOOK_PATH.format(jobId=job_id)}",
                 json=payload,
+                headers=headers,
             )
     except Exception as e:
         # 콜백 실패가 job 처리 실패로 이어지면 안 됨
@@ -15,6 +15,7 @@ class AnalyzeRequest(BaseModel):
     """영상 분석 요청."""
 
     url: str
+    job_id: Optional[str] = None  # Spring 대기열에서 발급한 ID (없으면 새로 생성)
 
 
 # =============================================================================
@@ -2,7 +2,7 @@ import React, { useState, useEffect, useRef } from 'react';
 import { useNavigate } from 'react-router-dom';
 import { analyzeVideo, getResult, AnalysisResult, getFrameUrl } from './api';
 import YouTube, { YouTubeProps } from 'react-youtube';
-import { subscribe } from './api';
+import { subscribe, TOKEN_STORAGE_KEY } from './api';
 
 const ANALYSIS_CACHE_KEY = "analysis_cache_v1";
 
@@ -228,7 +228,7 @@ function App() {
     }
   };
 
-  const isAuthed = () => !!localStorage.getItem("access_token");
+  const isAuthed = () => !!localStorage.getItem(TOKEN_STORAGE_KEY);
 
   const toggleSave = () => {
     if (!isAuthed()) {
@@ -281,7 +281,7 @@ function App() {
     playerRef.current = event.target;
   };
 
-  const authed = !!localStorage.getItem("access_token");
+  const authed = !!localStorage.getItem(TOKEN_STORAGE_KEY);
 
   return (
     <div className="min-h-screen">
@@ -324,7 +324,7 @@ function App() {
             </button>
           ) : (
             <button
-              onClick={() => { localStorage.removeItem("access_token"); showToast("로그아웃했어."); }}
+              onClick={() => { localStorage.removeItem(TOKEN_STORAGE_KEY); showToast("로그아웃했어."); }}
               className="
                 pill px-3 py-[9px] sm:py-[10px]
                 rounded-full border border-[var(--line)]
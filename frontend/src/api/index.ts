@@ -14,11 +14,14 @@ export const api = axios.create({
 /* Types (공통 모델은 여기서만 유지) */
 /* ------------------------------------------------------------------ */
 
+/** 로그인 토큰 저장 키 (App/LoginPage/ChatRoom 공통) */
+export const TOKEN_STORAGE_KEY = "access_token";
+
 api.interceptors.request.use((config) => {
-    const email = localStorage.getItem("login_email");
+    const token = localStorage.getItem(TOKEN_STORAGE_KEY);
 
-    if (email && config.headers) {
-        config.headers.set("email", email);
+    if (token && config.headers) {
+        config.headers.set("Authorization", `Bearer ${token}`);
     }
 
     return config;
@@ -191,6 +194,11 @@ export type ProgressPayload = {
     videoId?: string;
 }
 
+// 서버 재배포 중 재연결이 아직 drain 중인 노드에 걸리면 503 → 브라우저는 non-200 뒤로 재시도하지 않으므로 직접 다시 연결
+const RECONNECT_MAX_ATTEMPTS = 5;
+const RECONNECT_BASE_DELAY_MS = 1000;
+const RECONNECT_MAX_DELAY_MS = 15000;
+
 export function subscribe(
     jobId: string,
     handlers: {
@@ -201,31 +209,76 @@ export function subscribe(
         onError?: (e: any) => void;
     }
 ) {
-    const es = new EventSource(import.meta.env.VITE_API_BASE_URL + `/api/sse/jobs/${jobId}`);
+    // EventSource 는 Authorization 헤더를 붙일 수 없어 토큰을 쿼리로 보냄 (서버는 /sse/ 경로에서만 받음)
+    const token = localStorage.getItem(TOKEN_STORAGE_KEY);
+    const url = import.meta.env.VITE_API_BASE_URL + `/api/sse/jobs/${jobId}`
+        + (token ? `?access_token=${encodeURIComponent(token)}` : "");
     const safeJson = (e: MessageEvent) => {
         try {
             return JSON.parse(e.data);
         } catch { return e.data; }
     }
 
-    es.addEventListener("connected", (e) => handlers.onConnected?.(safeJson(e)));
-
-    es.addEventListener("progress", (e) => handlers.onProgress?.(safeJson(e)));
+    let es: EventSource;
+    let stopped = false;
+    // 서버 재배포: 서버가 준 retry 만큼 기다렸다가 브라우저가 Last-Event-ID 와 함께 자동 재연결
+    let reconnecting = false;
+    let attempt = 0;
+    let reopenTimer: ReturnType<typeof setTimeout> | undefined;
 
-    es.addEventListener("completed", (e) => {
-        handlers.onCompleted?.(safeJson(e as MessageEvent));
+    const stop = () => {
+        stopped = true;
+        clearTimeout(reopenTimer);
         es.close();
-    });
+    };
 
-    es.addEventListener("failed", (e) => {
-        handlers.onFailed?.(safeJson(e as MessageEvent));
-        es.close();
-    });
+    const fail = (e: any) => {
+        stop();
+        handlers.onError?.(e);
+    };
 
-    es.addEventListener("error", (e) => handlers.onError?.(e));
-    es.onerror = (e) => {
-        es.close();
+    const open = () => {
+        es = new EventSource(url);
+
+        es.addEventListener("reconnect", () => { reconnecting = true; });
+
+        es.addEventListener("connected", (e) => {
+            reconnecting = false;
+            attempt = 0;
+            handlers.onConnected?.(safeJson(e as MessageEvent));
+        });
+
+        es.addEventListener("progress", (e) => handlers.onProgress?.(safeJson(e as MessageEvent)));
+
+        es.addEventListener("completed", (e) => {
+            handlers.onCompleted?.(safeJson(e as MessageEvent));
+            stop();
+        });
+
+        es.addEventListener("failed", (e) => {
+            handlers.onFailed?.(safeJson(e as MessageEvent));
+            stop();
+        });
+
+        es.onerror = (e) => {
+            if (stopped) return;
+            if (!reconnecting) {
+                fail(e);
+                return;
+            }
+            // 브라우저가 자동 재연결 중 (CONNECTING)
+            if (es.readyState !== EventSource.CLOSED) return;
+            if (attempt >= RECONNECT_MAX_ATTEMPTS) {
+                fail(e);
+                return;
+            }
+            // 새 EventSource 는 Last-Event-ID 가 없으므로 서버가 채널 처음부터 재전송
+            const delay = Math.min(RECONNECT_MAX_DELAY_MS, RECONNECT_BASE_DELAY_MS * 2 ** attempt);
+            attempt++;
+            reopenTimer = setTimeout(open, delay / 2 + Math.random() * delay / 2);
+        };
     };
 
-    return () => es.close();
+    open();
+    return stop;
 }
\ No newline at end of file
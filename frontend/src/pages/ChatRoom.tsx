@@ -1,5 +1,6 @@
 import React, { useState, useRef, useEffect, useLayoutEffect } from 'react';
 import { useLocation, useNavigate } from 'react-router-dom';
+import { TOKEN_STORAGE_KEY } from '../api';
 
 interface Message {
     id: string;
@@ -29,12 +30,14 @@ interface Recipe {
 
 const API_BASE = import.meta.env.VITE_API_BASE_URL + "/api/chat";
 const PRESIGNED_API_BASE = import.meta.env.VITE_API_BASE_URL + "/api/presigned-url";
+// 이보다 큰 파일은 내용 해시(중복 업로드 방지) 없이 올림
+const MAX_HASH_BYTES = 10 * 1024 * 1024;
 
 const getAuthHeaders = () => {
-    const email = localStorage.getItem("login_email");
+    const token = localStorage.getItem(TOKEN_STORAGE_KEY);
     return {
         "Content-Type": "application/json",
-        ...(email ? { email } : {})
+        ...(token ? { Authorization: `Bearer ${token}` } : {})
     };
 };
 
@@ -192,20 +195,39 @@ export default function ChatRoom() {
     }, [showStepPanel]);
 
     // -------- image upload --------
+    // 같은 이미지는 한 번만 올라가도록 내용 해시를 함께 보냄
+    // - crypto.subtle 은 보안 컨텍스트(HTTPS/localhost)에서만 있음 → 없으면 해시 없이 업로드
+    // - 해시하려면 파일 전체를 메모리에 읽어야 하므로 큰 파일은 건너뜀
+    const sha256Hex = async (file: File): Promise<string | undefined> => {
+        if (!globalThis.crypto?.subtle || file.size > MAX_HASH_BYTES) return undefined;
+        try {
+            const digest = await crypto.subtle.digest("SHA-256", await file.arrayBuffer());
+            return Array.from(new Uint8Array(digest))
+                .map((b) => b.toString(16).padStart(2, "0"))
+                .join("");
+        } catch {
+            return undefined;
+        }
+    };
+
     const uploadImageToS3 = async (file: File): Promise<string> => {
+        const contentSha256 = await sha256Hex(file);
+
         const presignedRes = await fetch(PRESIGNED_API_BASE, {
             method: "POST",
-            headers: { "Content-Type": "application/json" },
-            body: JSON.stringify({ fileName: file.name, contentType: file.type })
+            headers: getAuthHeaders(),
+            body: JSON.stringify({ fileName: file.name, contentType: file.type, contentSha256 })
         });
 
         if (!presignedRes.ok) throw new Error("Presigned URL 발급 실패");
 
-        const { uploadUrl, fileUrl } = await presignedRes.json();
+        const { uploadUrl, fileUrl, uploadHeaders, duplicate } = await presignedRes.json();
+
+        if (duplicate) return fileUrl;
 
         const uploadRes = await fetch(uploadUrl, {
             method: "PUT",
-            headers: { "Content-Type": file.type },
+            headers: uploadHeaders ?? { "Content-Type": file.type },
             body: file
         });
 
@@ -1,7 +1,7 @@
 import React, { useState } from "react";
 import { useLocation, useNavigate } from "react-router-dom";
 import AuthShell from "./AuthShell";
-import { loginApi } from "../api";
+import { loginApi, TOKEN_STORAGE_KEY } from "../api";
 
 export default function LoginPage() {
     const navigate = useNavigate();
@@ -25,9 +25,10 @@ export default function LoginPage() {
 
         setLoading(true);
         try {
-            await loginApi({ email, password });
+            const res = await loginApi({ email, password });
 
             localStorage.setItem("login_email", email);
+            localStorage.setItem(TOKEN_STORAGE_KEY, res.accessToken);
 
 
             showToast("로그인 완료! 저장 기능을 사용할 수 있어요 ✅");